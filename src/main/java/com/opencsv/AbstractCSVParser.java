@@ -175,7 +175,54 @@ public abstract class AbstractCSVParser implements ICSVParser {
      * @param appendable       Appendable object that the converted values are added to.
      */
     protected void convertToCsvValue(String value, boolean applyQuotesToAll, Appendable appendable) throws IOException {
-        appendable.append(convertToCsvValue(value, applyQuotesToAll));
+        FieldEscaper escaper = fieldEscaper();
+        if (escaper == null) {
+            appendable.append(convertToCsvValue(value, applyQuotesToAll));
+            return;
+        }
+
+        // Everything convertToCsvValue(String, boolean) and
+        // isSurroundWithQuotes() would determine, in one pass
+        String testValue = (value == null && !nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) ? "" : value;
+        int classes = testValue == null ? 0 : escaper.scan(testValue);
+        boolean surroundWithQuotes;
+        if (applyQuotesToAll) {
+            surroundWithQuotes = true;
+        } else if (value == null) {
+            surroundWithQuotes = nullFieldIndicator.equals(CSVReaderNullFieldIndicator.EMPTY_QUOTES);
+        } else {
+            surroundWithQuotes = (value.isEmpty() && nullFieldIndicator.equals(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS))
+                    || (classes & FieldEscaper.QUOTE) != 0;
+        }
+
+        if (surroundWithQuotes) {
+            appendable.append(quotechar);
+        }
+        if ((classes & FieldEscaper.ESCAPE) != 0) {
+            escaper.appendEscaped(testValue, appendable);
+        } else {
+            appendable.append(testValue);
+        }
+        if (surroundWithQuotes) {
+            appendable.append(quotechar);
+        }
+    }
+
+    /**
+     * The escaper that can take the place of
+     * {@link #convertToCsvValue(String, boolean)} and
+     * {@link #isSurroundWithQuotes(String, boolean)}.
+     * A parser that has one must only quote a field if it contains a
+     * character that {@link FieldEscaper#scan(String)} reports as
+     * {@link FieldEscaper#QUOTE}, or for the reasons
+     * {@link #isSurroundWithQuotes(String, boolean)} gives for {@code null}
+     * and empty fields.
+     *
+     * @return The escaper, or {@code null} if
+     * {@link #convertToCsvValue(String, boolean)} must be used
+     */
+    FieldEscaper fieldEscaper() {
+        return null;
     }
 
     /**
@@ -5,10 +5,17 @@ import java.io.PrintWriter;
 import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * The AbstractCSVWriter was created to prevent duplication of code between the CSVWriter and the
  * CSVParserWriter classes.
+ * <p>Lines are assembled in a buffer that is reused from one line to the
+ * next. A thread that finds the buffer in use by another thread assembles
+ * its line in a buffer of its own, so lines may still be written by several
+ * threads at once.</p>
  *
  * @since 4.2
  */
@@ -19,6 +26,21 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
     private ResultSetHelper resultService;
     protected volatile IOException exception;
 
+    /**
+     * The buffer every line is assembled in, kept so it need not be created
+     * anew for every line.
+     */
+    private final LineBuffer lineBuffer = new LineBuffer();
+
+    /** Held by the thread using {@link #lineBuffer}. */
+    private final ReentrantLock lineBufferLock = new ReentrantLock();
+
+    /** The number of threads formatting lines in {@code writeAll()}. */
+    private int concurrency = 1;
+
+    /** The executor lines are formatted on, if not on threads of their own. */
+    private Executor formattingExecutor;
+
     /**
      * Constructor to initialize the common values.
      *
@@ -48,16 +70,162 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
         return lineEnd;
     }
 
+    /**
+     * Takes the buffer of this class for the calling thread, unless another
+     * thread is using it.
+     * Every call must be followed by
+     * {@link #releaseLineBuffer(LineBuffer)}.
+     *
+     * @return The buffer of this class, or a new buffer if another thread
+     * holds it
+     */
+    private LineBuffer acquireLineBuffer() {
+        return lineBufferLock.tryLock() ? lineBuffer : new LineBuffer();
+    }
+
+    /**
+     * Gives back a buffer taken with {@link #acquireLineBuffer()}.
+     *
+     * @param buffer The buffer that was taken
+     */
+    private void releaseLineBuffer(LineBuffer buffer) {
+        if (buffer == lineBuffer) {
+            lineBufferLock.unlock();
+        }
+    }
+
+    /**
+     * Hands the line assembled in the {@link Appendable} passed to
+     * {@link #writeNext(String[], boolean, Appendable)} to the writer.
+     * If the {@link Appendable} is a {@link LineBuffer}, the line is
+     * written without being copied first, and within
+     * {@link #writeAll(Iterable, boolean)} and
+     * {@link #writeAll(ResultSet, boolean, boolean, boolean)} together with
+     * the lines before it. A buffer that collects a batch of lines for
+     * {@link ConcurrentLineWriter} keeps the line until the batch is
+     * written.
+     *
+     * @param appendable The complete line, including the line ending
+     * @throws IOException If the writer throws it
+     */
+    void writeLine(Appendable appendable) throws IOException {
+        if (appendable instanceof LineBuffer) {
+            ((LineBuffer) appendable).endLine(writer);
+        } else {
+            writer.write(appendable.toString());
+        }
+    }
+
+    /**
+     * Writes all lines collected in a buffer.
+     * An exception from the writer is only kept if there is none yet.
+     *
+     * @param batch The buffer, which is empty afterwards
+     * @return Whether the lines were written without an exception
+     */
+    boolean writeBatch(LineBuffer batch) {
+        try {
+            batch.endBlock(writer);
+            return true;
+        } catch (IOException e) {
+            if (exception == null) {
+                exception = e;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Sets the number of threads that quote and escape lines in
+     * {@link #writeAll(Iterable, boolean)} and
+     * {@link #writeAll(ResultSet, boolean, boolean, boolean)}.
+     * <p>With more than one thread, the lines are taken from their source
+     * by the calling thread and formatted in batches by the other threads,
+     * while the calling thread writes the batches in their original order.
+     * The number of batches in flight is limited, so memory does not grow
+     * with the number of lines. Every line is copied as it is taken, so the
+     * source may reuse its arrays. This only pays off for many lines, and
+     * only if the writer can format lines in several threads at once.
+     * Otherwise, as by default, every line is formatted by the calling
+     * thread.</p>
+     * <p>If an executor has been set with
+     * {@link #setFormattingExecutor(Executor)}, this is the number of
+     * threads of that executor used at once.</p>
+     *
+     * @param concurrency The number of threads for formatting lines. Values
+     *                    below two mean the calling thread formats all
+     *                    lines, which is the default.
+     * @see CSVWriterBuilder#withConcurrency(int)
+     * @since 5.12
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sets the executor on which lines are formatted if
+     * {@link #setConcurrency(int)} asks for more than one thread.
+     * By default, a new pool of threads is started for every call to
+     * {@code writeAll()}. A shared executor avoids that. It is never shut
+     * down by opencsv.
+     *
+     * @param formattingExecutor The executor to format lines on, or
+     *                           {@code null} to start threads for every
+     *                           call, which is the default
+     * @see CSVWriterBuilder#withFormattingExecutor(Executor)
+     * @since 5.12
+     */
+    public void setFormattingExecutor(Executor formattingExecutor) {
+        this.formattingExecutor = formattingExecutor;
+    }
+
+    /**
+     * Whether {@link #writeNext(String[], boolean, Appendable)} may be
+     * called by several threads at once, each with a buffer of its own.
+     * This is only true if nothing but the buffer is changed, and the line
+     * is not written anywhere but through {@link #writeLine(Appendable)}.
+     *
+     * @return {@code false}, unless a derived class knows better
+     */
+    boolean canFormatConcurrently() {
+        return false;
+    }
+
+    /**
+     * @return The number of threads to format lines in, or zero if the
+     * calling thread is to format them
+     */
+    private int formattingThreads() {
+        return concurrency > 1 && canFormatConcurrently() ? concurrency : 0;
+    }
+
     @Override
     public void writeAll(Iterable<String[]> allLines, boolean applyQuotesToAll) {
-        StringBuilder sb = new StringBuilder(INITIAL_STRING_SIZE);
+        int threads = formattingThreads();
+        if (threads > 0) {
+            Iterator<String[]> lines = allLines.iterator();
+            try {
+                new ConcurrentLineWriter(this, threads, formattingExecutor).write(
+                        () -> lines.hasNext() ? lines.next() : ConcurrentLineWriter.END,
+                        applyQuotesToAll);
+            } catch (IOException e) {
+                exception = e;
+            }
+            return;
+        }
+
+        LineBuffer buffer = acquireLineBuffer();
+        buffer.startBlock();
         try {
             for (String[] line : allLines) {
-                writeNext(line, applyQuotesToAll, sb);
-                sb.setLength(0);
+                writeNext(line, applyQuotesToAll, buffer);
+                buffer.discardLine();
             }
         } catch (IOException e) {
             exception = e;
+        } finally {
+            writeBatch(buffer);
+            releaseLineBuffer(buffer);
         }
     }
 
@@ -76,14 +244,29 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
     public int writeAll(ResultSet rs, boolean includeColumnNames, boolean trim, boolean applyQuotesToAll) throws SQLException, IOException {
         int linesWritten = 0;
 
-        if (includeColumnNames) {
-            writeColumnNames(rs, applyQuotesToAll);
-            linesWritten++;
-        }
+        LineBuffer buffer = acquireLineBuffer();
+        buffer.startBlock();
+        try {
+            if (includeColumnNames) {
+                writeColumnNames(rs, applyQuotesToAll);
+                linesWritten++;
+            }
 
-        while (rs.next()) {
-            writeNext(resultService().getColumnValues(rs, trim), applyQuotesToAll);
-            linesWritten++;
+            int threads = formattingThreads();
+            if (threads > 0) {
+                writeBatch(buffer);
+                linesWritten += new ConcurrentLineWriter(this, threads, formattingExecutor).write(
+                        () -> rs.next() ? resultService().getColumnValues(rs, trim) : ConcurrentLineWriter.END,
+                        applyQuotesToAll);
+            } else {
+                while (rs.next()) {
+                    writeNext(resultService().getColumnValues(rs, trim), applyQuotesToAll);
+                    linesWritten++;
+                }
+            }
+        } finally {
+            writeBatch(buffer);
+            releaseLineBuffer(buffer);
         }
 
         return linesWritten;
@@ -91,10 +274,14 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
 
     @Override
     public void writeNext(String[] nextLine, boolean applyQuotesToAll) {
+        LineBuffer buffer = acquireLineBuffer();
         try {
-            writeNext(nextLine, applyQuotesToAll, new StringBuilder(INITIAL_STRING_SIZE));
+            writeNext(nextLine, applyQuotesToAll, buffer);
         } catch (IOException e) {
             exception = e;
+        } finally {
+            buffer.discardLine();
+            releaseLineBuffer(buffer);
         }
     }
 
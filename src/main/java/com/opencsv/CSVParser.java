@@ -23,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -46,20 +47,29 @@ import java.util.ResourceBundle;
 public class CSVParser extends AbstractCSVParser {
 
     private static final int BEGINNING_OF_LINE = 3;
-    /**
-     * This is the character that the CSVParser will treat as the escape character.
-     */
-    private final char escape;
 
     /**
-     * String of escape character - optimization for replaceAll
+     * Whether a class derived from this one changes how fields are quoted and
+     * escaped, in which case {@link FieldEscaper} cannot be used on its own.
      */
-    private final String escapeAsString;
+    private static final ClassValue<Boolean> CUSTOM_CONVERSION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FieldEscaper.declaresAny(type, CSVParser.class,
+                    Arrays.asList("convertToCsvValue", "isSurroundWithQuotes"));
+        }
+    };
 
     /**
-     * String escapeAsString+escapeAsString - optimization for replaceAll
+     * This is the character that the CSVParser will treat as the escape character.
      */
-    private final String escapeDoubleAsString;
+    private final char escape;
+
+    /** Quotes and escapes fields when writing. */
+    private final FieldEscaper escaper;
+
+    /** Whether a derived class changes how fields are quoted and escaped. */
+    private final boolean customConversion;
 
     /**
      * Determines if the field is between quotes (true) or between separators (false).
@@ -116,8 +126,8 @@ public class CSVParser extends AbstractCSVParser {
             throw new UnsupportedOperationException(ResourceBundle.getBundle(DEFAULT_BUNDLE_NAME, this.errorLocale).getString("define.separator"));
         }
         this.escape = escape;
-        this.escapeAsString = Character.toString(escape);
-        this.escapeDoubleAsString = escapeAsString + escapeAsString;
+        this.escaper = new FieldEscaper(new char[]{separator, '\n'}, new char[]{quotechar, escape});
+        this.customConversion = CUSTOM_CONVERSION.get(getClass());
         this.strictQuotes = strictQuotes;
         this.ignoreLeadingWhiteSpace = ignoreLeadingWhiteSpace;
         this.ignoreQuotations = ignoreQuotations;
@@ -184,8 +194,7 @@ public class CSVParser extends AbstractCSVParser {
         boolean containsSeparatorChar = StringUtils.contains(testValue, getSeparator());
         boolean surroundWithQuotes = applyQuotestoAll || isSurroundWithQuotes(value, containsSeparatorChar);
 
-        String convertedString = !containsQuoteChar ? testValue : getQuoteMatcherPattern().matcher(testValue).replaceAll(getQuoteDoubledAsString());
-        convertedString = !containsEscapeChar ? convertedString : convertedString.replace(escapeAsString, escapeDoubleAsString);
+        String convertedString = !containsQuoteChar && !containsEscapeChar ? testValue : escaper.escape(testValue);
 
         if (surroundWithQuotes) {
             builder.append(getQuotechar());
@@ -200,6 +209,11 @@ public class CSVParser extends AbstractCSVParser {
         return builder.toString();
     }
 
+    @Override
+    FieldEscaper fieldEscaper() {
+        return customConversion ? null : escaper;
+    }
+
     @Override
     protected String[] parseLine(String nextLine, boolean multi) throws IOException {
 
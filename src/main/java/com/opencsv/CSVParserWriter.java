@@ -18,6 +18,7 @@ package com.opencsv;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Collections;
 
 /**
  * The CSVParserWriter is a replacement for the CSVWriter that allows you to pass in a ICSVParser
@@ -28,6 +29,30 @@ import java.io.Writer;
  * @since 4.2
  */
 public class CSVParserWriter extends AbstractCSVWriter {
+
+    /**
+     * Whether a class derived from this one changes how lines are
+     * assembled.
+     */
+    private static final ClassValue<Boolean> CUSTOM_LINES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FieldEscaper.declaresAny(type, CSVParserWriter.class,
+                    Collections.singleton("writeNext"));
+        }
+    };
+
+    /**
+     * Whether a parser changes how it joins the fields of a line.
+     */
+    private static final ClassValue<Boolean> CUSTOM_JOINING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FieldEscaper.declaresAny(type, AbstractCSVParser.class,
+                    Collections.singleton("parseToLine"));
+        }
+    };
+
     protected final ICSVParser parser;
 
     /**
@@ -46,6 +71,20 @@ public class CSVParserWriter extends AbstractCSVWriter {
     protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
         parser.parseToLine(nextLine, applyQuotesToAll, appendable);
         appendable.append(getLineEnd());
-        getWriter().write(appendable.toString());
+        writeLine(appendable);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>This is the case for the parsers of opencsv, unless a class derived
+     * from them or from this one changes how lines are assembled, quoted or
+     * escaped.</p>
+     */
+    @Override
+    boolean canFormatConcurrently() {
+        return !CUSTOM_LINES.get(getClass())
+                && parser instanceof AbstractCSVParser
+                && ((AbstractCSVParser) parser).fieldEscaper() != null
+                && !CUSTOM_JOINING.get(parser.getClass());
     }
 }
@@ -18,6 +18,12 @@ package com.opencsv;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A very simple CSV writer released under a commercial-friendly license.
@@ -26,10 +32,47 @@ import java.io.Writer;
  */
 public class CSVWriter extends AbstractCSVWriter {
 
+   /**
+    * Whether a class derived from this one changes how fields are quoted and
+    * escaped, in which case {@link FieldEscaper} cannot be used.
+    */
+   private static final ClassValue<Boolean> CUSTOM_ESCAPING = new ClassValue<Boolean>() {
+      @Override
+      protected Boolean computeValue(Class<?> type) {
+         return FieldEscaper.declaresAny(type, CSVWriter.class, Arrays.asList(
+                 "stringContainsSpecialCharacters", "processLine",
+                 "processCharacter", "checkCharactersToEscape"));
+      }
+   };
+
+   /**
+    * Whether a class derived from this one changes how lines are assembled,
+    * in which case rows cannot be written field by field.
+    */
+   private static final ClassValue<Boolean> CUSTOM_LINES = new ClassValue<Boolean>() {
+      @Override
+      protected Boolean computeValue(Class<?> type) {
+         return FieldEscaper.declaresAny(type, CSVWriter.class,
+                 Collections.singleton("writeNext"));
+      }
+   };
+
    protected final char separator;
    protected final char quotechar;
    protected final char escapechar;
 
+   /**
+    * Quotes and escapes fields, or {@code null} if a derived class does that
+    * itself.
+    */
+   private final FieldEscaper escaper;
+
+   /**
+    * Writes rows field by field into a buffer of its own, or {@code null}
+    * if a derived class writes lines itself.
+    */
+   private final BufferRowWriter rowWriter;
+
    /**
     * Constructs CSVWriter using a comma for the separator.
     *
@@ -53,6 +96,26 @@ public class CSVWriter extends AbstractCSVWriter {
       this.escapechar = escapechar;
       this.quotechar = quotechar;
       this.separator = separator;
+      this.escaper = CUSTOM_ESCAPING.get(getClass()) ? null : createEscaper();
+      this.rowWriter = CUSTOM_LINES.get(getClass()) ? null : new BufferRowWriter();
+   }
+
+   /**
+    * @return An escaper that does what
+    * {@link #stringContainsSpecialCharacters(String)} and
+    * {@link #processLine(String, Appendable)} do
+    */
+   private FieldEscaper createEscaper() {
+      char[] special = {quotechar, escapechar, separator, '\n', '\r'};
+      char[] escaped;
+      if (escapechar == NO_ESCAPE_CHARACTER) {
+         escaped = new char[0];
+      } else if (quotechar == NO_QUOTE_CHARACTER) {
+         escaped = new char[]{quotechar, escapechar, separator, '\n'};
+      } else {
+         escaped = new char[]{quotechar, escapechar};
+      }
+      return new FieldEscaper(special, escaped, escapechar);
    }
 
 
@@ -68,27 +131,79 @@ public class CSVWriter extends AbstractCSVWriter {
             appendable.append(separator);
          }
 
-         String nextElement = nextLine[i];
-
-         if (nextElement == null) {
-            continue;
-         }
+         appendField(nextLine[i], applyQuotesToAll, appendable);
+      }
 
-         Boolean stringContainsSpecialCharacters = stringContainsSpecialCharacters(nextElement);
+      appendable.append(getLineEnd());
+      writeLine(appendable);
+   }
 
-         appendQuoteCharacterIfNeeded(applyQuotesToAll, appendable, stringContainsSpecialCharacters);
+   /**
+    * Appends one field, quoted and escaped as necessary.
+    *
+    * @param nextElement The field, or {@code null} for an empty field
+    * @param applyQuotesToAll Whether the field is to be quoted in any case
+    * @param appendable Where the line is assembled
+    * @throws IOException If the {@link Appendable} throws it
+    */
+   private void appendField(String nextElement, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+      if (nextElement == null) {
+         return;
+      }
 
-         if (stringContainsSpecialCharacters) {
-            processLine(nextElement, appendable);
+      if (escaper != null) {
+         int classes = escaper.scan(nextElement);
+         boolean quote = (applyQuotesToAll || classes != 0) && quotechar != NO_QUOTE_CHARACTER;
+         if (quote) {
+            appendable.append(quotechar);
+         }
+         if ((classes & FieldEscaper.ESCAPE) != 0) {
+            escaper.appendEscaped(nextElement, appendable);
          } else {
             appendable.append(nextElement);
          }
+         if (quote) {
+            appendable.append(quotechar);
+         }
+         return;
+      }
+
+      Boolean stringContainsSpecialCharacters = stringContainsSpecialCharacters(nextElement);
 
-         appendQuoteCharacterIfNeeded(applyQuotesToAll, appendable, stringContainsSpecialCharacters);
+      appendQuoteCharacterIfNeeded(applyQuotesToAll, appendable, stringContainsSpecialCharacters);
+
+      if (stringContainsSpecialCharacters) {
+         processLine(nextElement, appendable);
+      } else {
+         appendable.append(nextElement);
       }
 
-      appendable.append(getLineEnd());
-      getWriter().write(appendable.toString());
+      appendQuoteCharacterIfNeeded(applyQuotesToAll, appendable, stringContainsSpecialCharacters);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>Numbers, dates and times are formatted directly into the buffer the
+    * line is assembled in, unless a derived class writes lines itself. While
+    * one thread writes a row this way, rows begun by other threads are
+    * collected as strings.</p>
+    */
+   @Override
+   public RowWriter beginRow(boolean applyQuotesToAll) {
+      if (rowWriter == null || !rowWriter.lock.tryLock()) {
+         return super.beginRow(applyQuotesToAll);
+      }
+      return rowWriter.begin(applyQuotesToAll);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>This is the case unless a derived class changes how lines are
+    * assembled, quoted or escaped.</p>
+    */
+   @Override
+   boolean canFormatConcurrently() {
+      return escaper != null && rowWriter != null;
    }
 
    private void appendQuoteCharacterIfNeeded(boolean applyQuotesToAll, Appendable appendable, Boolean stringContainsSpecialCharacters) throws IOException {
@@ -150,4 +265,171 @@ public class CSVWriter extends AbstractCSVWriter {
               : (nextChar == quotechar || nextChar == escapechar);
    }
 
+   /**
+    * Writes the fields of a row straight into a buffer.
+    * Typed values are formatted there and only turned into strings if they
+    * happen to contain special characters.
+    */
+   private final class BufferRowWriter implements RowWriter {
+
+      /** Held by the thread writing a row, from its beginning to its end. */
+      private final ReentrantLock lock = new ReentrantLock();
+      private final LineBuffer buffer = new LineBuffer();
+      private boolean applyQuotesToAll;
+      private boolean first;
+
+      /**
+       * Starts a new row, throwing away anything left from one that was
+       * never ended. The lock must have been taken.
+       */
+      RowWriter begin(boolean applyQuotesToAll) {
+         // A row that was never ended gives up its hold on the lock
+         while (lock.getHoldCount() > 1) {
+            lock.unlock();
+         }
+         buffer.discardLine();
+         this.applyQuotesToAll = applyQuotesToAll;
+         first = true;
+         return this;
+      }
+
+      /**
+       * @return Whether every field is enclosed in quotes
+       */
+      private boolean quoted() {
+         return applyQuotesToAll && quotechar != NO_QUOTE_CHARACTER;
+      }
+
+      /**
+       * Appends the separator before every field but the first.
+       *
+       * @return The buffer
+       */
+      private LineBuffer separate() {
+         if (!first) {
+            buffer.append(separator);
+         }
+         first = false;
+         return buffer;
+      }
+
+      /**
+       * Appends the separator if necessary and the opening quote if all
+       * fields are quoted.
+       *
+       * @return The position at which the value of the field starts
+       */
+      private int openField() {
+         separate();
+         if (quoted()) {
+            buffer.append(quotechar);
+         }
+         return buffer.length();
+      }
+
+      /**
+       * Finishes a field whose value was formatted into the buffer.
+       * If it contains special characters, it is taken back out and
+       * written as a string would be.
+       *
+       * @param start The position at which the value starts
+       * @return {@code this}
+       */
+      private RowWriter closeField(int start) {
+         if (escaper != null && buffer.scan(escaper, start) == 0) {
+            if (quoted()) {
+               buffer.append(quotechar);
+            }
+         } else {
+            String value = buffer.substring(start);
+            buffer.setLength(quoted() ? start - 1 : start);
+            try {
+               appendField(value, applyQuotesToAll, buffer);
+            } catch (IOException e) {
+               exception = e;
+            }
+         }
+         return this;
+      }
+
+      @Override
+      public RowWriter writeString(String value) {
+         try {
+            appendField(value, applyQuotesToAll, separate());
+         } catch (IOException e) {
+            exception = e;
+         }
+         return this;
+      }
+
+      @Override
+      public RowWriter writeInt(int value) {
+         return writeLong(value);
+      }
+
+      @Override
+      public RowWriter writeLong(long value) {
+         int start = openField();
+         buffer.appendLong(value);
+         return closeField(start);
+      }
+
+      @Override
+      public RowWriter writeDouble(double value) {
+         int start = openField();
+         buffer.appendDouble(value);
+         return closeField(start);
+      }
+
+      @Override
+      public RowWriter writeBoolean(boolean value) {
+         return writeString(Boolean.toString(value));
+      }
+
+      @Override
+      public RowWriter writeDate(LocalDate value) {
+         if (value == null) {
+            return writeString(null);
+         }
+         int start = openField();
+         buffer.appendDate(value);
+         return closeField(start);
+      }
+
+      @Override
+      public RowWriter writeTime(LocalTime value) {
+         if (value == null) {
+            return writeString(null);
+         }
+         int start = openField();
+         buffer.appendTime(value);
+         return closeField(start);
+      }
+
+      @Override
+      public RowWriter writeDateTime(LocalDateTime value) {
+         if (value == null) {
+            return writeString(null);
+         }
+         int start = openField();
+         buffer.appendDateTime(value);
+         return closeField(start);
+      }
+
+      @Override
+      public void endRow() {
+         if (!lock.isHeldByCurrentThread()) {
+            return;
+         }
+         try {
+            buffer.append(getLineEnd());
+            writeLine(buffer);
+         } catch (IOException e) {
+            exception = e;
+         } finally {
+            buffer.discardLine();
+            lock.unlock();
+         }
+      }
+   }
 }
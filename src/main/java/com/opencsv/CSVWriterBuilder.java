@@ -1,6 +1,7 @@
 package com.opencsv;
 
 import java.io.Writer;
+import java.util.concurrent.Executor;
 
 /**
  * Builder for creating the CSVWriter.
@@ -42,6 +43,8 @@ public class CSVWriterBuilder {
     private Character escapechar;
     private ResultSetHelper resultSetHelper;
     private String lineEnd = ICSVWriter.DEFAULT_LINE_END;
+    private int concurrency = 1;
+    private Executor formattingExecutor = null;
 
     /**
      * Constructor taking a writer for the resulting CSV output.  This is because the Writer is required and
@@ -126,6 +129,37 @@ public class CSVWriterBuilder {
         return this;
     }
 
+    /**
+     * Sets the number of threads the ICSVWriter uses to quote and escape
+     * lines in {@code writeAll()}.  If none is defined then every line is
+     * formatted by the calling thread.
+     *
+     * @param concurrency The number of threads for formatting lines.
+     * @return The CSVWriterBuilder with the concurrency set.
+     * @see AbstractCSVWriter#setConcurrency(int)
+     * @since 5.12
+     */
+    public CSVWriterBuilder withConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sets the executor on which the ICSVWriter formats lines if
+     * {@link #withConcurrency(int)} asks for more than one thread.  If none
+     * is defined then threads are started for every call to
+     * {@code writeAll()}.
+     *
+     * @param formattingExecutor The executor to format lines on.
+     * @return The CSVWriterBuilder with the executor set.
+     * @see AbstractCSVWriter#setFormattingExecutor(Executor)
+     * @since 5.12
+     */
+    public CSVWriterBuilder withFormattingExecutor(Executor formattingExecutor) {
+        this.formattingExecutor = formattingExecutor;
+        return this;
+    }
+
     /**
      * Creates the CSVWriter.
      *
@@ -140,6 +174,8 @@ public class CSVWriterBuilder {
 
     private ICSVWriter createCSVParserWriter() {
         final CSVParserWriter icsvWriter = new CSVParserWriter(writer, parser, lineEnd);
+        icsvWriter.setConcurrency(concurrency);
+        icsvWriter.setFormattingExecutor(formattingExecutor);
 
         if (resultSetHelper != null) {
             icsvWriter.setResultService(resultSetHelper);
@@ -158,7 +194,9 @@ public class CSVWriterBuilder {
         if (escapechar == null) {
             escapechar = ICSVWriter.DEFAULT_ESCAPE_CHARACTER;
         }
-        ICSVWriter icsvWriter = new CSVWriter(writer, separator, quotechar, escapechar, lineEnd);
+        CSVWriter icsvWriter = new CSVWriter(writer, separator, quotechar, escapechar, lineEnd);
+        icsvWriter.setConcurrency(concurrency);
+        icsvWriter.setFormattingExecutor(formattingExecutor);
 
         if (resultSetHelper != null) {
             icsvWriter.setResultService(resultSetHelper);
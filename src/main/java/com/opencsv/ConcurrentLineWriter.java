@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Formats lines for a writer in several threads and writes them in their
+ * original order.
+ * <p>The calling thread takes lines from the source and collects them in
+ * batches of {@link #BATCH_SIZE}. Each batch is quoted and escaped by a
+ * worker thread into a buffer of its own. The calling thread writes the
+ * buffers in the order of the batches, as they are finished. At most two
+ * batches per thread are in flight at any time, so memory is bounded no
+ * matter how many lines there are. Lines are copied when they are taken
+ * from the source, so the source may reuse its arrays. Once the underlying
+ * writer fails, no more lines are taken or formatted.</p>
+ *
+ * @since 5.12
+ */
+class ConcurrentLineWriter {
+
+    /** The number of lines formatted together by one worker. */
+    static final int BATCH_SIZE = 512;
+
+    /** Returned by a {@link LineSource} once there are no more lines. */
+    static final String[] END = new String[0];
+
+    /**
+     * Where lines come from.
+     *
+     * @param <E> The type of exception thrown when a line cannot be read
+     */
+    @FunctionalInterface
+    interface LineSource<E extends Exception> {
+
+        /**
+         * @return The next line, which may be {@code null}, or {@link #END}
+         * @throws E If the next line cannot be read
+         * @throws IOException If the next line cannot be read
+         */
+        String[] next() throws E, IOException;
+    }
+
+    private final AbstractCSVWriter writer;
+    private final int concurrency;
+    private final Executor executor;
+
+    /**
+     * @param writer The writer that formats and writes the lines. It must
+     *               be able to format lines in several threads at once.
+     * @param concurrency The number of threads formatting lines
+     * @param executor The executor to format lines on, or {@code null} to
+     *                 start {@code concurrency} threads for every call to
+     *                 {@link #write(LineSource, boolean)}
+     */
+    ConcurrentLineWriter(AbstractCSVWriter writer, int concurrency, Executor executor) {
+        this.writer = writer;
+        this.concurrency = concurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * Formats and writes all lines from a source.
+     * Errors from the underlying writer are handled as by
+     * {@link AbstractCSVWriter#writeBatch(LineBuffer)}.
+     *
+     * @param source Where the lines come from
+     * @param applyQuotesToAll Whether all values are to be quoted
+     * @param <E> The type of exception thrown by the source
+     * @return The number of lines taken from the source
+     * @throws E If the source throws it
+     * @throws IOException If the source throws it, or if the calling thread
+     *   is interrupted
+     */
+    <E extends Exception> int write(LineSource<E> source, boolean applyQuotesToAll) throws E, IOException {
+        ExecutorService pool = executor == null ? Executors.newFixedThreadPool(concurrency) : null;
+        Executor workers = pool == null ? executor : pool;
+        Deque<Future<LineBuffer>> inFlight = new ArrayDeque<>();
+        int maxInFlight = 2 * concurrency;
+        int lines = 0;
+        try {
+            String[][] batch = new String[BATCH_SIZE][];
+            int size = 0;
+            for (String[] line = source.next(); line != END; line = source.next()) {
+                batch[size++] = line == null ? null : line.clone();
+                lines++;
+                if (size == BATCH_SIZE) {
+                    if (inFlight.size() == maxInFlight
+                            && !writer.writeBatch(take(inFlight.removeFirst()))) {
+                        return lines;
+                    }
+                    inFlight.addLast(submit(workers, batch, size, applyQuotesToAll));
+                    batch = new String[BATCH_SIZE][];
+                    size = 0;
+                }
+            }
+            if (size > 0) {
+                inFlight.addLast(submit(workers, batch, size, applyQuotesToAll));
+            }
+            while (!inFlight.isEmpty()) {
+                if (!writer.writeBatch(take(inFlight.removeFirst()))) {
+                    return lines;
+                }
+            }
+        } finally {
+            // Whatever is left over can no longer be written
+            inFlight.forEach(batch -> batch.cancel(true));
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+        return lines;
+    }
+
+    private Future<LineBuffer> submit(Executor workers, String[][] batch, int size, boolean applyQuotesToAll) {
+        FutureTask<LineBuffer> task = new FutureTask<>(() -> {
+            LineBuffer buffer = new LineBuffer();
+            buffer.startBatch();
+            for (int i = 0; i < size; i++) {
+                writer.writeNext(batch[i], applyQuotesToAll, buffer);
+                buffer.discardLine();
+            }
+            return buffer;
+        });
+        workers.execute(task);
+        return task;
+    }
+
+    /**
+     * Waits for a batch to be formatted.
+     *
+     * @param batch The batch
+     * @return The buffer holding its lines
+     * @throws IOException If formatting threw it, or if the calling thread
+     *   is interrupted
+     */
+    private static LineBuffer take(Future<LineBuffer> batch) throws IOException {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException();
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
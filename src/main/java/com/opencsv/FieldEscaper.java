@@ -0,0 +1,216 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Decides whether a field must be quoted and escapes it, for one
+ * configuration of special characters.
+ * <p>Every character is looked up in a table that tells whether it causes
+ * the field to be quoted and whether it must be escaped. A field is
+ * scanned once to find out both. Fields without characters to be escaped,
+ * which are most of them, are then copied as a whole; otherwise the runs of
+ * characters between the ones to be escaped are copied as a whole.</p>
+ * <p>Characters are escaped by putting the escape character in front of
+ * them, or, if there is none, by doubling them.</p>
+ * <p>Instances are immutable and thus thread-safe.</p>
+ *
+ * @since 5.12
+ */
+final class FieldEscaper {
+
+    /** Returned by {@link #scan(String)} if the field must be quoted. */
+    static final int QUOTE = 1;
+
+    /** Returned by {@link #scan(String)} if the field contains characters to be escaped. */
+    static final int ESCAPE = 2;
+
+    /** The table covers the characters up to this one directly. */
+    private static final int TABLE_SIZE = 256;
+
+    private final byte[] table = new byte[TABLE_SIZE];
+
+    /**
+     * Special characters beyond the table, which are rare enough to be
+     * looked for one after the other.
+     */
+    private final char[] otherCharacters;
+
+    /** The classes of {@link #otherCharacters}. */
+    private final byte[] otherClasses;
+
+    /** Whether characters are escaped by doubling them. */
+    private final boolean doubling;
+
+    /** The escape character, unless characters are doubled. */
+    private final char escapeCharacter;
+
+    /**
+     * Creates an escaper that doubles the characters to be escaped.
+     *
+     * @param quoting The characters that cause a field to be quoted
+     * @param escaped The characters to be escaped
+     */
+    FieldEscaper(char[] quoting, char[] escaped) {
+        this(quoting, escaped, true, ICSVParser.NULL_CHARACTER);
+    }
+
+    /**
+     * Creates an escaper that puts an escape character in front of the
+     * characters to be escaped.
+     *
+     * @param quoting The characters that cause a field to be quoted
+     * @param escaped The characters to be escaped
+     * @param escapeCharacter The character put in front of them
+     */
+    FieldEscaper(char[] quoting, char[] escaped, char escapeCharacter) {
+        this(quoting, escaped, false, escapeCharacter);
+    }
+
+    private FieldEscaper(char[] quoting, char[] escaped, boolean doubling, char escapeCharacter) {
+        this.doubling = doubling;
+        this.escapeCharacter = escapeCharacter;
+        char[] others = new char[quoting.length + escaped.length];
+        byte[] classes = new byte[others.length];
+        int numOthers = 0;
+        for (int i = 0; i < others.length; i++) {
+            char c = i < quoting.length ? quoting[i] : escaped[i - quoting.length];
+            byte cls = (byte) (i < quoting.length ? QUOTE : ESCAPE);
+            if (c < TABLE_SIZE) {
+                table[c] |= cls;
+            } else {
+                int j = 0;
+                while (j < numOthers && others[j] != c) {
+                    j++;
+                }
+                others[j] = c;
+                classes[j] |= cls;
+                numOthers = Math.max(numOthers, j + 1);
+            }
+        }
+        otherCharacters = Arrays.copyOf(others, numOthers);
+        otherClasses = Arrays.copyOf(classes, numOthers);
+    }
+
+    private int classOf(char c) {
+        if (c < TABLE_SIZE) {
+            return table[c];
+        }
+        for (int i = 0; i < otherCharacters.length; i++) {
+            if (otherCharacters[i] == c) {
+                return otherClasses[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Looks through a field for special characters.
+     *
+     * @param field The field, which must not be {@code null}
+     * @return {@link #QUOTE} and/or {@link #ESCAPE}, as they apply, or zero
+     */
+    int scan(String field) {
+        int classes = 0;
+        for (int i = 0, length = field.length(); i < length && classes != (QUOTE | ESCAPE); i++) {
+            classes |= classOf(field.charAt(i));
+        }
+        return classes;
+    }
+
+    /**
+     * Looks through part of an array for special characters.
+     *
+     * @param chars The array
+     * @param start The first position to look at
+     * @param end The position after the last one to look at
+     * @return {@link #QUOTE} and/or {@link #ESCAPE}, as they apply, or zero
+     */
+    int scan(char[] chars, int start, int end) {
+        int classes = 0;
+        for (int i = start; i < end && classes != (QUOTE | ESCAPE); i++) {
+            classes |= classOf(chars[i]);
+        }
+        return classes;
+    }
+
+    /**
+     * Appends a field, escaping the characters that must be escaped.
+     *
+     * @param field The field, which must not be {@code null}
+     * @param appendable The destination
+     * @throws IOException If the destination throws it
+     */
+    void appendEscaped(String field, Appendable appendable) throws IOException {
+        int runStart = 0;
+        for (int i = 0, length = field.length(); i < length; i++) {
+            char c = field.charAt(i);
+            if ((classOf(c) & ESCAPE) != 0) {
+                appendable.append(field, runStart, i);
+                appendable.append(doubling ? c : escapeCharacter);
+                runStart = i;
+            }
+        }
+        appendable.append(field, runStart, field.length());
+    }
+
+    /**
+     * Escapes the characters in a field that must be escaped.
+     *
+     * @param field The field, which must not be {@code null}
+     * @return The field itself if nothing is to be escaped, otherwise the
+     *   escaped field
+     */
+    String escape(String field) {
+        if ((scan(field) & ESCAPE) == 0) {
+            return field;
+        }
+        StringBuilder builder = new StringBuilder(field.length() + 16);
+        try {
+            appendEscaped(field, builder);
+        } catch (IOException e) {
+            // A StringBuilder does not throw it
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Determines whether a class or one of its superclasses below a given
+     * class declares any of the named methods.
+     * This is how writers and parsers find out whether a derived class has
+     * changed how fields are quoted or escaped, in which case they must not
+     * use an escaper.
+     *
+     * @param type The class to examine
+     * @param base The class whose own declarations do not count
+     * @param names The names of the methods
+     * @return Whether any of the methods is declared between {@code type}
+     *   and {@code base}
+     */
+    static boolean declaresAny(Class<?> type, Class<?> base, Collection<String> names) {
+        for (Class<?> c = type; c != null && c != base; c = c.getSuperclass()) {
+            for (Method m : c.getDeclaredMethods()) {
+                if (names.contains(m.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
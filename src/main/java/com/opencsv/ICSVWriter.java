@@ -162,6 +162,33 @@ public interface ICSVWriter extends Closeable, Flushable {
         writeNext(nextLine, true);
     }
 
+    /**
+     * Starts the next line, to be written field by field.
+     * The default implementation collects the fields as strings and writes
+     * them with {@link #writeNext(String[], boolean)}. Implementations may
+     * format the fields directly into their output instead.
+     *
+     * @param applyQuotesToAll True if all values are to be quoted. False applies quotes only
+     *                         to values which contain the separator, escape, quote, or new line characters.
+     * @return A writer for the fields of the line
+     * @since 5.12
+     */
+    default RowWriter beginRow(boolean applyQuotesToAll) {
+        return new StringRowWriter(this, applyQuotesToAll);
+    }
+
+    /**
+     * Starts the next line, to be written field by field, with all values
+     * quoted.
+     *
+     * @return A writer for the fields of the line
+     * @see #beginRow(boolean)
+     * @since 5.12
+     */
+    default RowWriter beginRow() {
+        return beginRow(true);
+    }
+
     /**
      * Flushes the buffer and checks to see if the there has been an error in the printstream.
      *
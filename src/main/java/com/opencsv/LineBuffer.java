@@ -0,0 +1,366 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * The buffer writers assemble their output in.
+ * <p>Every line is escaped straight into a growable character array that is
+ * kept from one line to the next. Complete lines are handed to the
+ * {@link Writer} directly from that array, without first being copied into
+ * a {@link String}.</p>
+ * <p>Normally every line is handed to the {@link Writer} as soon as it is
+ * complete. Within a block, as started by {@link #startBlock()}, complete
+ * lines are collected and handed over together once there are at least
+ * {@link #BLOCK_SIZE} characters, or when the block ends.</p>
+ * <p>{@link #toString()} only returns the line currently being assembled,
+ * so writers that do not know about this class and write that out
+ * themselves still work.</p>
+ *
+ * @since 5.12
+ */
+final class LineBuffer implements Appendable {
+
+    /** The number of characters at which complete lines in a block are written. */
+    static final int BLOCK_SIZE = 8 * ICSVWriter.INITIAL_STRING_SIZE;
+
+    /** The largest array that is kept once its contents have been written. */
+    private static final int MAX_RETAINED_SIZE = 64 * ICSVWriter.INITIAL_STRING_SIZE;
+
+    /** Powers of ten that are exactly represented as doubles. */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20};
+
+    /** Beyond this, not every integer can be represented as a double. */
+    private static final double MAX_EXACT_LONG = 1L << 53;
+
+    private char[] chars = new char[ICSVWriter.INITIAL_STRING_SIZE];
+
+    /** The number of characters in the buffer. */
+    private int length = 0;
+
+    /**
+     * Where the line currently being assembled starts. Everything before it
+     * is complete lines that have not yet been written.
+     */
+    private int lineStart = 0;
+
+    /** Whether complete lines are collected instead of written. */
+    private boolean inBlock = false;
+
+    /**
+     * Whether complete lines are collected however many there are, so the
+     * buffer can be filled without ever touching a writer.
+     */
+    private boolean inBatch = false;
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > chars.length) {
+            char[] larger = new char[Math.max(required, chars.length * 2)];
+            System.arraycopy(chars, 0, larger, 0, length);
+            chars = larger;
+        }
+    }
+
+    @Override
+    public LineBuffer append(char c) {
+        if (length == chars.length) {
+            ensureCapacity(1);
+        }
+        chars[length++] = c;
+        return this;
+    }
+
+    @Override
+    public LineBuffer append(CharSequence csq) {
+        if (csq == null) {
+            return append("null");
+        }
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public LineBuffer append(CharSequence csq, int start, int end) {
+        if (csq == null) {
+            return append("null", start, end);
+        }
+        int count = end - start;
+        ensureCapacity(count);
+        if (csq instanceof String) {
+            ((String) csq).getChars(start, end, chars, length);
+            length += count;
+        } else {
+            for (int i = start; i < end; i++) {
+                chars[length++] = csq.charAt(i);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends the decimal representation of a number, as
+     * {@link Long#toString(long)} would produce it.
+     *
+     * @param value The number
+     * @return {@code this}
+     */
+    LineBuffer appendLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            return append("-9223372036854775808");
+        }
+        if (value < 0) {
+            append('-');
+            value = -value;
+        }
+        return appendDigits(value, 1);
+    }
+
+    /**
+     * Appends the digits of a non-negative number, padded with leading
+     * zeros to a minimum width.
+     */
+    private LineBuffer appendDigits(long value, int minWidth) {
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int width = Math.max(digits, minWidth);
+        ensureCapacity(width);
+        for (int i = length + width - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        length += width;
+        return this;
+    }
+
+    /**
+     * Appends a floating-point number.
+     * If its magnitude is at least 10<sup>-3</sup> and less than
+     * 10<sup>7</sup>, it is written in plain notation with the fewest
+     * decimal places that read back as the same number, and at least one.
+     * This is what {@link Double#toString(double)} produces as of Java 19.
+     * Any other number is written by {@link Double#toString(double)}.
+     *
+     * @param value The number
+     * @return {@code this}
+     */
+    LineBuffer appendDouble(double value) {
+        double magnitude = Math.abs(value);
+        if (magnitude >= 1e-3 && magnitude < 1e7) {
+            for (int places = 0; places < POWERS_OF_TEN.length; places++) {
+                double scaled = Math.rint(magnitude * POWERS_OF_TEN[places]);
+                if (scaled >= MAX_EXACT_LONG) {
+                    break;
+                }
+
+                // Dividing two exactly represented numbers rounds correctly,
+                // so this is true if and only if the decimal reads back as
+                // the same number.
+                if (scaled / POWERS_OF_TEN[places] == magnitude) {
+                    if (value < 0) {
+                        append('-');
+                    }
+                    long digits = (long) scaled;
+                    if (places == 0) {
+                        return appendDigits(digits, 1).append(".0");
+                    }
+                    long unit = (long) POWERS_OF_TEN[places];
+                    appendDigits(digits / unit, 1).append('.');
+                    return appendDigits(digits % unit, places);
+                }
+            }
+        }
+        return append(Double.toString(value));
+    }
+
+    /**
+     * Appends a date as {@link LocalDate#toString()} would produce it.
+     *
+     * @param date The date, which must not be {@code null}
+     * @return {@code this}
+     */
+    LineBuffer appendDate(LocalDate date) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return append(date.toString());
+        }
+        appendDigits(year, 4).append('-');
+        appendDigits(date.getMonthValue(), 2).append('-');
+        return appendDigits(date.getDayOfMonth(), 2);
+    }
+
+    /**
+     * Appends a time as {@link LocalTime#toString()} would produce it.
+     *
+     * @param time The time, which must not be {@code null}
+     * @return {@code this}
+     */
+    LineBuffer appendTime(LocalTime time) {
+        appendDigits(time.getHour(), 2).append(':');
+        appendDigits(time.getMinute(), 2);
+        int second = time.getSecond();
+        int nano = time.getNano();
+        if (second > 0 || nano > 0) {
+            append(':');
+            appendDigits(second, 2);
+            if (nano > 0) {
+                append('.');
+                if (nano % 1_000_000 == 0) {
+                    appendDigits(nano / 1_000_000, 3);
+                } else if (nano % 1000 == 0) {
+                    appendDigits(nano / 1000, 6);
+                } else {
+                    appendDigits(nano, 9);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends a date and time as {@link LocalDateTime#toString()} would
+     * produce it.
+     *
+     * @param dateTime The date and time, which must not be {@code null}
+     * @return {@code this}
+     */
+    LineBuffer appendDateTime(LocalDateTime dateTime) {
+        appendDate(dateTime.toLocalDate()).append('T');
+        return appendTime(dateTime.toLocalTime());
+    }
+
+    /**
+     * @return The number of characters in the buffer, including complete
+     * lines not yet written
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Throws away everything after a given position.
+     *
+     * @param newLength The position, which must not lie before the start of
+     *                  the line currently being assembled
+     */
+    void setLength(int newLength) {
+        length = newLength;
+    }
+
+    /**
+     * @param start A position in the line currently being assembled
+     * @return Everything from that position on
+     */
+    String substring(int start) {
+        return new String(chars, start, length - start);
+    }
+
+    /**
+     * Looks through everything from a position on for special characters.
+     *
+     * @param escaper The escaper that knows the special characters
+     * @param start A position in the line currently being assembled
+     * @return What {@link FieldEscaper#scan(char[], int, int)} returns
+     */
+    int scan(FieldEscaper escaper, int start) {
+        return escaper.scan(chars, start, length);
+    }
+
+    /**
+     * Marks the line currently being assembled as complete, and writes the
+     * complete lines unless they are being collected in a block.
+     *
+     * @param writer The destination of the complete lines
+     * @throws IOException If the writer throws it
+     */
+    void endLine(Writer writer) throws IOException {
+        lineStart = length;
+        if (!inBlock || (length >= BLOCK_SIZE && !inBatch)) {
+            writeCompleteLines(writer);
+        }
+    }
+
+    /**
+     * Throws away the line currently being assembled.
+     * Nothing happens if the line has already been ended.
+     */
+    void discardLine() {
+        length = lineStart;
+    }
+
+    /**
+     * Starts collecting complete lines instead of writing each one.
+     */
+    void startBlock() {
+        inBlock = true;
+    }
+
+    /**
+     * Starts collecting complete lines until {@link #endBlock(Writer)},
+     * however many there are.
+     */
+    void startBatch() {
+        inBlock = true;
+        inBatch = true;
+    }
+
+    /**
+     * Writes all complete lines collected and goes back to writing every
+     * line as it is completed.
+     * The line currently being assembled, if any, is thrown away.
+     *
+     * @param writer The destination of the complete lines
+     * @throws IOException If the writer throws it
+     */
+    void endBlock(Writer writer) throws IOException {
+        inBlock = false;
+        inBatch = false;
+        discardLine();
+        writeCompleteLines(writer);
+    }
+
+    private void writeCompleteLines(Writer writer) throws IOException {
+        try {
+            if (lineStart > 0) {
+                writer.write(chars, 0, lineStart);
+            }
+        } finally {
+            // Once the writer has failed, the lines are lost either way
+            length = 0;
+            lineStart = 0;
+
+            // One unusually long line should not hold on to its memory
+            // for the life of the writer.
+            if (chars.length > MAX_RETAINED_SIZE) {
+                chars = new char[ICSVWriter.INITIAL_STRING_SIZE];
+            }
+        }
+    }
+
+    /**
+     * @return The line currently being assembled
+     */
+    @Override
+    public String toString() {
+        return new String(chars, lineStart, length - lineStart);
+    }
+}
@@ -5,6 +5,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -34,6 +35,24 @@ import java.util.Locale;
 
 public class RFC4180Parser extends AbstractCSVParser {
 
+    /**
+     * Whether a class derived from this one changes how fields are quoted and
+     * escaped, in which case {@link FieldEscaper} cannot be used on its own.
+     */
+    private static final ClassValue<Boolean> CUSTOM_CONVERSION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FieldEscaper.declaresAny(type, RFC4180Parser.class,
+                    Arrays.asList("convertToCsvValue", "isSurroundWithQuotes"));
+        }
+    };
+
+    /** Quotes and escapes fields when writing. */
+    private final FieldEscaper escaper;
+
+    /** Whether a derived class changes how fields are quoted and escaped. */
+    private final boolean customConversion;
+
     /**
      * Default constructor for the RFC4180Parser.  Uses values from the ICSVParser.
      */
@@ -50,6 +69,8 @@ public class RFC4180Parser extends AbstractCSVParser {
      */
     protected RFC4180Parser(char quoteChar, char separator, CSVReaderNullFieldIndicator nullFieldIndicator) {
         super(separator, quoteChar, nullFieldIndicator);
+        this.escaper = new FieldEscaper(new char[]{separator, '\n', quoteChar}, new char[]{quoteChar});
+        this.customConversion = CUSTOM_CONVERSION.get(getClass());
     }
 
     @Override
@@ -59,7 +80,7 @@ public class RFC4180Parser extends AbstractCSVParser {
         boolean containsQuoteChar = testValue != null && testValue.contains(getQuotecharAsString());
         boolean surroundWithQuotes = applyQuotesToAll || isSurroundWithQuotes(value, containsQuoteChar);
 
-        String convertedString = !containsQuoteChar ? testValue : getQuoteMatcherPattern().matcher(testValue).replaceAll(getQuoteDoubledAsString());
+        String convertedString = !containsQuoteChar ? testValue : escaper.escape(testValue);
 
         if (surroundWithQuotes) {
             builder.append(getQuotechar());
@@ -74,6 +95,11 @@ public class RFC4180Parser extends AbstractCSVParser {
         return builder.toString();
     }
 
+    @Override
+    FieldEscaper fieldEscaper() {
+        return customConversion ? null : escaper;
+    }
+
     /**
      * Parses an incoming String and returns an array of elements.
      *
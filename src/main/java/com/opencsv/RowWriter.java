@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Writes one line field by field, formatting typed values without first
+ * turning them into strings where the writer supports that.
+ * <p>A row is started with {@link ICSVWriter#beginRow()}, its fields are
+ * added in order, and it is written with {@link #endRow()}:</p>
+ * <pre>
+ * writer.beginRow().writeLong(id).writeDouble(value).writeString(name).endRow();
+ * </pre>
+ * <p>Every field is written exactly as the string its {@code write} method
+ * documents would be written by {@link ICSVWriter#writeNext(String[], boolean)},
+ * including quoting and escaping. Nothing else may be written to the
+ * {@link ICSVWriter} between {@link ICSVWriter#beginRow()} and
+ * {@link #endRow()}, and a {@code RowWriter} must not be used after its
+ * row has ended, as the writer may hand out the same instance for the next
+ * row.</p>
+ * <p>Errors from the underlying writer are handled as by
+ * {@link ICSVWriter#writeNext(String[], boolean)}.</p>
+ *
+ * @since 5.12
+ */
+public interface RowWriter {
+
+    /**
+     * @param value The field, or {@code null} for an empty field as
+     *              {@link ICSVWriter#writeNext(String[], boolean)} writes it
+     * @return {@code this}
+     */
+    RowWriter writeString(String value);
+
+    /**
+     * @param value A field written as {@link Integer#toString(int)} would
+     * @return {@code this}
+     */
+    RowWriter writeInt(int value);
+
+    /**
+     * @param value A field written as {@link Long#toString(long)} would
+     * @return {@code this}
+     */
+    RowWriter writeLong(long value);
+
+    /**
+     * Writes a floating-point number.
+     * If its magnitude is at least 10<sup>-3</sup> and less than
+     * 10<sup>7</sup>, it is written in plain notation with the fewest
+     * decimal places that read back as the same number, and at least one,
+     * as {@link Double#toString(double)} does as of Java 19. Any other
+     * number is written as {@link Double#toString(double)} writes it.
+     *
+     * @param value The field
+     * @return {@code this}
+     */
+    RowWriter writeDouble(double value);
+
+    /**
+     * @param value A field written as {@link Boolean#toString(boolean)} would
+     * @return {@code this}
+     */
+    RowWriter writeBoolean(boolean value);
+
+    /**
+     * @param value A field written as {@link LocalDate#toString()} would, or
+     *              {@code null} for an empty field
+     * @return {@code this}
+     */
+    RowWriter writeDate(LocalDate value);
+
+    /**
+     * @param value A field written as {@link LocalTime#toString()} would, or
+     *              {@code null} for an empty field
+     * @return {@code this}
+     */
+    RowWriter writeTime(LocalTime value);
+
+    /**
+     * @param value A field written as {@link LocalDateTime#toString()} would,
+     *              or {@code null} for an empty field
+     * @return {@code this}
+     */
+    RowWriter writeDateTime(LocalDateTime value);
+
+    /**
+     * Ends the row and writes it.
+     */
+    void endRow();
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link RowWriter} for any {@link ICSVWriter}, which collects the fields
+ * as strings and writes them with
+ * {@link ICSVWriter#writeNext(String[], boolean)}.
+ *
+ * @since 5.12
+ */
+class StringRowWriter implements RowWriter {
+
+    private final ICSVWriter writer;
+    private final boolean applyQuotesToAll;
+    private final List<String> fields = new ArrayList<>();
+
+    /** Formats the values that have no suitable {@code toString()}. */
+    private final LineBuffer formatted = new LineBuffer();
+
+    /**
+     * @param writer The writer the row is written to
+     * @param applyQuotesToAll Whether all fields are to be quoted
+     */
+    StringRowWriter(ICSVWriter writer, boolean applyQuotesToAll) {
+        this.writer = writer;
+        this.applyQuotesToAll = applyQuotesToAll;
+    }
+
+    @Override
+    public RowWriter writeString(String value) {
+        fields.add(value);
+        return this;
+    }
+
+    @Override
+    public RowWriter writeInt(int value) {
+        return writeString(Integer.toString(value));
+    }
+
+    @Override
+    public RowWriter writeLong(long value) {
+        return writeString(Long.toString(value));
+    }
+
+    @Override
+    public RowWriter writeDouble(double value) {
+        formatted.discardLine();
+        return writeString(formatted.appendDouble(value).toString());
+    }
+
+    @Override
+    public RowWriter writeBoolean(boolean value) {
+        return writeString(Boolean.toString(value));
+    }
+
+    @Override
+    public RowWriter writeDate(LocalDate value) {
+        return writeString(value == null ? null : value.toString());
+    }
+
+    @Override
+    public RowWriter writeTime(LocalTime value) {
+        return writeString(value == null ? null : value.toString());
+    }
+
+    @Override
+    public RowWriter writeDateTime(LocalDateTime value) {
+        return writeString(value == null ? null : value.toString());
+    }
+
+    @Override
+    public void endRow() {
+        writer.writeNext(fields.toArray(new String[0]), applyQuotesToAll);
+    }
+}
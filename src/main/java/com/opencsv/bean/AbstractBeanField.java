@@ -81,6 +81,12 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
      */
     protected FieldAccess<Object> fieldAccess;
 
+    /**
+     * The cache for the results of {@link #convert(String)}, or {@code null}
+     * if conversions are not cached.
+     */
+    private ConversionCache conversionCache = null;
+
     /**
      * Default nullary constructor, so derived classes aren't forced to create
      * a constructor identical to this one.
@@ -109,7 +115,7 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
         // Once we support Java 9, we can replace ObjectUtils.defaultIfNull() with Objects.requireNonNullElse()
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
         this.converter = converter;
-        fieldAccess = new FieldAccess<>(this.field);
+        fieldAccess = FieldAccess.forField(this.field);
     }
 
     @Override
@@ -123,7 +129,7 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
     @Override
     public void setField(Field field) {
         this.field = field;
-        fieldAccess = new FieldAccess<>(this.field);
+        fieldAccess = FieldAccess.forField(this.field);
     }
 
     @Override
@@ -179,7 +185,62 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
             validateValue(validator, fieldValue);
         }
 
-        assignValueToField(bean, convert(fieldValue), header);
+        if(!assignPrimitiveValueToField(bean, fieldValue)) {
+            assignValueToField(bean, convertWithCache(fieldValue), header);
+        }
+    }
+
+    private Object convertWithCache(String value)
+            throws CsvDataTypeMismatchException, CsvConstraintViolationException {
+        if (conversionCache == null || StringUtils.isEmpty(value)) {
+            return convert(value);
+        }
+        Object o = conversionCache.get(value);
+        if (o == null) {
+            o = convert(value);
+            if (o != null) {
+                conversionCache.put(value, o);
+            }
+        }
+        return o;
+    }
+
+    /**
+     * Determines whether the results of {@link #convert(String)} may be
+     * cached, that is, whether they depend only on the input string and are
+     * immutable.
+     * <p>The default implementation returns {@code true} if and only if this
+     * class implements {@link CacheableConversion} and declares its
+     * conversions cacheable.</p>
+     *
+     * @return Whether a {@link ConversionCache} may be used for this field
+     * @since 5.12
+     */
+    public boolean canCacheConversions() {
+        return this instanceof CacheableConversion
+                && ((CacheableConversion) this).isConversionCacheable();
+    }
+
+    /**
+     * @return The cache for the results of conversions for this field, or
+     *   {@code null} if conversions are not cached
+     * @since 5.12
+     */
+    public ConversionCache getConversionCache() {
+        return conversionCache;
+    }
+
+    /**
+     * Sets the cache for the results of conversions for this field.
+     * <p>This is normally done by the mapping strategy, and only if
+     * {@link #canCacheConversions()} returns {@code true}.</p>
+     *
+     * @param conversionCache The cache to be used, or {@code null} to turn
+     *                        caching off
+     * @since 5.12
+     */
+    public void setConversionCache(ConversionCache conversionCache) {
+        this.conversionCache = conversionCache;
     }
 
     private String preProcessValue(PreAssignmentProcessor processor, String value) throws CsvValidationException {
@@ -299,6 +360,28 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
         }
     }
 
+    /**
+     * Offers derived classes the opportunity to convert and assign a value to
+     * a primitive field without boxing the intermediate result.
+     * <p>This is called after all preprocessing and validation of the input
+     * and before {@link #convert(String)}. If it returns {@code true},
+     * neither {@link #convert(String)} nor
+     * {@link #assignValueToField(Object, Object, String)} is called for this
+     * value.</p>
+     * <p>The default implementation does nothing and returns {@code false}.</p>
+     *
+     * @param bean  The bean in which the field is located
+     * @param value The string from the selected field of the CSV file
+     * @return Whether the value was completely dealt with by this method
+     * @throws CsvDataTypeMismatchException If the input string cannot be
+     *                                      converted into the proper type
+     * @since 5.12
+     */
+    protected boolean assignPrimitiveValueToField(Object bean, String value)
+            throws CsvDataTypeMismatchException {
+        return false;
+    }
+
     /**
      * Method for converting from a string to the proper datatype of the
      * destination field.
@@ -25,13 +25,14 @@ import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * This class collects as many generally useful parts of the implementation
@@ -60,6 +61,46 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     private static final Set<Class> FORBIDDEN_CLASSES_FOR_RECURSION = new HashSet<>(Arrays.asList(Byte.TYPE, Short.TYPE,
             Integer.TYPE, Float.TYPE, Double.TYPE, Boolean.TYPE, Long.TYPE, Character.TYPE));
 
+    /**
+     * Whether a mapping strategy class overrides one of the methods that
+     * determine the tree of embedded beans and the fields to be bound, in
+     * which case they cannot be taken from the {@link IntrospectionCache}.
+     */
+    private static final ClassValue<Boolean> CUSTOM_INTROSPECTION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> strategyClass) {
+            return overrides(strategyClass, "loadRecursiveClasses", Class.class, Set.class)
+                    || overrides(strategyClass, "partitionFields")
+                    || overrides(strategyClass, "filterIgnoredFields", Class.class, Field[].class)
+                    || overrides(strategyClass, "isForbiddenClassForRecursion", Class.class);
+        }
+    };
+
+    /**
+     * Whether a mapping strategy class overrides
+     * {@link #setFieldValue(Map, String, int)}, in which case it must be
+     * called for every column instead of following the {@link ReadPlan}.
+     */
+    private static final ClassValue<Boolean> CUSTOM_ASSIGNMENT = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> strategyClass) {
+            return overrides(strategyClass, "setFieldValue", Map.class, String.class, Integer.TYPE);
+        }
+    };
+
+    /**
+     * Whether a mapping strategy class overrides one of the methods through
+     * which existing beans are populated, in which case they must be called
+     * even if there are no subordinate beans.
+     */
+    private static final ClassValue<Boolean> CUSTOM_POPULATION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> strategyClass) {
+            return overrides(strategyClass, "completeBean", Object.class)
+                    || CUSTOM_ASSIGNMENT.get(strategyClass);
+        }
+    };
+
     /** This is the class of the bean to be manipulated. */
     protected Class<? extends T> type;
     
@@ -86,6 +127,31 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     /** The profile for configuring bean fields. */
     protected String profile = StringUtils.EMPTY;
 
+    /**
+     * Whether the built-in conversion of primitives and other standard types
+     * is delegated to Apache Commons BeanUtils.
+     */
+    protected boolean beanUtilsConversion = false;
+
+    /**
+     * The maximum number of conversion results cached per bean field, or
+     * zero if conversion results are not cached.
+     */
+    protected int conversionCacheSize = 0;
+
+    /**
+     * What {@link #transmuteBean(Object)} writes to which column, or
+     * {@code null} if not yet determined.
+     */
+    private volatile WritePlan<T, K> writePlan;
+
+    /**
+     * Which bean field and header {@link #populateNewBean(String[])} and
+     * {@link #populateExistingBean(Object, String[])} use for which column,
+     * or {@code null} if not yet determined.
+     */
+    private volatile ReadPlan<T, K> readPlan;
+
     /**
      * For {@link BeanField#indexAndSplitMultivaluedField(java.lang.Object, java.lang.Object)}
      * it is necessary to determine which index to pass in.
@@ -197,7 +263,7 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         // Create the root bean and all beans underneath it
         Map<Class<?>, Object> instanceMap = new HashMap<>();
         try {
-            T rootBean = type.newInstance();
+            T rootBean = type.cast(newInstance(type));
             instanceMap.put(type, rootBean);
             createSubordinateBeans(recursiveTypeTree, instanceMap, rootBean);
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
@@ -213,12 +279,46 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         return instanceMap;
     }
 
+    /**
+     * Indexes an existing bean and all beans underneath it, creating any
+     * subordinate beans that do not yet exist.
+     *
+     * @param bean The root bean
+     * @return The index from type to instance
+     * @throws CsvBeanIntrospectionException If a subordinate bean cannot be
+     *   accessed or created
+     * @throws IllegalStateException If the type of the bean has not been
+     *   initialized through {@link #setType(java.lang.Class)}
+     * @since 5.12
+     */
+    protected Map<Class<?>, Object> completeBean(T bean)
+            throws CsvBeanIntrospectionException, IllegalStateException {
+        if(type == null) {
+            throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("type.unset"));
+        }
+
+        Map<Class<?>, Object> instanceMap = new HashMap<>();
+        try {
+            instanceMap.put(type, bean);
+            createSubordinateBeans(recursiveTypeTree, instanceMap, bean);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
+                    ResourceBundle.getBundle(
+                            ICSVParser.DEFAULT_BUNDLE_NAME,
+                            errorLocale)
+                            .getString("bean.instantiation.impossible"));
+            csve.initCause(e);
+            throw csve;
+        }
+        return instanceMap;
+    }
+
     private static void createSubordinateBeans(RecursiveType typeTree, Map<Class<?>, Object> instanceMap, Object containingObject)
             throws InstantiationException, IllegalAccessException, InvocationTargetException {
         for(Map.Entry<FieldAccess<Object>, RecursiveType> entry : typeTree.getRecursiveMembers().entrySet()) {
             Object childObject = entry.getKey().getField(containingObject);
             if(childObject == null) {
-                childObject = entry.getValue().type.newInstance();
+                childObject = newInstance(entry.getValue().type);
                 entry.getKey().setField(containingObject, childObject);
             }
             instanceMap.put(entry.getValue().getType(), childObject);
@@ -226,6 +326,21 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         }
     }
 
+    /**
+     * Creates a new instance of a bean, using generated code if available
+     * and reflection otherwise.
+     *
+     * @param beanType The type of the bean to be created
+     * @return A new instance of the bean
+     * @see GeneratedBeanAccess#constructor()
+     */
+    private static Object newInstance(Class<?> beanType)
+            throws InstantiationException, IllegalAccessException {
+        GeneratedBeanAccess generated = IntrospectionCache.generatedAccess(beanType);
+        Supplier<Object> constructor = generated == null ? null : generated.constructor();
+        return constructor != null ? constructor.get() : beanType.newInstance();
+    }
+
     /**
      * Creates an index of necessary types according to the mapping strategy
      * and existing instances of (subordinate) beans.
@@ -320,6 +435,17 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         return type;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Which bean field and which header belong to which column is
+     * determined once, when the first line is read after the header has
+     * been captured or the field map has been loaded, and kept in a
+     * {@link ReadPlan}. Derived classes whose {@link #findField(int)} or
+     * {@link #findHeader(int)} can change their answers at any other time
+     * must call {@link #invalidateReadPlan()} when they do. Derived classes
+     * that override {@link #setFieldValue(Map, String, int)} are called for
+     * every column instead.</p>
+     */
     @SuppressWarnings("unchecked")
     @Override
     public T populateNewBean(String[] line)
@@ -327,11 +453,65 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             CsvChainedException {
         verifyLineLength(line.length);
         Map<Class<?>, Object> beanTree = createBean();
+        populateBeanTree(null, beanTree, line);
+        return (T)beanTree.get(type);
+    }
+
+    @Override
+    public T populateExistingBean(T bean, String[] line)
+            throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
+            CsvChainedException {
+        verifyLineLength(line.length);
+        if(recursiveTypeTree != null && recursiveTypeTree.getRecursiveMembers().isEmpty()
+                && !CUSTOM_POPULATION.get(getClass())) {
+            // Without subordinate beans, there is nothing to complete and
+            // nothing to index
+            populateBeanTree(bean, null, line);
+        }
+        else {
+            populateBeanTree(null, completeBean(bean), line);
+        }
+        return bean;
+    }
 
+    /**
+     * Assigns all values from a line of input to the fields of the
+     * appropriate beans.
+     *
+     * @param bean     The root bean, if there are no subordinate beans and
+     *                 {@code beanTree} is {@code null}
+     * @param beanTree The beans to be populated, indexed by type, or
+     *                 {@code null} if only {@code bean} is to be populated
+     * @param line     The line of input
+     * @throws CsvFieldAssignmentException If exactly one value could not be
+     *   assigned
+     * @throws CsvChainedException If more than one value could not be
+     *   assigned
+     */
+    private void populateBeanTree(T bean, Map<Class<?>, Object> beanTree, String[] line)
+            throws CsvFieldAssignmentException, CsvChainedException {
+        ReadPlan<T, K> plan = CUSTOM_ASSIGNMENT.get(getClass()) ? null : readPlan(line.length);
         CsvChainedException chainedException = null;
         for (int col = 0; col < line.length; col++) {
             try {
-                setFieldValue(beanTree, line[col], col);
+                if(plan == null) {
+                    setFieldValue(beanTree, line[col], col);
+                }
+                else {
+                    // As setFieldValue() would, only without looking up the
+                    // field and header again
+                    BeanField<T, K> beanField = plan.fields[col];
+                    if(beanField != null) {
+                        Object instance;
+                        if(beanTree != null) {
+                            instance = beanTree.get(beanField.getType());
+                        }
+                        else {
+                            instance = Objects.equals(beanField.getType(), type) ? bean : null;
+                        }
+                        beanField.setFieldValue(instance, line[col], plan.headers[col]);
+                    }
+                }
             } catch (CsvFieldAssignmentException e) {
                 if(chainedException != null) {
                     chainedException.add(e);
@@ -347,7 +527,28 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             }
             throw chainedException;
         }
-        return (T)beanTree.get(type);
+    }
+
+    /**
+     * Returns the current {@link ReadPlan}, determining it anew if the
+     * header has changed since or it does not cover enough columns.
+     *
+     * @param numColumns The number of columns the plan must cover
+     * @return A plan covering at least {@code numColumns} columns
+     */
+    private ReadPlan<T, K> readPlan(int numColumns) {
+        ReadPlan<T, K> plan = readPlan;
+        if(plan == null || plan.headerModificationCount != headerIndex.getModificationCount()) {
+            plan = new ReadPlan<>(this, numColumns);
+            readPlan = plan;
+        }
+        else if(plan.fields.length < numColumns) {
+            // Lines of different lengths are allowed, so grow the plan
+            // rather than rebuilding it for every other line
+            plan = new ReadPlan<>(this, Math.max(numColumns, 2*plan.fields.length));
+            readPlan = plan;
+        }
+        return plan;
     }
     
     /**
@@ -373,6 +574,92 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         this.profile = StringUtils.defaultString(profile);
     }
 
+    /**
+     * Determines whether the conversion of primitives, their wrappers,
+     * {@link String}, {@link java.math.BigDecimal} and
+     * {@link java.math.BigInteger} is delegated to Apache Commons BeanUtils.
+     * <p>By default, opencsv converts these types itself, which is faster and
+     * requires no synchronization between threads. Delegating to BeanUtils
+     * restores the behavior of earlier versions of opencsv, including any
+     * converters registered globally with BeanUtils.</p>
+     *
+     * @param beanUtilsConversion Whether BeanUtils should be used for all
+     *                            conversions of standard types
+     * @since 5.12
+     */
+    public void setBeanUtilsConversion(boolean beanUtilsConversion) {
+        this.beanUtilsConversion = beanUtilsConversion;
+
+        // Reload field map
+        if(this.type != null) {
+            loadFieldMap();
+        }
+    }
+
+    /**
+     * Enables or disables caching the results of conversions.
+     * <p>For every bean field whose conversions are
+     * {@link CacheableConversion cacheable}, the converted values for up to
+     * {@code conversionCacheSize} distinct input strings are kept and reused.
+     * This benefits columns with few distinct values, such as enumerations,
+     * status codes, currencies or dates. Out of the box, the conversions of
+     * enumerations, numbers with {@link CsvNumber}, {@link java.util.Currency},
+     * {@link java.util.UUID} and the types of {@code java.time} are
+     * cacheable. Custom converters can declare themselves cacheable by
+     * implementing {@link CacheableConversion}.</p>
+     * <p>By default, nothing is cached.</p>
+     *
+     * @param conversionCacheSize The maximum number of entries in the cache
+     *                            for each bean field. Zero or less disables
+     *                            the cache.
+     * @see #getConversionCaches()
+     * @since 5.12
+     */
+    public void setConversionCacheSize(int conversionCacheSize) {
+        this.conversionCacheSize = Math.max(conversionCacheSize, 0);
+        if (getFieldMap() != null) {
+            createConversionCaches();
+        }
+    }
+
+    /**
+     * Gives every bean field that can cache its conversions a new cache of
+     * the configured size, or removes all caches if caching is disabled.
+     */
+    private void createConversionCaches() {
+        for (BeanField<T, K> beanField : getFieldMap().values()) {
+            if (beanField instanceof AbstractBeanField) {
+                AbstractBeanField<T, K> abf = (AbstractBeanField<T, K>) beanField;
+                abf.setConversionCache(conversionCacheSize > 0 && abf.canCacheConversions()
+                        ? new ConversionCache(conversionCacheSize) : null);
+            }
+        }
+    }
+
+    /**
+     * Provides the caches for conversion results, so that their
+     * effectiveness can be monitored.
+     *
+     * @return A map from the fields whose conversions are cached to their
+     *   caches. Empty if caching is disabled.
+     * @see #setConversionCacheSize(int)
+     * @since 5.12
+     */
+    public Map<Field, ConversionCache> getConversionCaches() {
+        Map<Field, ConversionCache> caches = new HashMap<>();
+        if (getFieldMap() != null) {
+            for (BeanField<T, K> beanField : getFieldMap().values()) {
+                if (beanField instanceof AbstractBeanField) {
+                    ConversionCache cache = ((AbstractBeanField<T, K>) beanField).getConversionCache();
+                    if (cache != null) {
+                        caches.put(beanField.getField(), cache);
+                    }
+                }
+            }
+        }
+        return caches;
+    }
+
     @Override
     public void ignoreFields(MultiValuedMap<Class<?>, Field> fields)  throws IllegalArgumentException {
 
@@ -427,6 +714,16 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
 
     /**
      * Builds a map of columns from the input to fields of the bean type.
+     * <p>The tree of embedded beans and the partitioned fields determined by
+     * {@link #loadRecursiveClasses(Class, Set)} and {@link #partitionFields()}
+     * depend only on the bean type, the binding annotations, the profile and
+     * the fields to be ignored. Unless a derived class overrides one of the
+     * methods involved in determining them, they are cached process-wide and
+     * shared by every mapping strategy for the same type. If code was
+     * generated for a bean type by
+     * {@link com.opencsv.bean.apt.CsvBindingProcessor}, the fields of the type
+     * and their annotations are taken from it instead of being searched for
+     * with reflection.</p>
      *
      * @throws CsvBadConverterException If there is a problem instantiating the
      *                                  custom converter for an annotated field
@@ -434,19 +731,40 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     protected void loadFieldMap() throws CsvBadConverterException {
 
         // Setup
+        invalidateWritePlan();
+        invalidateReadPlan();
         initializeFieldMap();
 
-        // Deal with embedded classes through recursion
-        recursiveTypeTree = loadRecursiveClasses(this.type, new HashSet<>());
+        // Deal with embedded classes through recursion, and partition the
+        // fields, or take both from the cache
+        Map<Boolean, ListValuedMap<Class<?>, Field>> partitionedFields;
+        if(CUSTOM_INTROSPECTION.get(getClass())) {
+            recursiveTypeTree = loadRecursiveClasses(this.type, new HashSet<>());
+            partitionedFields = partitionFields();
+        }
+        else {
+            Introspection introspection = IntrospectionCache.get(this.type,
+                    Arrays.asList(Introspection.class, getBindingAnnotations(), profile,
+                            ignoredFields.isEmpty() ? Collections.emptySet() : new HashSet<>(ignoredFields.entries())),
+                    () -> {
+                        RecursiveType tree = loadRecursiveClasses(this.type, new HashSet<>());
+                        return new Introspection(tree, partitionFields(tree));
+                    });
+            recursiveTypeTree = introspection.recursiveTypeTree;
+            partitionedFields = introspection.partitionedFields();
+        }
 
         // Populate the field map according to annotations or not
-        Map<Boolean, ListValuedMap<Class<?>, Field>> partitionedFields = partitionFields();
         if(!partitionedFields.get(Boolean.TRUE).isEmpty()) {
             loadAnnotatedFieldMap(partitionedFields.get(Boolean.TRUE));
         }
         else {
             loadUnadornedFieldMap(partitionedFields.get(Boolean.FALSE));
         }
+
+        if (conversionCacheSize > 0) {
+            createConversionCaches();
+        }
     }
 
     /**
@@ -495,11 +813,12 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
 
         // Find types to recurse through
         RecursiveType localRecursiveTypeTree = new RecursiveType(newType);
-        for(Field f : filterIgnoredFields(newType, FieldUtils.getFieldsWithAnnotation(newType, CsvRecurse.class))) {
+        IntrospectionCache.FieldTable fieldTable = IntrospectionCache.fieldTable(newType);
+        for(Field f : filterIgnoredFields(newType, fieldTable.getFieldsWithAnnotation(CsvRecurse.class))) {
 
             // Types that are recursed into cannot also be bound
             Set<Class<? extends Annotation>> bindingAnnotations = getBindingAnnotations();
-            if(bindingAnnotations.stream().anyMatch(f::isAnnotationPresent)) {
+            if(bindingAnnotations.stream().anyMatch(a -> fieldTable.isAnnotationPresent(f, a))) {
                 throw new CsvRecursionException(
                         ResourceBundle.getBundle(
                                 ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
@@ -509,7 +828,7 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
 
             // Recurse into that type
             localRecursiveTypeTree.addRecursiveMember(
-                    new FieldAccess<>(f),
+                    FieldAccess.forField(f),
                     loadRecursiveClasses(f.getType(), encounteredTypes));
         }
 
@@ -526,7 +845,8 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      *                          be added to and is the result of this method.
      */
     private void assembleCompleteFieldList(RecursiveType root, final ListValuedMap<Class<?>, Field> encounteredFields) {
-        encounteredFields.putAll(root.type, filterIgnoredFields(root.type, FieldUtils.getAllFields(root.type)));
+        encounteredFields.putAll(root.type, filterIgnoredFields(root.type,
+                IntrospectionCache.fieldTable(root.type).getFields()));
         root.getRecursiveMembers().values().forEach(f -> assembleCompleteFieldList(f, encounteredFields));
     }
 
@@ -541,9 +861,20 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      * @since 5.0
      */
     protected Map<Boolean, ListValuedMap<Class<?>, Field>> partitionFields() {
+        return partitionFields(recursiveTypeTree);
+    }
+
+    /**
+     * Partitions all non-synthetic fields of the types in a tree of embedded
+     * beans.
+     *
+     * @param root The root of the tree of embedded beans
+     * @return The partitioned fields as described for {@link #partitionFields()}
+     */
+    private Map<Boolean, ListValuedMap<Class<?>, Field>> partitionFields(RecursiveType root) {
         // Get a flat list of all fields
         ListValuedMap<Class<?>, Field> allFields = new ArrayListValuedHashMap<>();
-        assembleCompleteFieldList(recursiveTypeTree, allFields);
+        assembleCompleteFieldList(root, allFields);
 
         // Determine which annotations need be considered
         final Set<Class<? extends Annotation>> bindingAnnotations = getBindingAnnotations();
@@ -556,8 +887,9 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         allFields.entries().stream()
                 .filter(entry -> !entry.getValue().isSynthetic())
                 .forEach(entry -> {
+                    IntrospectionCache.FieldTable fieldTable = IntrospectionCache.fieldTable(entry.getKey());
                     if(bindingAnnotations.stream()
-                            .anyMatch(a -> entry.getValue().isAnnotationPresent(a))) {
+                            .anyMatch(a -> fieldTable.isAnnotationPresent(entry.getValue(), a))) {
                         returnValue.get(Boolean.TRUE).put(entry.getKey(), entry.getValue());
                     }
                     else {
@@ -632,96 +964,88 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         }
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>Which bean field and which index are written to which column is
+     * determined once, when the first bean is written after the header has
+     * been generated or the field map has been loaded, and kept in a
+     * {@link WritePlan}. Derived classes whose {@link #findField(int)} or
+     * {@link #chooseMultivaluedFieldIndexFromHeaderIndex(int)} can change
+     * their answers at any other time must call {@link #invalidateWritePlan()}
+     * when they do.</p>
+     */
     @Override
     public String[] transmuteBean(T bean) throws CsvFieldAssignmentException, CsvChainedException {
-        int numColumns = headerIndex.findMaxIndex()+1;
-        BeanField<T, K> firstBeanField, subsequentBeanField;
-        K firstIndex, subsequentIndex;
-        List<String> contents = new ArrayList<>(Math.max(numColumns, 0));
-
-        // Create a map of types to instances of subordinate beans
-        Map<Class<?>, Object> instanceMap;
-        try {
-            instanceMap = indexBean(bean);
+        WritePlan<T, K> plan = writePlan;
+        if(plan == null || plan.headerModificationCount != headerIndex.getModificationCount()) {
+            plan = new WritePlan<>(this);
+            writePlan = plan;
         }
-        catch(IllegalAccessException | InvocationTargetException e) {
-            // Our testing indicates these exceptions probably can't be thrown,
-            // but they're declared, so we have to deal with them. It's an
-            // alibi catch block.
-            CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
-                    ResourceBundle.getBundle(
-                            ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                            .getString("error.introspecting.beans"));
-            csve.initCause(e);
-            throw csve;
+        String[] contents = new String[plan.numColumns];
+
+        // Create a map of types to instances of subordinate beans, if there
+        // are any
+        Map<Class<?>, Object> instanceMap = null;
+        if(plan.indexBeans) {
+            try {
+                instanceMap = indexBean(bean);
+            }
+            catch(IllegalAccessException | InvocationTargetException e) {
+                // Our testing indicates these exceptions probably can't be thrown,
+                // but they're declared, so we have to deal with them. It's an
+                // alibi catch block.
+                CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
+                        ResourceBundle.getBundle(
+                                ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("error.introspecting.beans"));
+                csve.initCause(e);
+                throw csve;
+            }
         }
 
         CsvChainedException chainedException = null;
-        for(int i = 0; i < numColumns;) {
-
-            // Determine the first value
-            firstBeanField = findField(i);
-            firstIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
-            String[] fields = ArrayUtils.EMPTY_STRING_ARRAY;
-            if(firstBeanField != null) {
-                try {
-                    fields = firstBeanField.write(instanceMap.get(firstBeanField.getType()), firstIndex);
-                }
-                catch(CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
-                    if(chainedException != null) {
-                        chainedException.add(e);
+        int i = 0;
+        for(WriteRun<T, K> run : plan.runs) {
+            final int end = i + run.length;
+            while(i < end) {
+                String[] fields = ArrayUtils.EMPTY_STRING_ARRAY;
+                if(run.field != null) {
+                    Object instance;
+                    if(instanceMap != null) {
+                        instance = instanceMap.get(run.field.getType());
                     }
                     else {
-                        chainedException = new CsvChainedException(e);
+                        instance = run.ofRootType ? bean : null;
+                    }
+                    try {
+                        fields = run.field.write(instance, run.index);
+                    }
+                    catch(CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
+                        if(chainedException != null) {
+                            chainedException.add(e);
+                        }
+                        else {
+                            chainedException = new CsvChainedException(e);
+                        }
                     }
                 }
-            }
-
-            if(fields.length == 0) {
 
-                // Write the only value
-                contents.add(StringUtils.EMPTY);
-                i++; // Advance the index
-            }
-            else {
+                if(fields.length == 0) {
 
-                // Multiple values. Write the first.
-                contents.add(StringUtils.defaultString(fields[0]));
-
-                // Now write the rest.
-                // We must make certain that we don't write more fields
-                // than we have columns of the correct type to cover them.
-                int j = 1;
-                int displacedIndex = i+j;
-                subsequentBeanField = findField(displacedIndex);
-                subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(displacedIndex);
-                while(j < fields.length
-                        && displacedIndex < numColumns
-                        && Objects.equals(firstBeanField, subsequentBeanField)
-                        && Objects.equals(firstIndex, subsequentIndex)) {
-                    // This field still has a header, so add it
-                    contents.add(StringUtils.defaultString(fields[j]));
-
-                    // Prepare for the next loop through
-                    displacedIndex = i + (++j);
-                    subsequentBeanField = findField(displacedIndex);
-                    subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(displacedIndex);
+                    // Write the only value and try the next column of the
+                    // run again
+                    contents[i++] = StringUtils.EMPTY;
                 }
+                else {
 
-                i = displacedIndex; // Advance the index
-
-                // And here's where we fill in any fields that are missing to
-                // cover the number of columns of the same type
-                if(i < numColumns) {
-                    subsequentBeanField = findField(i);
-                    subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
-                    while(Objects.equals(firstBeanField, subsequentBeanField)
-                            && Objects.equals(firstIndex, subsequentIndex)
-                            && i < numColumns) {
-                        contents.add(StringUtils.EMPTY);
-                        subsequentBeanField = findField(++i);
-                        subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
+                    // Write as many values as there are columns for the
+                    // field, and fill in any columns left over
+                    int written = Math.min(fields.length, end - i);
+                    for(int j = 0; j < written; j++) {
+                        contents[i++] = StringUtils.defaultString(fields[j]);
                     }
+                    Arrays.fill(contents, i, end, StringUtils.EMPTY);
+                    i = end;
                 }
             }
         }
@@ -734,7 +1058,56 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             throw chainedException;
         }
 
-        return contents.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+        return contents;
+    }
+
+    /**
+     * Discards the plan {@link #transmuteBean(Object)} uses to write beans,
+     * so that it is determined anew for the next bean.
+     * This must be called whenever the results of {@link #findField(int)}
+     * or {@link #chooseMultivaluedFieldIndexFromHeaderIndex(int)} change
+     * without a change to {@link #headerIndex}.
+     *
+     * @since 5.12
+     */
+    protected void invalidateWritePlan() {
+        writePlan = null;
+    }
+
+    /**
+     * Discards the plan {@link #populateNewBean(String[])} and
+     * {@link #populateExistingBean(Object, String[])} use to read lines,
+     * so that it is determined anew for the next line.
+     * This must be called whenever the results of {@link #findField(int)}
+     * or {@link #findHeader(int)} change without a change to
+     * {@link #headerIndex}.
+     *
+     * @since 5.12
+     */
+    protected void invalidateReadPlan() {
+        readPlan = null;
+    }
+
+    /**
+     * Determines whether a class derived from {@link AbstractMappingStrategy}
+     * overrides one of its methods.
+     *
+     * @param strategyClass The class derived from this one
+     * @param name The name of the method
+     * @param parameterTypes The parameter types of the method
+     * @return Whether {@code strategyClass} or one of its superclasses below
+     *   this one declares the method
+     */
+    static boolean overrides(Class<?> strategyClass, String name, Class<?>... parameterTypes) {
+        for(Class<?> c = strategyClass; c != AbstractMappingStrategy.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Keep looking
+            }
+        }
+        return false;
     }
 
     /**
@@ -829,7 +1202,7 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         }
         // Otherwise a primitive
         else {
-            converter = new ConverterPrimitiveTypes(elementType, locale, writeLocale, errorLocale);
+            converter = new ConverterPrimitiveTypes(elementType, locale, writeLocale, errorLocale, beanUtilsConversion);
         }
 
         return converter;
@@ -867,13 +1240,127 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         return defaultAnnotation;
     }
 
+    /**
+     * The tree of embedded beans and the partitioned fields of a bean type,
+     * as kept in the {@link IntrospectionCache}.
+     * Neither can be changed, so they may be shared by all mapping
+     * strategies.
+     */
+    private static final class Introspection {
+        private final RecursiveType recursiveTypeTree;
+        private final Map<Boolean, List<Map.Entry<Class<?>, Field>>> partitionedFields = new TreeMap<>();
+
+        Introspection(RecursiveType recursiveTypeTree, Map<Boolean, ListValuedMap<Class<?>, Field>> partitionedFields) {
+            this.recursiveTypeTree = new RecursiveType(recursiveTypeTree);
+            partitionedFields.forEach((annotated, fields) -> this.partitionedFields.put(annotated,
+                    Collections.unmodifiableList(fields.entries().stream()
+                            .map(e -> new AbstractMap.SimpleImmutableEntry<Class<?>, Field>(e.getKey(), e.getValue()))
+                            .collect(Collectors.toList()))));
+        }
+
+        /**
+         * @return A copy of the partitioned fields that belongs to the caller
+         */
+        Map<Boolean, ListValuedMap<Class<?>, Field>> partitionedFields() {
+            Map<Boolean, ListValuedMap<Class<?>, Field>> copy = new TreeMap<>();
+            partitionedFields.forEach((annotated, fields) -> {
+                ListValuedMap<Class<?>, Field> map = new ArrayListValuedHashMap<>();
+                fields.forEach(e -> map.put(e.getKey(), e.getValue()));
+                copy.put(annotated, map);
+            });
+            return copy;
+        }
+    }
+
+    /**
+     * Consecutive columns written from the same bean field with the same
+     * index.
+     * Not changed once the {@link WritePlan} it belongs to is constructed.
+     */
+    private static class WriteRun<T, K> {
+        final BeanField<T, K> field;
+        final K index;
+        final boolean ofRootType;
+        int length = 1;
+
+        WriteRun(BeanField<T, K> field, K index, Class<?> rootType) {
+            this.field = field;
+            this.index = index;
+            this.ofRootType = field != null && Objects.equals(field.getType(), rootType);
+        }
+
+        boolean covers(BeanField<T, K> otherField, K otherIndex) {
+            return Objects.equals(field, otherField) && Objects.equals(index, otherIndex);
+        }
+    }
+
+    /**
+     * Everything {@link #transmuteBean(Object)} needs to know about the
+     * columns to be written, so that it need not be determined anew for
+     * every column of every bean.
+     * Immutable once constructed.
+     */
+    private static class WritePlan<T, K extends Comparable<K>> {
+        final int headerModificationCount;
+        final int numColumns;
+        final List<WriteRun<T, K>> runs = new ArrayList<>();
+        final boolean indexBeans;
+
+        WritePlan(AbstractMappingStrategy<?, K, ?, T> strategy) {
+            headerModificationCount = strategy.headerIndex.getModificationCount();
+            numColumns = Math.max(strategy.headerIndex.findMaxIndex()+1, 0);
+            WriteRun<T, K> run = null;
+            for(int i = 0; i < numColumns; i++) {
+                BeanField<T, K> field = strategy.findField(i);
+                K index = strategy.chooseMultivaluedFieldIndexFromHeaderIndex(i);
+                if(run != null && run.covers(field, index)) {
+                    run.length++;
+                }
+                else {
+                    run = new WriteRun<>(field, index, strategy.type);
+                    runs.add(run);
+                }
+            }
+
+            // Subordinate beans must be looked up, and so must all beans
+            // if a derived class decides how
+            indexBeans = (strategy.recursiveTypeTree != null
+                    && !strategy.recursiveTypeTree.getRecursiveMembers().isEmpty())
+                    || overrides(strategy.getClass(), "indexBean", Object.class);
+        }
+    }
+
+    /**
+     * The bean field and the header for every column of the input, so that
+     * they need not be looked up anew for every column of every line.
+     * Immutable once constructed.
+     */
+    private static class ReadPlan<T, K extends Comparable<K>> {
+        final int headerModificationCount;
+        final BeanField<T, K>[] fields;
+        final String[] headers;
+
+        @SuppressWarnings("unchecked")
+        ReadPlan(AbstractMappingStrategy<?, K, ?, T> strategy, int numColumns) {
+            headerModificationCount = strategy.headerIndex.getModificationCount();
+            fields = (BeanField<T, K>[]) new BeanField<?, ?>[numColumns];
+            headers = new String[numColumns];
+            for(int col = 0; col < numColumns; col++) {
+                fields[col] = strategy.findField(col);
+                if(fields[col] != null) {
+                    headers[col] = strategy.findHeader(col);
+                }
+            }
+        }
+    }
+
     /**
      * Encapsulates a bean type and all of the member variables that need to be
      * recursed into.
      */
     protected static class RecursiveType {
         private final Class<?> type;
-        private final Map<FieldAccess<Object>, RecursiveType> recursiveMembers = new HashMap<>();
+        private final Map<FieldAccess<Object>, RecursiveType> recursiveMembers;
 
         /**
          * Constructs a {@link RecursiveType} with the specified type.
@@ -882,6 +1369,19 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
          */
         protected RecursiveType(Class<?> type) {
             this.type = type;
+            this.recursiveMembers = new HashMap<>();
+        }
+
+        /**
+         * Copies a tree. No members can be added to the copy.
+         *
+         * @param original The tree to be copied
+         */
+        private RecursiveType(RecursiveType original) {
+            this.type = original.type;
+            Map<FieldAccess<Object>, RecursiveType> members = new HashMap<>();
+            original.recursiveMembers.forEach((member, memberType) -> members.put(member, new RecursiveType(memberType)));
+            this.recursiveMembers = Collections.unmodifiableMap(members);
         }
 
         /**
@@ -3,6 +3,12 @@ package com.opencsv.bean;
 public abstract class AbstractMappingStrategyBuilder<S, T extends MappingStrategy<S>>  {
     protected Class<? extends S> type;
 
+    /** Whether standard types are converted through Apache Commons BeanUtils. */
+    protected boolean beanUtilsConversion = false;
+
+    /** The maximum number of cached conversion results per bean field. */
+    protected int conversionCacheSize = 0;
+
     /**
      * Add type to the builder.  Will be passed to the strategy when the build is called.
      *
@@ -14,6 +20,39 @@ public abstract class AbstractMappingStrategyBuilder<S, T extends MappingStrateg
         return this;
     }
 
+    /**
+     * Delegates the conversion of primitives, their wrappers, strings,
+     * {@link java.math.BigDecimal} and {@link java.math.BigInteger} to
+     * Apache Commons BeanUtils instead of opencsv's own converters.
+     * <p>The default is {@code false}.</p>
+     *
+     * @param beanUtilsConversion Whether BeanUtils should be used
+     * @return {@code this}
+     * @see AbstractMappingStrategy#setBeanUtilsConversion(boolean)
+     * @since 5.12
+     */
+    public AbstractMappingStrategyBuilder<S, T> withBeanUtilsConversion(boolean beanUtilsConversion) {
+        this.beanUtilsConversion = beanUtilsConversion;
+        return this;
+    }
+
+    /**
+     * Caches the results of converting up to {@code conversionCacheSize}
+     * distinct input strings for every bean field whose conversions are
+     * {@link CacheableConversion cacheable}.
+     * <p>The default is zero, which disables the cache.</p>
+     *
+     * @param conversionCacheSize The maximum number of entries in the cache
+     *                            for each bean field
+     * @return {@code this}
+     * @see AbstractMappingStrategy#setConversionCacheSize(int)
+     * @since 5.12
+     */
+    public AbstractMappingStrategyBuilder<S, T> withConversionCacheSize(int conversionCacheSize) {
+        this.conversionCacheSize = conversionCacheSize;
+        return this;
+    }
+
     /**
      * Builds a new mapping strategy for parsing/writing.
      * @return A new mapping strategy using the options selected
@@ -18,11 +18,13 @@ package com.opencsv.bean;
 import com.opencsv.ICSVParser;
 import com.opencsv.bean.util.OpencsvUtils;
 import com.opencsv.exceptions.CsvBadConverterException;
+import com.opencsv.exceptions.CsvBeanIntrospectionException;
 import com.opencsv.exceptions.CsvConstraintViolationException;
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.regex.Matcher;
@@ -38,6 +40,63 @@ import java.util.regex.Pattern;
  */
 public class BeanFieldSingleValue<T, I> extends AbstractBeanField<T, I> {
 
+    /**
+     * Whether a class derived from this one overrides
+     * {@link #convert(String)} or
+     * {@link #assignValueToField(Object, Object, String)}, in which case
+     * values must not be converted and assigned without them.
+     */
+    private static final ClassValue<Boolean> CUSTOM_ASSIGNMENT = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for(Class<?> c = type; c != BeanFieldSingleValue.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("convert", String.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // Keep looking
+                }
+                try {
+                    c.getDeclaredMethod("assignValueToField", Object.class, Object.class, String.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // Keep looking
+                }
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Whether a converter class overrides
+     * {@link CsvConverter#convertToRead(String)} below the class that
+     * implements {@link IntConverter#convertToInt(String)},
+     * {@link LongConverter#convertToLong(String)} or
+     * {@link DoubleConverter#convertToDouble(String)}, in which case those
+     * methods might not convert as the override does.
+     */
+    private static final ClassValue<Boolean> CUSTOM_CONVERSION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Class<?> conversion;
+            try {
+                conversion = type.getMethod("convertToRead", String.class).getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+            for(String name : new String[]{"convertToInt", "convertToLong", "convertToDouble"}) {
+                try {
+                    if(!conversion.isAssignableFrom(type.getMethod(name, String.class).getDeclaringClass())) {
+                        return true;
+                    }
+                } catch (NoSuchMethodException e) {
+                    // Not a converter for this primitive
+                }
+            }
+            return false;
+        }
+    };
+
     /**
      * The regular expression to be used for capturing part of the input for
      * processing. If there was no regular expression specified, this field
@@ -72,8 +131,8 @@ public class BeanFieldSingleValue<T, I> extends AbstractBeanField<T, I> {
                                 Locale errorLocale, CsvConverter converter,
                                 String capture, String format) {
         super(type, field, required, errorLocale, converter);
-        this.capture = OpencsvUtils.compilePatternAtLeastOneGroup(
-                capture, 0, BeanFieldSingleValue.class, this.errorLocale);
+        this.capture = IntrospectionCache.compilePattern(field,
+                capture, 0, true, BeanFieldSingleValue.class, this.errorLocale);
         this.writeFormat = format;
 
         // Verify that the format string works as expected
@@ -81,20 +140,100 @@ public class BeanFieldSingleValue<T, I> extends AbstractBeanField<T, I> {
     }
 
     /**
-     * Passes the string to be converted to the converter.
-     * @throws CsvBadConverterException If the converter is null
+     * Applies {@link #capture} to the input, if a capture expression was given.
+     *
+     * @param value The input string
+     * @return The first capture group if the input matches, otherwise the
+     *   input unchanged
      */
-    // The rest of the Javadoc is inherited
-    @Override
-    protected Object convert(String value) throws CsvDataTypeMismatchException, CsvConstraintViolationException {
-        String convertValue = value;
+    private String applyCapture(String value) {
         if(capture != null && value != null) {
             Matcher m = capture.matcher(value);
             if(m.matches()) {
-                convertValue = m.group(1);
+                return m.group(1);
             }
             // Otherwise value remains intentionally unchanged
         }
+        return value;
+    }
+
+    /**
+     * Converts and assigns the value without boxing if the field is an
+     * {@code int}, {@code long} or {@code double} and the converter
+     * implements the matching {@link IntConverter}, {@link LongConverter} or
+     * {@link DoubleConverter}.
+     * Values are not assigned this way if a derived class overrides
+     * {@link #convert(String)} or
+     * {@link #assignValueToField(Object, Object, String)}, if the converter
+     * overrides {@link CsvConverter#convertToRead(String)} without also
+     * overriding the primitive conversion, or if the results of conversion
+     * are cached.
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    protected boolean assignPrimitiveValueToField(Object bean, String value)
+            throws CsvDataTypeMismatchException {
+        if(converter == null || !fieldAccess.isPrimitiveAssignmentAvailable()
+                || getConversionCache() != null || CUSTOM_ASSIGNMENT.get(getClass())
+                || CUSTOM_CONVERSION.get(converter.getClass())) {
+            return false;
+        }
+        Class<?> fieldType = field.getType();
+        boolean handled = (fieldType == Long.TYPE && converter instanceof LongConverter)
+                || (fieldType == Double.TYPE && converter instanceof DoubleConverter)
+                || (fieldType == Integer.TYPE && converter instanceof IntConverter);
+        if(!handled) {
+            return false;
+        }
+
+        // Blank input leaves the field as it was initialized by the VM, just
+        // as a null from the converter does.
+        String convertValue = applyCapture(value);
+        if(StringUtils.isBlank(convertValue)) {
+            return true;
+        }
+
+        try {
+            if(fieldType == Long.TYPE) {
+                fieldAccess.setLongField(bean, ((LongConverter) converter).convertToLong(convertValue));
+            }
+            else if(fieldType == Double.TYPE) {
+                fieldAccess.setDoubleField(bean, ((DoubleConverter) converter).convertToDouble(convertValue));
+            }
+            else {
+                fieldAccess.setIntField(bean, ((IntConverter) converter).convertToInt(convertValue));
+            }
+        } catch (InvocationTargetException e) {
+            CsvBeanIntrospectionException csve =
+                    new CsvBeanIntrospectionException(bean, field,
+                            e.getLocalizedMessage());
+            csve.initCause(e);
+            throw csve;
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if the converter declares its conversions
+     *   cacheable, as the capture applied before conversion depends only on
+     *   the input as well
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    public boolean canCacheConversions() {
+        return (converter instanceof CacheableConversion
+                && ((CacheableConversion) converter).isConversionCacheable())
+                || super.canCacheConversions();
+    }
+
+    /**
+     * Passes the string to be converted to the converter.
+     * @throws CsvBadConverterException If the converter is null
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    protected Object convert(String value) throws CsvDataTypeMismatchException, CsvConstraintViolationException {
+        String convertValue = applyCapture(value);
         if(converter != null) {
             return converter.convertToRead(convertValue);
         }
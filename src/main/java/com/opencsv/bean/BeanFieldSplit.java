@@ -92,10 +92,10 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
         }
         
         // Check the regular expressions for validity and compile once for speed
-        this.splitOn = OpencsvUtils.compilePattern(splitOn, 0,
-                BeanFieldSplit.class, this.errorLocale);
-        this.capture = OpencsvUtils.compilePatternAtLeastOneGroup(capture, 0,
-                BeanFieldSplit.class, this.errorLocale);
+        this.splitOn = IntrospectionCache.compilePattern(field, splitOn, 0,
+                false, BeanFieldSplit.class, this.errorLocale);
+        this.capture = IntrospectionCache.compilePattern(field, capture, 0,
+                true, BeanFieldSplit.class, this.errorLocale);
 
         // Verify that the format string works as expected
         OpencsvUtils.verifyFormatString(this.writeFormat, BeanFieldSplit.class, this.errorLocale);
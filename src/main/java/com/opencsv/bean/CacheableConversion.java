@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+/**
+ * Declares that the results of reading conversions can be cached.
+ * <p>Implementing this interface is a promise that converting the same input
+ * string always yields an equal result, and that the result is immutable, so
+ * one instance can safely be assigned to many beans. Converters and
+ * {@link AbstractBeanField custom converters} implementing this interface
+ * take part in the {@link ConversionCache conversion cache}, if it has been
+ * enabled in the mapping strategy.</p>
+ * <p>A class whose results are only immutable for certain destination types
+ * can override {@link #isConversionCacheable()}.</p>
+ *
+ * @see AbstractMappingStrategy#setConversionCacheSize(int)
+ * @since 5.12
+ */
+public interface CacheableConversion {
+
+    /**
+     * @return Whether the results of reading conversions can currently be
+     *   cached. The default implementation always returns {@code true}.
+     */
+    default boolean isConversionCacheable() {
+        return true;
+    }
+}
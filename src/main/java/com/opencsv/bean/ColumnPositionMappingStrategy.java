@@ -121,6 +121,8 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
 
         // Create the mapping for input column index to output column index.
         Arrays.sort(columnIndexForWriting, writeOrder);
+        invalidateWritePlan();
+        invalidateReadPlan();
         return ArrayUtils.EMPTY_STRING_ARRAY;
     }
 
@@ -390,6 +392,7 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
      */
     public void setColumnOrderOnWrite(Comparator<Integer> writeOrder) {
         this.writeOrder = writeOrder;
+        invalidateWritePlan();
         if (fieldMap != null) {
             fieldMap.setColumnOrderOnWrite(this.writeOrder);
         }
@@ -19,6 +19,8 @@ public class ColumnPositionMappingStrategyBuilder<T>
     @Override
     public ColumnPositionMappingStrategy<T> build() {
         ColumnPositionMappingStrategy<T> builder = new ColumnPositionMappingStrategy<>();
+        builder.setBeanUtilsConversion(beanUtilsConversion);
+        builder.setConversionCacheSize(conversionCacheSize);
         if (type != null) {
             builder.setType(type);
         }
@@ -0,0 +1,412 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+
+/**
+ * A thread-safe stand-in for a {@link DecimalFormat}.
+ *
+ * <p>The common pattern families (optional grouping, a fixed or bounded
+ * number of decimals, percent and per mille, all with the decimal marks of
+ * any locale using Western digits) are parsed and formatted here directly,
+ * without the overhead of {@link DecimalFormat}, following the same rules
+ * for the type, scale and rounding of the result.</p>
+ *
+ * <p>Everything else, be it an exotic pattern, input that is not in the
+ * canonical form for the pattern, or a number with too many significant
+ * digits to be converted with a single rounding, is handed to a copy of the
+ * original {@link DecimalFormat} that belongs to the current thread.</p>
+ *
+ * @since 5.12
+ */
+final class CompiledDecimalFormat {
+
+    /** The most significant digits parsed without leaving {@code long}. */
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+
+    /** The largest {@code long} up to which every integer is exactly a {@code double}. */
+    private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+
+    /**
+     * The largest magnitude of a floating point number formatted directly.
+     * Below this, the shortest decimal representation of a {@code double}
+     * is unambiguous at any number of fraction digits we format.
+     */
+    private static final double MAX_FORMATTED_DOUBLE = 1e15;
+
+    /**
+     * The maximum number of integer digits {@link DecimalFormat} permits for
+     * a {@code double}. Patterns that allow fewer integer digits truncate
+     * the output and are not compiled.
+     */
+    private static final int DOUBLE_INTEGER_DIGITS = 309;
+
+    private static final long[] LONG_POWERS_OF_TEN = new long[MAX_SIGNIFICANT_DIGITS + 1];
+    private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_SIGNIFICANT_DIGITS + 1];
+
+    static {
+        long p = 1;
+        for (int i = 0; i <= MAX_SIGNIFICANT_DIGITS; i++) {
+            LONG_POWERS_OF_TEN[i] = p;
+            DOUBLE_POWERS_OF_TEN[i] = p;
+            p *= 10;
+        }
+    }
+
+    private final ThreadLocal<DecimalFormat> formats;
+    private final boolean compiled;
+    private final boolean parseBigDecimal;
+    private final String negativePrefix;
+    private final String suffix;
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final int groupingSize;
+    private final int multiplier;
+    private final BigDecimal bigDecimalMultiplier;
+    private final int minimumIntegerDigits;
+    private final int minimumFractionDigits;
+    private final int maximumFractionDigits;
+    private final RoundingMode roundingMode;
+
+    /**
+     * Compiles a {@link DecimalFormat}.
+     * The format passed in is copied, so later changes to it have no
+     * effect.
+     *
+     * @param format The fully configured format to stand in for
+     */
+    CompiledDecimalFormat(DecimalFormat format) {
+        final DecimalFormat prototype = (DecimalFormat) format.clone();
+        formats = ThreadLocal.withInitial(() -> (DecimalFormat) prototype.clone());
+
+        DecimalFormatSymbols symbols = prototype.getDecimalFormatSymbols();
+        parseBigDecimal = prototype.isParseBigDecimal();
+        negativePrefix = prototype.getNegativePrefix();
+        suffix = prototype.getPositiveSuffix();
+        decimalSeparator = symbols.getDecimalSeparator();
+        groupingSeparator = symbols.getGroupingSeparator();
+        groupingSize = prototype.isGroupingUsed() ? prototype.getGroupingSize() : 0;
+        multiplier = prototype.getMultiplier();
+        bigDecimalMultiplier = BigDecimal.valueOf(multiplier);
+        minimumIntegerDigits = prototype.getMinimumIntegerDigits();
+        minimumFractionDigits = prototype.getMinimumFractionDigits();
+        maximumFractionDigits = prototype.getMaximumFractionDigits();
+        roundingMode = prototype.getRoundingMode();
+        compiled = isCompilable(prototype, symbols);
+    }
+
+    /**
+     * Determines whether the format belongs to a pattern family this class
+     * handles itself.
+     */
+    private boolean isCompilable(DecimalFormat format, DecimalFormatSymbols symbols) {
+        int expectedMultiplier;
+        if (suffix.isEmpty()) {
+            expectedMultiplier = 1;
+        } else if (suffix.equals(String.valueOf(symbols.getPercent()))) {
+            expectedMultiplier = 100;
+        } else if (suffix.equals(String.valueOf(symbols.getPerMill()))) {
+            expectedMultiplier = 1000;
+        } else {
+            return false;
+        }
+        return multiplier == expectedMultiplier
+                && format.getPositivePrefix().isEmpty()
+                && negativePrefix.equals(String.valueOf(symbols.getMinusSign()))
+                && suffix.equals(format.getNegativeSuffix())
+                && !format.format(1).contains(symbols.getExponentSeparator())
+                && symbols.getZeroDigit() == '0'
+                && !isDigit(decimalSeparator) && !isDigit(groupingSeparator)
+                && decimalSeparator != groupingSeparator
+                && negativePrefix.indexOf(decimalSeparator) < 0
+                && negativePrefix.indexOf(groupingSeparator) < 0
+                && (!format.isGroupingUsed() || groupingSize > 0)
+                && !format.isDecimalSeparatorAlwaysShown()
+                && !format.isParseIntegerOnly()
+                && minimumIntegerDigits > 0
+                && format.getMaximumIntegerDigits() >= DOUBLE_INTEGER_DIGITS;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @return The pattern of the underlying {@link DecimalFormat}
+     * @see DecimalFormat#toPattern()
+     */
+    String toPattern() {
+        return formats.get().toPattern();
+    }
+
+    /**
+     * Parses a number.
+     *
+     * @param text The text to be parsed
+     * @return The same number {@link DecimalFormat#parse(String)} would
+     *   return
+     * @throws ParseException If the text cannot be parsed
+     * @throws ArithmeticException If {@link DecimalFormat} throws it
+     */
+    Number parse(String text) throws ParseException {
+        if (compiled) {
+            Number n = parseCompiled(text);
+            if (n != null) {
+                return n;
+            }
+        }
+        return formats.get().parse(text);
+    }
+
+    /**
+     * Parses a number in the canonical form for the pattern: an optional
+     * minus sign, digits with grouping separators only between digits, an
+     * optional decimal separator followed by at least one digit, and the
+     * suffix.
+     *
+     * @return The number, or {@code null} if the text must be left to
+     *   {@link DecimalFormat}
+     */
+    private Number parseCompiled(String text) {
+        int end = text.length() - suffix.length();
+        if (end <= 0 || !text.endsWith(suffix)) {
+            return null;
+        }
+        boolean negative = text.startsWith(negativePrefix);
+        int position = negative ? negativePrefix.length() : 0;
+        if (position >= end) {
+            return null;
+        }
+
+        long value = 0;
+        int digits = 0, scale = 0;
+        boolean sawDecimal = false, previousWasDigit = false;
+        for (int i = position; i < end; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                if (sawDecimal) {
+                    scale++;
+                }
+                if (digits > 0 || c != '0') {
+                    if (++digits > MAX_SIGNIFICANT_DIGITS) {
+                        return null;
+                    }
+                    value = value * 10 + (c - '0');
+                }
+                previousWasDigit = true;
+            } else if (previousWasDigit && i + 1 < end && isDigit(text.charAt(i + 1))
+                    && ((c == groupingSeparator && groupingSize > 0 && !sawDecimal)
+                    || (c == decimalSeparator && !sawDecimal))) {
+                sawDecimal = c == decimalSeparator;
+                previousWasDigit = false;
+            } else {
+                return null;
+            }
+        }
+        if (scale > MAX_SIGNIFICANT_DIGITS) {
+            return null;
+        }
+
+        if (parseBigDecimal) {
+            BigDecimal result = BigDecimal.valueOf(value, scale);
+            if (multiplier != 1) {
+                try {
+                    result = result.divide(bigDecimalMultiplier);
+                } catch (ArithmeticException e) {
+                    result = result.divide(bigDecimalMultiplier, roundingMode);
+                }
+            }
+            return negative ? result.negate() : result;
+        }
+
+        // What follows mirrors how DecimalFormat decides between Long and
+        // Double, including the treatment of negative zero.
+        boolean gotDouble;
+        long longResult = 0;
+        double doubleResult = 0.0;
+        if (value == 0) {
+            gotDouble = negative;
+        } else if (value % LONG_POWERS_OF_TEN[scale] == 0) {
+            gotDouble = false;
+            longResult = value / LONG_POWERS_OF_TEN[scale];
+        } else if (value > MAX_EXACT_DOUBLE_INTEGER) {
+            // The value would be rounded on conversion to double and again
+            // on division, where DecimalFormat rounds only once.
+            return null;
+        } else {
+            // Both operands are exact, so the quotient is correctly rounded.
+            gotDouble = true;
+            doubleResult = (double) value / DOUBLE_POWERS_OF_TEN[scale];
+        }
+
+        if (multiplier != 1) {
+            if (gotDouble) {
+                doubleResult /= multiplier;
+            } else if (longResult % multiplier == 0) {
+                longResult /= multiplier;
+            } else {
+                doubleResult = ((double) longResult) / multiplier;
+                gotDouble = true;
+            }
+        }
+        if (negative) {
+            doubleResult = -doubleResult;
+            longResult = -longResult;
+        }
+        if (multiplier != 1 && gotDouble) {
+            longResult = (long) doubleResult;
+            gotDouble = doubleResult != (double) longResult
+                    || (doubleResult == 0.0 && 1 / doubleResult < 0.0);
+        }
+        return gotDouble ? (Number) doubleResult : (Number) longResult;
+    }
+
+    /**
+     * Formats a number.
+     *
+     * @param value The number to be formatted
+     * @return The same string {@link DecimalFormat#format(Object)} would
+     *   return
+     * @throws ArithmeticException If rounding is necessary and the rounding
+     *   mode is {@link RoundingMode#UNNECESSARY}
+     */
+    String format(Object value) {
+        if (compiled) {
+            String s = formatCompiled(value);
+            if (s != null) {
+                return s;
+            }
+        }
+        return formats.get().format(value);
+    }
+
+    /**
+     * @return The formatted number, or {@code null} if the value must be
+     *   left to {@link DecimalFormat}
+     */
+    private String formatCompiled(Object value) {
+        if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            long l;
+            try {
+                l = Math.multiplyExact(((Number) value).longValue(), multiplier);
+            } catch (ArithmeticException e) {
+                return null;
+            }
+            if (l == Long.MIN_VALUE) {
+                return null;
+            }
+            return formatDigits(l < 0, Long.toString(Math.abs(l)), null);
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal d = (BigDecimal) value;
+            if (multiplier != 1) {
+                d = d.multiply(bigDecimalMultiplier);
+            }
+            return formatBigDecimal(d);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            boolean negative = d < 0.0 || (d == 0.0 && 1 / d < 0.0);
+            d = Math.abs(d * multiplier);
+            if (!(d < MAX_FORMATTED_DOUBLE)) {
+                return null;
+            }
+
+            // DecimalFormat rounds the shortest decimal representation of a
+            // double, with corrections for ties from the exact binary value.
+            // Only values that need no rounding are formatted here.
+            BigDecimal shortest = new BigDecimal(Double.toString(d));
+            if (shortest.stripTrailingZeros().scale() > maximumFractionDigits) {
+                return null;
+            }
+            return formatPlain(negative, shortest.setScale(maximumFractionDigits).toPlainString());
+        }
+        return null;
+    }
+
+    /**
+     * Rounds the number before formatting it, with the peculiarities of
+     * {@link DecimalFormat}: the sign is that of the number before rounding,
+     * so a small negative number that rounds to zero is still formatted with
+     * a minus sign, and a number whose first significant digit lies more
+     * than one place beyond the last fraction digit becomes zero regardless
+     * of the rounding mode.
+     */
+    private String formatBigDecimal(BigDecimal value) {
+        BigDecimal rounded = value.signum() != 0
+                && value.scale() - value.precision() > maximumFractionDigits
+                ? BigDecimal.ZERO.setScale(maximumFractionDigits)
+                : value.setScale(maximumFractionDigits, roundingMode).abs();
+        return formatPlain(value.signum() < 0, rounded.toPlainString());
+    }
+
+    /**
+     * @param plain The magnitude of the number, already rounded, without an
+     *   exponent
+     */
+    private String formatPlain(boolean negative, String plain) {
+        int point = plain.indexOf('.');
+        if (point < 0) {
+            return formatDigits(negative, plain, null);
+        }
+        int fractionEnd = plain.length();
+        while (fractionEnd - point - 1 > minimumFractionDigits && plain.charAt(fractionEnd - 1) == '0') {
+            fractionEnd--;
+        }
+        return formatDigits(negative, plain.substring(0, point), plain.substring(point + 1, fractionEnd));
+    }
+
+    /**
+     * Assembles the output from the digits of the integer and fractional
+     * parts of the magnitude of the number.
+     *
+     * @param fraction The fraction digits, already rounded and trimmed, or
+     *   {@code null} if the number is integral
+     */
+    private String formatDigits(boolean negative, String integer, String fraction) {
+        int fractionDigits = fraction == null ? minimumFractionDigits : fraction.length();
+        int integerDigits = Math.max(integer.length(), minimumIntegerDigits);
+        StringBuilder sb = new StringBuilder(negativePrefix.length() + 2 * integerDigits
+                + fractionDigits + 1 + suffix.length());
+        if (negative) {
+            sb.append(negativePrefix);
+        }
+        int padding = integerDigits - integer.length();
+        for (int i = 0; i < integerDigits; i++) {
+            sb.append(i < padding ? '0' : integer.charAt(i - padding));
+            int remaining = integerDigits - i - 1;
+            if (groupingSize > 0 && remaining > 0 && remaining % groupingSize == 0) {
+                sb.append(groupingSeparator);
+            }
+        }
+        if (fractionDigits > 0) {
+            sb.append(decimalSeparator);
+            if (fraction == null) {
+                for (int i = 0; i < fractionDigits; i++) {
+                    sb.append('0');
+                }
+            } else {
+                sb.append(fraction);
+            }
+        }
+        sb.append(suffix);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the results of converting input strings for one bean
+ * field.
+ * <p>Lookups are lock-free. When the cache is full, entries are evicted
+ * according to the CLOCK algorithm, an approximation of least recently used
+ * that does not require reordering anything on a hit.</p>
+ * <p>Instances of this class are created by the mapping strategy and can be
+ * retrieved for monitoring through
+ * {@link AbstractMappingStrategy#getConversionCaches()}.</p>
+ *
+ * @see CacheableConversion
+ * @since 5.12
+ */
+public final class ConversionCache {
+
+    private static final class Entry {
+        private final String key;
+        private final Object value;
+        private volatile boolean referenced = false;
+
+        private Entry(String key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final int capacity;
+    private final ConcurrentMap<String, Entry> map;
+
+    /** The entries in the order the clock hand visits them. Guarded by {@code this}. */
+    private final Entry[] clock;
+
+    /** The next position for the clock hand. Guarded by {@code this}. */
+    private int hand = 0;
+
+    /** The number of positions in {@link #clock} in use. Guarded by {@code this}. */
+    private int used = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity The maximum number of entries in the cache. Must be
+     *   positive.
+     * @throws IllegalArgumentException If the capacity is not positive
+     */
+    public ConversionCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(Integer.toString(capacity));
+        }
+        this.capacity = capacity;
+        map = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+        clock = new Entry[capacity];
+    }
+
+    /**
+     * Looks up the converted value for an input string.
+     *
+     * @param key The input string
+     * @return The converted value, or {@code null} if it is not in the cache
+     */
+    Object get(String key) {
+        Entry e = map.get(key);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        if (!e.referenced) {
+            e.referenced = true;
+        }
+        hits.increment();
+        return e.value;
+    }
+
+    /**
+     * Adds the converted value for an input string to the cache, evicting
+     * another entry if necessary.
+     *
+     * @param key   The input string
+     * @param value The converted value. Must not be {@code null}.
+     */
+    synchronized void put(String key, Object value) {
+        if (map.containsKey(key)) {
+            return;
+        }
+        int position;
+        if (used < capacity) {
+            position = used++;
+        } else {
+            Entry victim = clock[hand];
+            while (victim.referenced) {
+                victim.referenced = false;
+                hand = (hand + 1) % capacity;
+                victim = clock[hand];
+            }
+            map.remove(victim.key);
+            evictions.increment();
+            position = hand;
+            hand = (hand + 1) % capacity;
+        }
+        Entry e = new Entry(key, value);
+        clock[position] = e;
+        map.put(key, e);
+    }
+
+    /**
+     * @return The maximum number of entries in the cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of entries currently in the cache
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * @return The number of lookups that found a converted value
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that did not find a converted value
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries that have been removed to make room for
+     *   new ones
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+}
@@ -15,7 +15,7 @@ import java.util.ResourceBundle;
  * @author Andrew Munn
  * @since 5.3
  */
-public class ConverterCurrency extends AbstractCsvConverter {
+public class ConverterCurrency extends AbstractCsvConverter implements CacheableConversion {
 
     /**
      * Initializes the class.
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -61,23 +62,38 @@ import java.util.function.BiFunction;
  * @see com.opencsv.bean.CsvDate
  * @since 4.2 (previously BeanFieldDate since 3.8)
  */
-public class ConverterDate extends AbstractCsvConverter {
+public class ConverterDate extends AbstractCsvConverter implements CacheableConversion {
 
     private static final String CSVDATE_NOT_DATE = "csvdate.not.date";
 
     /**
-     * The formatter for all inputs to old-style date representations.
-     * <em>It is absolutely critical that access to this member variable is always
-     * synchronized!</em>
+     * The factory for {@link XMLGregorianCalendar}s, created on first use.
+     * Creating a factory involves a service lookup, so it is done once and
+     * shared.
      */
-    private final SimpleDateFormat readSdf;
+    private static volatile DatatypeFactory datatypeFactory = null;
 
     /**
-     * The formatter for all outputs from old-style date representations.
-     * <em>It is absolutely critical that access to this member variable is always
-     * synchronized!</em>
+     * The formatters for all inputs to old-style date representations.
+     * {@link SimpleDateFormat} is not thread-safe, so every thread gets its own
+     * copy of the formatter, and no synchronization is necessary.
      */
-    private final SimpleDateFormat writeSdf;
+    private final ThreadLocal<SimpleDateFormat> readSdf;
+
+    /**
+     * The formatters for all outputs from old-style date representations.
+     * {@link SimpleDateFormat} is not thread-safe, so every thread gets its own
+     * copy of the formatter, and no synchronization is necessary.
+     */
+    private final ThreadLocal<SimpleDateFormat> writeSdf;
+
+    /**
+     * The constructor taking milliseconds since the epoch for types derived
+     * from {@link java.util.Date}, or {@code null} if the type is not derived
+     * from {@link java.util.Date}, is {@link java.util.Date} itself, or has no
+     * such constructor.
+     */
+    private final Constructor<?> dateConstructor;
 
     /**
      * The formatter for all inputs to
@@ -139,15 +155,14 @@ public class ConverterDate extends AbstractCsvConverter {
         try {
             if (TemporalAccessor.class.isAssignableFrom(type)) {
                 readSdf = null;
-                DateTimeFormatter dtfWithoutChronology = setDateTimeFormatter(readFormat, this.locale);
-                readDtf = dtfWithoutChronology.withChronology(readChrono);
+                readDtf = cachedDateTimeFormatter(readFormat, this.locale, readChrono);
 
                 readTemporalConversionFunction = determineReadTemporalConversionFunction(type);
 
             } else {
                 readDtf = null;
                 readTemporalConversionFunction = null;
-                readSdf = setDateFormat(readFormat, this.locale);
+                readSdf = cachedDateFormat(readFormat, this.locale);
             }
         } catch (IllegalArgumentException e) {
             CsvBadConverterException csve = new CsvBadConverterException(getClass(), String.format(
@@ -161,13 +176,12 @@ public class ConverterDate extends AbstractCsvConverter {
         try {
             if (TemporalAccessor.class.isAssignableFrom(type)) {
                 writeSdf = null;
-                DateTimeFormatter dtfWithoutChronology = setDateTimeFormatter(writeFormat, this.writeLocale);
-                writeDtf = dtfWithoutChronology.withChronology(writeChrono);
+                writeDtf = cachedDateTimeFormatter(writeFormat, this.writeLocale, writeChrono);
                 writeTemporalConversionFunction = determineWriteTemporalConversionFunction(type);
             } else {
                 writeDtf = null;
                 writeTemporalConversionFunction = null;
-                writeSdf = setDateFormat(writeFormat, this.writeLocale);
+                writeSdf = cachedDateFormat(writeFormat, this.writeLocale);
             }
         } catch (IllegalArgumentException e) {
             CsvBadConverterException csve = new CsvBadConverterException(getClass(), String.format(
@@ -176,6 +190,66 @@ public class ConverterDate extends AbstractCsvConverter {
             csve.initCause(e);
             throw csve;
         }
+
+        // The constructor for types derived from Date
+        Constructor<?> localConstructor = null;
+        if (Date.class.isAssignableFrom(type) && !Date.class.equals(type)) {
+            try {
+                localConstructor = type.getConstructor(Long.TYPE);
+            } catch (NoSuchMethodException e) {
+                // Reported on conversion, as it always has been
+            }
+        }
+        dateConstructor = localConstructor;
+    }
+
+    /**
+     * Creates a source of formatters that gives every thread its own copy of
+     * the formatter passed in.
+     *
+     * @param prototype The formatter to be copied
+     * @return A thread-local copy of the formatter
+     */
+    private static ThreadLocal<SimpleDateFormat> threadLocalDateFormat(SimpleDateFormat prototype) {
+        return ThreadLocal.withInitial(() -> (SimpleDateFormat) prototype.clone());
+    }
+
+    /**
+     * Retrieves the thread-local formatters for a format string from the
+     * {@link IntrospectionCache}, creating them if necessary.
+     * Since a {@link SimpleDateFormat} captures the default locale and time
+     * zone on creation, both are part of the key.
+     */
+    private ThreadLocal<SimpleDateFormat> cachedDateFormat(String format, Locale formatLocale) {
+        return IntrospectionCache.getFormatter(
+                Arrays.asList(SimpleDateFormat.class, format, formatLocale,
+                        Locale.getDefault(Locale.Category.FORMAT),
+                        TimeZone.getDefault().getID()),
+                () -> threadLocalDateFormat(setDateFormat(format, formatLocale)));
+    }
+
+    /**
+     * Retrieves the formatter for a format string and chronology from the
+     * {@link IntrospectionCache}, creating it if necessary.
+     */
+    private DateTimeFormatter cachedDateTimeFormatter(String format, Locale formatLocale, Chronology chronology) {
+        return IntrospectionCache.getFormatter(
+                Arrays.asList(DateTimeFormatter.class, format, formatLocale, this.writeLocale != null,
+                        Locale.getDefault(Locale.Category.FORMAT), chronology),
+                () -> setDateTimeFormatter(format, formatLocale).withChronology(chronology));
+    }
+
+    /**
+     * @return The shared factory for {@link XMLGregorianCalendar}s
+     * @throws DatatypeConfigurationException If no factory is available
+     */
+    private static DatatypeFactory getDatatypeFactory() throws DatatypeConfigurationException {
+        DatatypeFactory factory = datatypeFactory;
+        if (factory == null) {
+            factory = DatatypeFactory.newInstance();
+            datatypeFactory = factory;
+        }
+        return factory;
     }
 
     private BiFunction<DateTimeFormatter, TemporalAccessor, String> determineWriteTemporalConversionFunction(Class<?> type) {
@@ -282,11 +356,15 @@ public class ConverterDate extends AbstractCsvConverter {
             if (Date.class.isAssignableFrom(type)) {
                 Date d;
                 try {
-                    synchronized (readSdf) {
-                        d = readSdf.parse(value);
+                    d = readSdf.get().parse(value);
+                    if (Date.class.equals(type)) {
+                        returnValue = d;
+                    } else {
+                        if (dateConstructor == null) {
+                            throw new NoSuchMethodException(type.getName() + ".<init>(long)");
+                        }
+                        returnValue = dateConstructor.newInstance(d.getTime());
                     }
-
-                    returnValue = type.getConstructor(Long.TYPE).newInstance(d.getTime());
                 }
                 // I would have preferred a CsvBeanIntrospectionException, but that
                 // would have broken backward compatibility. This is not completely
@@ -315,9 +393,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 // Parse input
                 Date d;
                 try {
-                    synchronized (readSdf) {
-                        d = readSdf.parse(value);
-                    }
+                    d = readSdf.get().parse(value);
                 } catch (ParseException e) {
                     CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, type);
                     csve.initCause(e);
@@ -332,8 +408,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 // XMLGregorianCalendar requires special processing.
                 if (type == XMLGregorianCalendar.class) {
                     try {
-                        returnValue = type.cast(DatatypeFactory
-                                .newInstance()
+                        returnValue = type.cast(getDatatypeFactory()
                                 .newXMLGregorianCalendar(gc));
                     } catch (DatatypeConfigurationException e) {
                         // I've never known how to handle this exception elegantly,
@@ -357,6 +432,17 @@ public class ConverterDate extends AbstractCsvConverter {
         return returnValue;
     }
 
+    /**
+     * @return {@code true} for the immutable types of {@code java.time}, and
+     *   {@code false} for the mutable {@link Date}, {@link Calendar} and
+     *   {@link XMLGregorianCalendar}
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    public boolean isConversionCacheable() {
+        return TemporalAccessor.class.isAssignableFrom(type);
+    }
+
     /**
      * This method converts the encapsulated date type to a string, respecting
      * any locales and conversion patterns that have been set through opencsv
@@ -378,9 +464,7 @@ public class ConverterDate extends AbstractCsvConverter {
 
             // For Date-based conversions
             if (Date.class.isAssignableFrom(type)) {
-                synchronized (writeSdf) {
-                    returnValue = writeSdf.format((Date) value);
-                }
+                returnValue = writeSdf.get().format((Date) value);
                 // For TemporalAccessor-based conversions
             } else if (TemporalAccessor.class.isAssignableFrom(type)) {
                 try {
@@ -399,9 +483,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 } else {
                     c = (Calendar) value;
                 }
-                synchronized (writeSdf) {
-                    returnValue = writeSdf.format(c.getTime());
-                }
+                returnValue = writeSdf.get().format(c.getTime());
             } else {
                 throw new CsvDataTypeMismatchException(value, type, String.format(
                         ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString(CSVDATE_NOT_DATE), type));
@@ -17,7 +17,7 @@ import java.util.ResourceBundle;
  * @author Andrew Rucker Jones
  * @since 5.2
  */
-public class ConverterEnum extends AbstractCsvConverter {
+public class ConverterEnum extends AbstractCsvConverter implements CacheableConversion {
 
     /**
      * @param type    The class of the type of the data being processed
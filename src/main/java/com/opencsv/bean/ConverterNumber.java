@@ -28,6 +28,7 @@ import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.function.UnaryOperator;
@@ -39,9 +40,9 @@ import java.util.function.UnaryOperator;
  * @author Andrew Rucker Jones
  * @since 4.2
  */
-public class ConverterNumber extends AbstractCsvConverter {
+public class ConverterNumber extends AbstractCsvConverter implements CacheableConversion {
 
-    private final DecimalFormat readFormatter, writeFormatter;
+    private final CompiledDecimalFormat readFormatter, writeFormatter;
     private final UnaryOperator<Number> readConversionFunction;
 
     /**
@@ -76,14 +77,10 @@ public class ConverterNumber extends AbstractCsvConverter {
                             .getString("csvnumber.not.number"));
         }
 
-        // Set up the read formatter
-        readFormatter = createDecimalFormat(readFormat, this.locale, roundingMode);
-
-        // Account for BigDecimal and BigInteger, which require special
-        // processing
-        if(this.type == BigInteger.class || this.type == BigDecimal.class) {
-            readFormatter.setParseBigDecimal(true);
-        }
+        // Set up the read formatter, accounting for BigDecimal and
+        // BigInteger, which require special processing
+        readFormatter = cachedDecimalFormat(readFormat, this.locale, roundingMode,
+                this.type == BigInteger.class || this.type == BigDecimal.class);
 
         // Save the read conversion function for later
         if(this.type == Byte.class || this.type == Byte.TYPE) {
@@ -116,7 +113,23 @@ public class ConverterNumber extends AbstractCsvConverter {
         }
 
         // Set up the write formatter
-        writeFormatter = createDecimalFormat(writeFormat, this.writeLocale, roundingMode);
+        writeFormatter = cachedDecimalFormat(writeFormat, this.writeLocale, roundingMode, false);
+    }
+
+    /**
+     * Retrieves the formatter for a pattern from the
+     * {@link IntrospectionCache}, creating it if necessary.
+     */
+    private CompiledDecimalFormat cachedDecimalFormat(String format, Locale locale,
+            RoundingMode roundingMode, boolean parseBigDecimal) {
+        final Locale formatLocale = ObjectUtils.defaultIfNull(locale, Locale.getDefault(Locale.Category.FORMAT));
+        return IntrospectionCache.getFormatter(
+                Arrays.asList(CompiledDecimalFormat.class, format, formatLocale, roundingMode, parseBigDecimal),
+                () -> {
+                    DecimalFormat formatter = createDecimalFormat(format, formatLocale, roundingMode);
+                    formatter.setParseBigDecimal(parseBigDecimal);
+                    return new CompiledDecimalFormat(formatter);
+                });
     }
 
     private DecimalFormat createDecimalFormat(String format, Locale locale, RoundingMode roundingMode) {
@@ -155,9 +168,7 @@ public class ConverterNumber extends AbstractCsvConverter {
         Number n = null;
         if(StringUtils.isNotEmpty(value)) {
             try {
-                synchronized (readFormatter) {
-                    n = readFormatter.parse(value);
-                }
+                n = readFormatter.parse(value);
             }
             catch(ParseException | ArithmeticException e) {
                 CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
@@ -182,20 +193,18 @@ public class ConverterNumber extends AbstractCsvConverter {
     // The rest of the Javadoc is inherited.
     @Override
     public String convertToWrite(Object value) throws CsvDataTypeMismatchException {
-        synchronized (writeFormatter) {
-            try {
-                return value != null ? writeFormatter.format(value) : null;
-            }
-            catch (ArithmeticException e) {
-                CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
-                        value, type,
-                        String.format(ResourceBundle.getBundle(
-                                ICSVParser.DEFAULT_BUNDLE_NAME,
-                                errorLocale)
-                                .getString("unparsable.number"), value, writeFormatter.toPattern()));
-                csve.initCause(e);
-                throw csve;
-            }
+        try {
+            return value != null ? writeFormatter.format(value) : null;
+        }
+        catch (ArithmeticException e) {
+            CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
+                    value, type,
+                    String.format(ResourceBundle.getBundle(
+                            ICSVParser.DEFAULT_BUNDLE_NAME,
+                            errorLocale)
+                            .getString("unparsable.number"), value, writeFormatter.toPattern()));
+            csve.initCause(e);
+            throw csve;
         }
     }
 }
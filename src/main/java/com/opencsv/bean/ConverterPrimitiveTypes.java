@@ -23,23 +23,93 @@ import org.apache.commons.beanutils.ConvertUtilsBean;
 import org.apache.commons.beanutils.locale.LocaleConvertUtilsBean;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.Locale;
-import java.util.ResourceBundle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * This class wraps fields from the reflection API in order to handle
  * translation of primitive types and to add a "required" flag.
+ * <p>The primitives, their wrappers, {@link java.lang.String},
+ * {@link java.math.BigDecimal} and {@link java.math.BigInteger} are converted
+ * by opencsv itself if no locale is specified. This conversion is stateless
+ * and requires no synchronization. Everything else, including all
+ * locale-sensitive conversion, is delegated to Apache Commons BeanUtils. The
+ * conversion through BeanUtils can be forced for all types with
+ * {@link #ConverterPrimitiveTypes(Class, String, String, Locale, boolean)}.</p>
  *
  * @author Andrew Rucker Jones
  * @since 4.2 (previously BeanFieldPrimitiveTypes since 3.8)
  */
-public class ConverterPrimitiveTypes extends AbstractCsvConverter {
+public class ConverterPrimitiveTypes extends AbstractCsvConverter
+        implements IntConverter, LongConverter, DoubleConverter {
+
+    /** Strings BeanUtils recognizes as {@code true}. */
+    private static final Set<String> TRUE_STRINGS = new HashSet<>(Arrays.asList("true", "yes", "y", "on", "1"));
+
+    /** Strings BeanUtils recognizes as {@code false}. */
+    private static final Set<String> FALSE_STRINGS = new HashSet<>(Arrays.asList("false", "no", "n", "off", "0"));
+
+    /**
+     * Conversions from a non-blank string to all types opencsv converts
+     * without the help of BeanUtils.
+     * <p>The semantics mirror those of the BeanUtils converters opencsv has
+     * always used: numbers are trimmed and parsed in radix 10, booleans are
+     * recognized case-insensitively from a fixed set of words, characters are
+     * taken from the first position of the input, and strings are passed
+     * through unchanged.</p>
+     */
+    private static final Map<Class<?>, Function<String, Object>> STANDARD_CONVERSIONS;
+
+    static {
+        Map<Class<?>, Function<String, Object>> conversions = new HashMap<>();
+        Function<String, Object> toBoolean = s -> {
+            String lower = s.toLowerCase(Locale.ROOT);
+            if(TRUE_STRINGS.contains(lower)) {
+                return Boolean.TRUE;
+            }
+            if(FALSE_STRINGS.contains(lower)) {
+                return Boolean.FALSE;
+            }
+            throw new IllegalArgumentException(s);
+        };
+        Function<String, Object> toByte = s -> Byte.valueOf(s.trim());
+        Function<String, Object> toShort = s -> Short.valueOf(s.trim());
+        Function<String, Object> toInteger = s -> Integer.valueOf(s.trim());
+        Function<String, Object> toLong = s -> Long.valueOf(s.trim());
+        Function<String, Object> toFloat = s -> Float.valueOf(s.trim());
+        Function<String, Object> toDouble = s -> Double.valueOf(s.trim());
+        Function<String, Object> toCharacter = s -> s.charAt(0);
+        conversions.put(Boolean.TYPE, toBoolean);
+        conversions.put(Boolean.class, toBoolean);
+        conversions.put(Byte.TYPE, toByte);
+        conversions.put(Byte.class, toByte);
+        conversions.put(Short.TYPE, toShort);
+        conversions.put(Short.class, toShort);
+        conversions.put(Integer.TYPE, toInteger);
+        conversions.put(Integer.class, toInteger);
+        conversions.put(Long.TYPE, toLong);
+        conversions.put(Long.class, toLong);
+        conversions.put(Float.TYPE, toFloat);
+        conversions.put(Float.class, toFloat);
+        conversions.put(Double.TYPE, toDouble);
+        conversions.put(Double.class, toDouble);
+        conversions.put(Character.TYPE, toCharacter);
+        conversions.put(Character.class, toCharacter);
+        conversions.put(BigDecimal.class, s -> new BigDecimal(s.trim()));
+        conversions.put(BigInteger.class, s -> new BigInteger(s.trim()));
+        conversions.put(String.class, s -> s);
+        STANDARD_CONVERSIONS = Collections.unmodifiableMap(conversions);
+    }
 
     /**
      * The formatter for all inputs to wrapped and unwrapped primitive
-     * types when a specific locale is not required.
-     * <p>Either this or {@link #readLocaleConverter} should be used, and the
-     * other should always be {@code null}.</p>
+     * types when a specific locale is not required and the type cannot be
+     * converted natively.
+     * <p>At most one of this and {@link #readLocaleConverter} is used, and
+     * the other is always {@code null}. Both are {@code null} if conversion
+     * for reading is performed natively.</p>
      * <p><em>It is absolutely critical that access to this member variable is
      * always synchronized!</em></p>
      */
@@ -48,8 +118,9 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
     /**
      * The formatter for all inputs to wrapped and unwrapped primitive
      * types when a specific locale is required.
-     * <p>Either this or {@link #readConverter} should be used, and the other
-     * should always be {@code null}.</p>
+     * <p>At most one of this and {@link #readConverter} is used, and the
+     * other is always {@code null}. Both are {@code null} if conversion for
+     * reading is performed natively.</p>
      * <p><em>It is absolutely critical that access to this member variable is
      * always synchronized!</em></p>
      */
@@ -57,9 +128,11 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
 
     /**
      * The formatter for all inputs from wrapped and unwrapped primitive
-     * types when a specific locale is not required.
-     * <p>Either this or {@link #writeLocaleConverter} should be used, and the
-     * other should always be {@code null}.</p>
+     * types when a specific locale is not required and the type cannot be
+     * converted natively.
+     * <p>At most one of this and {@link #writeLocaleConverter} is used, and
+     * the other is always {@code null}. Both are {@code null} if conversion
+     * for writing is performed natively.</p>
      * <p><em>It is absolutely critical that access to this member variable is
      * always synchronized!</em></p>
      */
@@ -68,13 +141,23 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
     /**
      * The formatter for all inputs from wrapped and unwrapped primitive
      * types when a specific locale is required.
-     * <p>Either this or {@link #writeConverter} should be used, and the other
-     * should always be {@code null}.</p>
+     * <p>At most one of this and {@link #writeConverter} is used, and the
+     * other is always {@code null}. Both are {@code null} if conversion for
+     * writing is performed natively.</p>
      * <p><em>It is absolutely critical that access to this member variable is
      * always synchronized!</em></p>
      */
     protected final LocaleConvertUtilsBean writeLocaleConverter;
 
+    /**
+     * The native conversion for reading, or {@code null} if BeanUtils is
+     * used for reading.
+     */
+    private final Function<String, Object> nativeReadConversion;
+
+    /** Whether values are written natively or through BeanUtils. */
+    private final boolean nativeWriteConversion;
+
     /**
      * @param type    The class of the type of the data being processed
      * @param locale   If not null or empty, specifies the locale used for
@@ -84,29 +167,61 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
      * @param errorLocale The locale to use for error messages.
      */
     public ConverterPrimitiveTypes(Class<?> type, String locale, String writeLocale, Locale errorLocale) {
+        this(type, locale, writeLocale, errorLocale, false);
+    }
+
+    /**
+     * @param type    The class of the type of the data being processed
+     * @param locale   If not null or empty, specifies the locale used for
+     *                 converting locale-specific data types
+     * @param writeLocale   If not null or empty, specifies the locale used for
+     *                 converting locale-specific data types for writing
+     * @param errorLocale The locale to use for error messages.
+     * @param beanUtilsConversion Whether all conversions should be delegated
+     *                            to Apache Commons BeanUtils, even for types
+     *                            opencsv can convert without it
+     * @since 5.12
+     */
+    public ConverterPrimitiveTypes(Class<?> type, String locale, String writeLocale, Locale errorLocale,
+                                   boolean beanUtilsConversion) {
         super(type, locale, writeLocale, errorLocale);
+        Function<String, Object> standardConversion = beanUtilsConversion ? null : STANDARD_CONVERSIONS.get(type);
         if(this.locale == null) {
-            readConverter = BeanUtilsBean.getInstance().getConvertUtils();
-            readConverter.register(true, false, 0);
+            nativeReadConversion = standardConversion;
+            readConverter = nativeReadConversion == null ? registeredBeanUtilsConverter() : null;
             readLocaleConverter = null;
         }
         else {
+            nativeReadConversion = null;
             readLocaleConverter = new LocaleConvertUtilsBean();
             readLocaleConverter.setDefaultLocale(this.locale);
             readConverter = null;
         }
         if(this.writeLocale == null) {
-            writeConverter = BeanUtilsBean.getInstance().getConvertUtils();
-            writeConverter.register(true, false, 0);
+            nativeWriteConversion = standardConversion != null;
+            writeConverter = nativeWriteConversion ? null : registeredBeanUtilsConverter();
             writeLocaleConverter = null;
         }
         else {
+            nativeWriteConversion = false;
             writeLocaleConverter = new LocaleConvertUtilsBean();
             writeLocaleConverter.setDefaultLocale(this.writeLocale);
             writeConverter = null;
         }
     }
 
+    /**
+     * @return The process-wide BeanUtils converter, configured to throw
+     *   exceptions on conversion errors
+     */
+    private static ConvertUtilsBean registeredBeanUtilsConverter() {
+        ConvertUtilsBean converter = BeanUtilsBean.getInstance().getConvertUtils();
+        synchronized (converter) {
+            converter.register(true, false, 0);
+        }
+        return converter;
+    }
+
     @Override
     public Object convertToRead(String value)
             throws CsvDataTypeMismatchException {
@@ -114,7 +229,10 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
 
         if (StringUtils.isNotBlank(value) || (value != null && type.equals(String.class))) {
             try {
-                if(readConverter != null) {
+                if(nativeReadConversion != null) {
+                    o = nativeReadConversion.apply(value);
+                }
+                else if(readConverter != null) {
                     synchronized (readConverter) {
                         o = readConverter.convert(value, type);
                     }
@@ -124,18 +242,88 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
                         o = readLocaleConverter.convert(value, type);
                     }
                 }
-            } catch (ConversionException e) {
-                CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
-                        value, type, String.format(
-                                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("conversion.impossible"),
-                                value, type.getCanonicalName()));
-                csve.initCause(e);
-                throw csve;
+            } catch (ConversionException | IllegalArgumentException e) {
+                throw conversionImpossible(value, e);
             }
         }
         return o;
     }
-    
+
+    /**
+     * Creates the exception thrown when input cannot be converted.
+     * <p>For the sake of compatibility, the cause is always a BeanUtils
+     * {@link ConversionException}, even if the conversion was performed
+     * natively.</p>
+     *
+     * @param value The input that could not be converted
+     * @param e The exception that prompted this one
+     * @return A fully initialized exception ready to be thrown
+     */
+    private CsvDataTypeMismatchException conversionImpossible(String value, RuntimeException e) {
+        ConversionException cause = e instanceof ConversionException ?
+                (ConversionException) e : new ConversionException(e.getMessage(), e);
+        CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
+                value, type, String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("conversion.impossible"),
+                        value, type.getCanonicalName()));
+        csve.initCause(cause);
+        return csve;
+    }
+
+    /**
+     * Converts the input to an {@code int} without boxing if conversion is
+     * performed natively, and through {@link #convertToRead(String)}
+     * otherwise.
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    public int convertToInt(String value) throws CsvDataTypeMismatchException {
+        if(nativeReadConversion != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw conversionImpossible(value, e);
+            }
+        }
+        return ((Number) convertToRead(value)).intValue();
+    }
+
+    /**
+     * Converts the input to a {@code long} without boxing if conversion is
+     * performed natively, and through {@link #convertToRead(String)}
+     * otherwise.
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    public long convertToLong(String value) throws CsvDataTypeMismatchException {
+        if(nativeReadConversion != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw conversionImpossible(value, e);
+            }
+        }
+        return ((Number) convertToRead(value)).longValue();
+    }
+
+    /**
+     * Converts the input to a {@code double} without boxing if conversion is
+     * performed natively, and through {@link #convertToRead(String)}
+     * otherwise.
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    public double convertToDouble(String value) throws CsvDataTypeMismatchException {
+        if(nativeReadConversion != null) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw conversionImpossible(value, e);
+            }
+        }
+        return ((Number) convertToRead(value)).doubleValue();
+    }
+
     /**
      * This method takes the current value of the field in question in the bean
      * passed in and converts it to a string.
@@ -153,12 +341,16 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
         String result = null;
         if(value != null) {
             try {
-                if(writeConverter != null) {
+                if(nativeWriteConversion) {
+                    // This is what BeanUtils does, too, but without the locks
+                    result = value.toString();
+                }
+                else if(writeConverter != null) {
                     synchronized (writeConverter) {
                         result = writeConverter.convert(value);
                     }
                 }
-                else {
+                else if(writeLocaleConverter != null) {
                     synchronized (writeLocaleConverter) {
                         result = writeLocaleConverter.convert(value);
                     }
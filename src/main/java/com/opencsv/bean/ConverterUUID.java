@@ -16,7 +16,7 @@ import java.util.regex.Pattern;
  * @author Scott Conway
  * @since 5.4
  */
-public class ConverterUUID extends AbstractCsvConverter {
+public class ConverterUUID extends AbstractCsvConverter implements CacheableConversion {
     private static final String UUID_REGEX_PATTERN = "\\b[0-9a-fA-F]{8}\\b-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-\\b[0-9a-fA-F]{12}\\b";
     /**
      * Initializes the class.
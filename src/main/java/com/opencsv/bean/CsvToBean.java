@@ -25,16 +25,21 @@ import com.opencsv.bean.concurrent.SingleLineReader;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerQueue;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerThrow;
+import com.opencsv.bean.util.OpencsvUtils;
 import com.opencsv.bean.util.OrderedObject;
 import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvValidationException;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -50,11 +55,26 @@ import java.util.stream.StreamSupport;
  */
 public class CsvToBean<T> implements Iterable<T> {
 
+    /**
+     * The number of records by which the chunks split off for parallel
+     * streams grow with every split.
+     */
+    private static final int CHUNK_SIZE_INCREMENT = 256;
+
+    /** The largest number of records read into one chunk for parallel streams. */
+    private static final int MAX_CHUNK_SIZE = 1 << 16;
+
     /**
      * A list of all exceptions during parsing and mapping of the input.
      */
     private final List<CsvException> capturedExceptions = new LinkedList<>();
 
+    /**
+     * Whether exceptions have been captured by several threads without an
+     * executor, and thus not necessarily in the order of the input.
+     */
+    private volatile boolean capturedOutOfOrder = false;
+
     /**
      * The mapping strategy to be used by this CsvToBean.
      */
@@ -107,6 +127,30 @@ public class CsvToBean<T> implements Iterable<T> {
      */
     private boolean ignoreEmptyLines = false;
 
+    /**
+     * The number of threads used to convert lines of input to beans.
+     * Values below one mean one thread per available processor.
+     */
+    private int concurrency = 0;
+
+    /**
+     * The maximum number of records read but not yet consumed.
+     * Values below one mean there is no limit.
+     */
+    private int maxRecordsInFlight = 0;
+
+    /**
+     * The executor on which lines of input are converted to beans, or
+     * {@code null} if threads are started for every conversion run.
+     */
+    private Executor conversionExecutor = null;
+
+    /**
+     * The time {@link #parse()} and {@link #stream()} are allowed for
+     * reading and conversion, or {@code null} if there is no limit.
+     */
+    private Duration timeout = null;
+
     /**
      * Default constructor.
      */
@@ -123,7 +167,9 @@ public class CsvToBean<T> implements Iterable<T> {
      * @see #iterator()
      */
     public List<T> parse() throws IllegalStateException {
-        return stream().collect(Collectors.toList());
+        try (Stream<T> beans = stream()) {
+            return beans.collect(Collectors.toList());
+        }
     }
 
     /**
@@ -133,6 +179,27 @@ public class CsvToBean<T> implements Iterable<T> {
      * results in a {@link java.util.List}. If you plan on further processing
      * the results as a {@link java.util.stream.Stream}, use this method.
      *
+     * <p>If the concurrency has been set to one (see
+     * {@link #setConcurrency(int)}), no threads are started, and every bean
+     * is converted in the thread consuming the stream, exactly as with
+     * {@link #iterator()}.</p>
+     *
+     * <p>If the stream is made parallel, no threads are started either.
+     * Instead, the input is read in chunks of records as the stream splits
+     * its work, and the records of a chunk are converted by the thread of
+     * the stream's {@link java.util.concurrent.ForkJoinPool} that
+     * processes the chunk, together with all operations that follow in the
+     * stream. Results are ordered unless unordered results have been
+     * requested (see {@link #setOrderedResults(boolean)}).</p>
+     *
+     * <p>Otherwise, the input is read and converted in the background,
+     * ahead of the consumer of the stream. Closing the stream stops reading
+     * and conversion within a record or so. A stream that is not consumed
+     * to the end, for example because of {@link Stream#limit(long)} or
+     * {@link Stream#findFirst()}, should therefore be closed, most easily
+     * with a try-with-resources statement; otherwise, the rest of the input
+     * is read and converted for nothing.</p>
+     *
      * @return A stream of populated beans based on the input
      * @throws IllegalStateException If either MappingStrategy or CSVReader is
      *                               not specified
@@ -141,12 +208,9 @@ public class CsvToBean<T> implements Iterable<T> {
      */
     public Stream<T> stream() throws IllegalStateException {
         prepareToReadInput();
-        CompleteFileReader<T> completeFileReader = new CompleteFileReader<>(
-                csvReader, filter, ignoreEmptyLines,
-                mappingStrategy, exceptionHandler, verifiers);
-        executor = new LineExecutor<T>(orderedResults, errorLocale, completeFileReader);
-        executor.prepare();
-        return StreamSupport.stream(executor, false);
+        executor = null;
+        CsvToBeanSpliterator spliterator = new CsvToBeanSpliterator();
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
     }
 
     /**
@@ -162,7 +226,19 @@ public class CsvToBean<T> implements Iterable<T> {
     public List<CsvException> getCapturedExceptions() {
         // The exceptions are stored in different places, dependent on
         // whether or not the iterator is used.
-        return executor != null ? executor.getCapturedExceptions() : capturedExceptions;
+        if (executor != null) {
+            return executor.getCapturedExceptions();
+        }
+        if (capturedOutOfOrder) {
+            // The sort is stable, so multiple exceptions from the same line
+            // stay in the order in which they were thrown.
+            synchronized (capturedExceptions) {
+                List<CsvException> sorted = new ArrayList<>(capturedExceptions);
+                sorted.sort(Comparator.comparingLong(CsvException::getLineNumber));
+                return sorted;
+            }
+        }
+        return capturedExceptions;
     }
 
     /**
@@ -262,6 +338,97 @@ public class CsvToBean<T> implements Iterable<T> {
         this.orderedResults = orderedResults;
     }
 
+    /**
+     * Sets the number of threads used to convert input to beans in
+     * {@link #parse()} and {@link #stream()}.
+     * <p>By default, one thread per available processor is used, plus one
+     * thread for reading the input and, for ordered results, one for
+     * reordering them. That pays off for large inputs, but for small inputs
+     * the cost of handing every line to another thread and back is greater
+     * than the cost of conversion. With a concurrency of one, no threads are
+     * started at all, and every line is converted in the calling thread as
+     * the results are consumed. The results are then always ordered.</p>
+     *
+     * <p>If an executor has been set with
+     * {@link #setConversionExecutor(Executor)}, this is the number of
+     * conversions handed to that executor at once.</p>
+     *
+     * @param concurrency The number of threads for conversion. Values below
+     *                    one restore the default.
+     * @since 5.12
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sets the executor on which {@link #parse()} and {@link #stream()}
+     * convert input to beans.
+     * <p>By default, a new pool of threads is started for every call to
+     * these methods and shut down at the end. Applications that read many
+     * small inputs at the same time can instead share one executor, for
+     * example a {@link java.util.concurrent.ForkJoinPool} or an executor
+     * that starts a virtual thread for every task. No more conversions than
+     * the concurrency (see {@link #setConcurrency(int)}) are handed to the
+     * executor at once. The executor is never shut down by opencsv.</p>
+     * <p>The input is still read in a thread of its own, since it blocks
+     * while waiting for input and must not occupy a thread the conversions
+     * are waiting for.</p>
+     *
+     * @param conversionExecutor The executor to run conversions on, or
+     *                           {@code null} to start threads for every
+     *                           conversion run, which is the default
+     * @since 5.12
+     */
+    public void setConversionExecutor(Executor conversionExecutor) {
+        this.conversionExecutor = conversionExecutor;
+    }
+
+    /**
+     * Limits the number of records held in memory by {@link #parse()} and
+     * {@link #stream()} between being read and being consumed.
+     * <p>By default, input is read as fast as possible, and all records and
+     * beans that the conversion threads or the consumer of the stream have
+     * not caught up with are kept in memory. For very large input that can
+     * amount to the whole file. With a limit, reading waits whenever that
+     * many records are in flight, so {@link #stream()} works in constant
+     * memory on input of any size. {@link #parse()} still keeps all beans,
+     * of course.</p>
+     * <p>With a limit, the stream must be consumed to the end or closed.
+     * If it is abandoned, the thread reading the input waits
+     * indefinitely.</p>
+     *
+     * @param maxRecordsInFlight The maximum number of records read but not
+     *                           yet consumed. Values below one mean there is
+     *                           no limit, which is the default.
+     * @since 5.12
+     */
+    public void setMaxRecordsInFlight(int maxRecordsInFlight) {
+        this.maxRecordsInFlight = maxRecordsInFlight;
+    }
+
+    /**
+     * Limits the time {@link #parse()} and {@link #stream()} may take to
+     * read and convert the input.
+     * <p>The time is measured from the call to {@link #parse()} or
+     * {@link #stream()}. Once it is up, reading and conversion stop, and
+     * {@link #parse()} or the next operation on the stream throws a
+     * {@link RuntimeException} with a
+     * {@link java.util.concurrent.TimeoutException} as its cause. Time
+     * spent waiting for the consumer of the stream counts, too.</p>
+     * <p>The limit does not apply with a concurrency of one (see
+     * {@link #setConcurrency(int)}) or to parallel streams, since the input
+     * is then converted as the results are consumed, under the control of
+     * the caller.</p>
+     *
+     * @param timeout The time allowed, or {@code null} for no limit, which
+     *                is the default
+     * @since 5.12
+     */
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
     /**
      * Sets the locale for error messages.
      *
@@ -310,6 +477,8 @@ public class CsvToBean<T> implements Iterable<T> {
      * and returns one bean at a time.
      * <p>The advantage to this method is saving memory. The cost is the loss of
      * parallel processing, reducing throughput.</p>
+     * <p>Every bean is converted in the calling thread when the iterator
+     * advances; no threads or queues are involved.</p>
      * <p>The iterator respects all aspects of {@link CsvToBean}, including
      * filters and capturing exceptions.</p>
      *
@@ -320,9 +489,78 @@ public class CsvToBean<T> implements Iterable<T> {
     @Override
     public Iterator<T> iterator() {
         prepareToReadInput();
+        executor = null;
         return new CsvToBeanIterator();
     }
 
+    /**
+     * Reads the input one line at a time, populating beans supplied by the
+     * caller and handing each one to the caller as soon as it is complete.
+     * <p>This is meant for consumers that process each bean immediately and
+     * do not keep it. Instead of creating a new bean for every line of
+     * input, the mapping strategy writes each line into a bean taken from
+     * {@code beanSupplier} (see
+     * {@link MappingStrategy#populateExistingBean(Object, String[])}). The
+     * supplier can return the same instance every time or take instances
+     * from a pool, and {@code sink} is free to return them to the pool.
+     * Since beans are not reset before they are populated, a field for
+     * which the input is empty keeps its previous value. If that matters,
+     * the supplier must reset the bean.</p>
+     * <p>Like {@link #iterator()}, this method processes all input in the
+     * calling thread, and it respects all aspects of {@link CsvToBean},
+     * including filters, verifiers and capturing exceptions. A bean is only
+     * taken from the supplier once a line has passed the filter. A bean that
+     * fails conversion or is rejected by a verifier is not passed to
+     * {@code sink}, and the caller does not get it back.</p>
+     * <p>The mapping strategy must implement
+     * {@link MappingStrategy#populateExistingBean(Object, String[])}, as all
+     * mapping strategies derived from {@link AbstractMappingStrategy} do.</p>
+     *
+     * @param beanSupplier Provides the bean to be populated for every line of
+     *                     input. Must not return {@code null}.
+     * @param sink         Receives every bean once it has been populated and
+     *                     verified
+     * @throws IllegalStateException If either MappingStrategy or CSVReader is
+     *                               not specified
+     * @throws UnsupportedOperationException If the mapping strategy cannot
+     *   populate existing beans
+     * @since 5.12
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Supplier<? extends T> beanSupplier, Consumer<? super T> sink)
+            throws IllegalStateException {
+        prepareToReadInput();
+        executor = null;
+        final MappingStrategy<T> strategy = (MappingStrategy<T>) mappingStrategy;
+        final SingleLineReader lineReader = new SingleLineReader(csvReader, ignoreEmptyLines);
+        final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
+        String[] line = null;
+        long lineProcessed = 0;
+        try {
+            while (null != (line = lineReader.readNextLine())) {
+                lineProcessed = lineReader.getLinesRead();
+                T bean;
+                try {
+                    bean = convertLine(strategy, beanSupplier, line);
+                } catch (CsvException e) {
+                    captureException(e, line, lineProcessed, thrownExceptionsQueue);
+                    continue;
+                } catch (UnsupportedOperationException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    // Wrapped as the other methods of reading do
+                    throw new RuntimeException(e);
+                }
+                if (bean != null) {
+                    sink.accept(bean);
+                }
+            }
+        } catch (IOException | CsvValidationException e) {
+            throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error"),
+                    lineProcessed, Arrays.toString(line)), e);
+        }
+    }
+
     /**
      * Ignores any blank lines in the data that are not part of a field.
      *
@@ -332,57 +570,108 @@ public class CsvToBean<T> implements Iterable<T> {
         this.ignoreEmptyLines = ignoreEmptyLines;
     }
 
+    /**
+     * Converts one line of input to a bean in the calling thread.
+     * This is the inline counterpart to {@link ProcessCsvLine}, used whenever
+     * no executor is involved. The filter is consulted first, then the bean
+     * is populated and run through all verifiers.
+     *
+     * @param strategy     The mapping strategy to populate the bean with
+     * @param beanSupplier Provides the bean to be populated, or {@code null}
+     *                     if the mapping strategy should create a new one
+     * @param line         The line of input
+     * @return The finished bean, or {@code null} if the line was filtered or
+     * the bean was rejected by a verifier
+     * @throws CsvException If the line cannot be converted or a verifier
+     *                      throws an exception
+     */
+    private T convertLine(MappingStrategy<T> strategy, Supplier<? extends T> beanSupplier, String[] line)
+            throws CsvException {
+        if (filter != null && !filter.allowLine(line)) {
+            return null;
+        }
+        T bean = beanSupplier == null ? strategy.populateNewBean(line)
+                : strategy.populateExistingBean(beanSupplier.get(), line);
+        for (BeanVerifier<T> verifier : verifiers) {
+            if (!verifier.verifyBean(bean)) {
+                return null;
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Passes an exception thrown while converting a line in the calling
+     * thread to the exception handler and collects whatever it captures.
+     *
+     * @param e          The exception thrown during conversion
+     * @param line       The line of input that caused the exception
+     * @param lineNumber The number of the line of input
+     * @param queue      A queue for the exception handler to report captured
+     *                   exceptions to. It is empty after this method returns.
+     */
+    private void captureException(CsvException e, String[] line, long lineNumber,
+                                  BlockingQueue<OrderedObject<CsvException>> queue) {
+        e.setLine(line);
+        try {
+            OpencsvUtils.handleException(e, lineNumber, exceptionHandler, queue);
+        } finally {
+            synchronized (capturedExceptions) {
+                OrderedObject<CsvException> o;
+                while (null != (o = queue.poll())) {
+                    capturedExceptions.add(o.getElement());
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts one line of input to a new bean in the calling thread,
+     * capturing exceptions as the exception handler decides.
+     *
+     * @param strategy   The mapping strategy to populate the bean with
+     * @param line       The line of input
+     * @param lineNumber The number of the line of input
+     * @param queue      A queue for the exception handler to report captured
+     *                   exceptions to
+     * @return The finished bean, or {@code null} if there is none for this
+     * line
+     */
+    private T convertOrCapture(MappingStrategy<T> strategy, String[] line, long lineNumber,
+                               BlockingQueue<OrderedObject<CsvException>> queue) {
+        try {
+            return convertLine(strategy, null, line);
+        } catch (CsvException e) {
+            captureException(e, line, lineNumber, queue);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e);
+        }
+        return null;
+    }
+
     /**
      * A private inner class for implementing an iterator for the input data.
+     * Every bean is converted in the calling thread as it is requested.
      */
     private class CsvToBeanIterator implements Iterator<T> {
-        private final BlockingQueue<OrderedObject<T>> resultantBeansQueue;
-        private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue;
+        @SuppressWarnings("unchecked")
+        private final MappingStrategy<T> strategy = (MappingStrategy<T>) mappingStrategy;
+        private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
         private final SingleLineReader lineReader = new SingleLineReader(csvReader, ignoreEmptyLines);
         private String[] line = null;
         private long lineProcessed = 0;
         private T bean;
 
         CsvToBeanIterator() {
-            resultantBeansQueue = new ArrayBlockingQueue<>(1);
-            thrownExceptionsQueue = new LinkedBlockingQueue<>();
             readSingleLine();
         }
 
-        private void processException() {
-            // At least one exception was thrown
-            OrderedObject<CsvException> o = thrownExceptionsQueue.poll();
-            while (o != null && o.getElement() != null) {
-                capturedExceptions.add(o.getElement());
-                o = thrownExceptionsQueue.poll();
-            }
-        }
-
         private void readLineWithPossibleError() throws IOException, CsvValidationException {
-            // Read a line
+            // Read lines until one yields a bean or the input is exhausted
             bean = null;
             while (bean == null && null != (line = lineReader.readNextLine())) {
                 lineProcessed = lineReader.getLinesRead();
-
-                // Create a bean
-                ProcessCsvLine<T> proc = new ProcessCsvLine<>(
-                        lineProcessed, mappingStrategy, filter, verifiers,
-                        line, resultantBeansQueue, thrownExceptionsQueue,
-                        new TreeSet<>(), exceptionHandler);
-                proc.run();
-
-                if (!thrownExceptionsQueue.isEmpty()) {
-                    processException();
-                } else {
-                    // No exception, so there really must always be a bean
-                    // . . . unless it was filtered
-                    OrderedObject<T> o = resultantBeansQueue.poll();
-                    bean = o == null ? null : o.getElement();
-                }
-            }
-            if (line == null) {
-                // There isn't any more
-                bean = null;
+                bean = convertOrCapture(strategy, line, lineProcessed, thrownExceptionsQueue);
             }
         }
 
@@ -418,4 +707,193 @@ public class CsvToBean<T> implements Iterable<T> {
                     .getString("read.only.iterator"));
         }
     }
+
+    /**
+     * The spliterator behind {@link #stream()}.
+     * <p>How the input is read and converted is decided when the stream is
+     * evaluated. A sequential stream only ever advances the spliterator, and
+     * a {@link LineExecutor} is started to read and convert the input in
+     * threads of its own, unless the concurrency is one, in which case
+     * every line is converted in the consuming thread. A parallel stream
+     * splits the spliterator before it advances it. In that case, no
+     * executor is started: every split reads the next chunk of records
+     * without converting them, and the records of a chunk are converted by
+     * the thread that processes the chunk.</p>
+     */
+    private class CsvToBeanSpliterator implements Spliterator<T> {
+        @SuppressWarnings("unchecked")
+        private final MappingStrategy<T> strategy = (MappingStrategy<T>) mappingStrategy;
+        private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
+        private final SingleLineReader lineReader = new SingleLineReader(csvReader, ignoreEmptyLines);
+        private final long start = System.nanoTime();
+        private final int characteristics = concurrency == 1 || orderedResults ?
+                Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+        private LineExecutor<T> lineExecutor = null;
+        private boolean started = false;
+        private boolean exhausted = false;
+        private int chunkSize = 0;
+
+        /**
+         * Starts an executor for the input, unless it is to be converted in
+         * the calling thread.
+         *
+         * @return Whether the input is converted by an executor
+         */
+        private boolean startExecutor() {
+            if (!started) {
+                started = true;
+                if (concurrency != 1) {
+                    CompleteFileReader<T> completeFileReader = new CompleteFileReader<>(
+                            csvReader, filter, ignoreEmptyLines,
+                            mappingStrategy, exceptionHandler, verifiers);
+                    lineExecutor = new LineExecutor<>(orderedResults, errorLocale, completeFileReader,
+                            concurrency, maxRecordsInFlight, conversionExecutor);
+                    if (timeout != null) {
+                        // The time allowed is measured from the call to stream()
+                        lineExecutor.setTimeout(Math.max(1, timeout.toNanos() - (System.nanoTime() - start)),
+                                TimeUnit.NANOSECONDS);
+                    }
+                    lineExecutor.prepare();
+                    executor = lineExecutor;
+                }
+            }
+            return lineExecutor != null;
+        }
+
+        /**
+         * @return The next line of input, or {@code null} if the input is
+         * exhausted
+         */
+        private String[] readLine() {
+            if (exhausted) {
+                return null;
+            }
+            try {
+                String[] line = lineReader.readNextLine();
+                exhausted = line == null;
+                return line;
+            } catch (IOException | CsvValidationException e) {
+                exhausted = true;
+                throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error"),
+                        lineReader.getLinesRead(), Arrays.toString(lineReader.getLine())), e);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (startExecutor()) {
+                return lineExecutor.tryAdvance(action);
+            }
+            String[] line;
+            while (null != (line = readLine())) {
+                T bean = convertOrCapture(strategy, line, lineReader.getLinesRead(), thrownExceptionsQueue);
+                if (bean != null) {
+                    action.accept(bean);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (!started) {
+                // Splitting before advancing means a parallel stream, which
+                // brings its own threads.
+                started = true;
+            }
+            if (lineExecutor != null) {
+                return lineExecutor.trySplit();
+            }
+
+            // Chunks grow with every split, so small inputs are spread over
+            // several threads and large inputs are not split into too many
+            // chunks.
+            chunkSize = Math.min(chunkSize + CHUNK_SIZE_INCREMENT, MAX_CHUNK_SIZE);
+            String[][] lines = new String[chunkSize][];
+            long[] lineNumbers = new long[chunkSize];
+            int n = 0;
+            String[] line;
+            while (n < chunkSize && null != (line = readLine())) {
+                lines[n] = line;
+                lineNumbers[n++] = lineReader.getLinesRead();
+            }
+            if (n == 0) {
+                return null;
+            }
+            capturedOutOfOrder = true;
+            return new RecordChunk(lines, lineNumbers, 0, n);
+        }
+
+        @Override
+        public long estimateSize() {
+            return lineExecutor != null ? lineExecutor.estimateSize() : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+
+        /** Stops the executor, if one has been started. */
+        void close() {
+            if (lineExecutor != null) {
+                lineExecutor.shutdownNow();
+            }
+        }
+
+        /**
+         * A chunk of records that have been read, but not converted yet.
+         * The records are converted by the thread that advances the chunk.
+         */
+        private class RecordChunk implements Spliterator<T> {
+            private final BlockingQueue<OrderedObject<CsvException>> chunkExceptionsQueue = new LinkedBlockingQueue<>();
+            private final String[][] lines;
+            private final long[] lineNumbers;
+            private int index;
+            private final int end;
+
+            RecordChunk(String[][] lines, long[] lineNumbers, int index, int end) {
+                this.lines = lines;
+                this.lineNumbers = lineNumbers;
+                this.index = index;
+                this.end = end;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                while (index < end) {
+                    String[] line = lines[index];
+                    lines[index] = null;
+                    T bean = convertOrCapture(strategy, line, lineNumbers[index++], chunkExceptionsQueue);
+                    if (bean != null) {
+                        action.accept(bean);
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                int middle = (index + end) >>> 1;
+                if (middle <= index) {
+                    return null;
+                }
+                RecordChunk prefix = new RecordChunk(lines, lineNumbers, index, middle);
+                index = middle;
+                return prefix;
+            }
+
+            @Override
+            public long estimateSize() {
+                return end - index;
+            }
+
+            @Override
+            public int characteristics() {
+                return characteristics;
+            }
+        }
+    }
 }
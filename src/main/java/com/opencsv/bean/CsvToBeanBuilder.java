@@ -28,10 +28,12 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.Reader;
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.Executor;
 
 /**
  * This class makes it possible to bypass all the intermediate steps and classes
@@ -138,6 +140,26 @@ public class CsvToBeanBuilder<T> {
      */
     private boolean orderedResults = true;
 
+    /**
+     * @see com.opencsv.bean.CsvToBean#concurrency
+     */
+    private int concurrency = 0;
+
+    /**
+     * @see com.opencsv.bean.CsvToBean#maxRecordsInFlight
+     */
+    private int maxRecordsInFlight = 0;
+
+    /**
+     * @see com.opencsv.bean.CsvToBean#conversionExecutor
+     */
+    private Executor conversionExecutor = null;
+
+    /**
+     * @see com.opencsv.bean.CsvToBean#timeout
+     */
+    private Duration timeout = null;
+
     /**
      * @see com.opencsv.bean.CsvToBean#ignoreEmptyLines
      */
@@ -224,6 +246,10 @@ public class CsvToBeanBuilder<T> {
         }
 
         bean.setOrderedResults(orderedResults);
+        bean.setConcurrency(concurrency);
+        bean.setMaxRecordsInFlight(maxRecordsInFlight);
+        bean.setConversionExecutor(conversionExecutor);
+        bean.setTimeout(timeout);
         if (filter != null) {
             bean.setFilter(filter);
         }
@@ -501,6 +527,69 @@ public class CsvToBeanBuilder<T> {
         return this;
     }
     
+    /**
+     * Sets the number of threads used to convert the input to beans.
+     * A concurrency of one converts every line in the calling thread
+     * without starting any threads, which is fastest for small inputs.
+     *
+     * @param concurrency The number of threads for conversion. Values below
+     *                    one mean one thread per available processor, which
+     *                    is the default.
+     * @return {@code this}
+     * @see CsvToBean#setConcurrency(int)
+     * @since 5.12
+     */
+    public CsvToBeanBuilder<T> withConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Limits the number of records held in memory between being read and
+     * being consumed.
+     *
+     * @param maxRecordsInFlight The maximum number of records read but not
+     *                           yet consumed. Values below one mean there is
+     *                           no limit, which is the default.
+     * @return {@code this}
+     * @see CsvToBean#setMaxRecordsInFlight(int)
+     * @since 5.12
+     */
+    public CsvToBeanBuilder<T> withMaxRecordsInFlight(int maxRecordsInFlight) {
+        this.maxRecordsInFlight = maxRecordsInFlight;
+        return this;
+    }
+
+    /**
+     * Sets an executor shared with the rest of the application on which
+     * input is converted to beans.
+     *
+     * @param conversionExecutor The executor to run conversions on, or
+     *                           {@code null} to start threads for every
+     *                           conversion run, which is the default
+     * @return {@code this}
+     * @see CsvToBean#setConversionExecutor(Executor)
+     * @since 5.12
+     */
+    public CsvToBeanBuilder<T> withConversionExecutor(Executor conversionExecutor) {
+        this.conversionExecutor = conversionExecutor;
+        return this;
+    }
+
+    /**
+     * Limits the time allowed for reading and converting the input.
+     *
+     * @param timeout The time allowed, or {@code null} for no limit, which
+     *                is the default
+     * @return {@code this}
+     * @see CsvToBean#setTimeout(Duration)
+     * @since 5.12
+     */
+    public CsvToBeanBuilder<T> withTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
     /**
      * Sets the locale for all error messages.
      * 
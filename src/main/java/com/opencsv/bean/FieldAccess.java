@@ -4,6 +4,9 @@ import com.opencsv.bean.function.AccessorInvoker;
 import com.opencsv.bean.function.AssignmentInvoker;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -20,6 +23,12 @@ import java.util.Optional;
  *     {@code null} values lead to empty {@link java.util.Optional}s.</li>
  *     <li>Use reflection bypassing all access control restrictions.</li>
  * </ol>These are considered separately for reading and writing.</p>
+ * <p>If code for accessing the declaring class of the field was generated at
+ * compile time (see {@link GeneratedBeanAccess}), it is used in place of
+ * reflection wherever it is able to access the field.</p>
+ * <p>For member variables of the types {@code int}, {@code long} and
+ * {@code double}, a primitive assignment is additionally offered that follows
+ * the same rules, but does not box the value being assigned.</p>
  *
  * @param <T> The type of the member variable being accessed
  * @author Andrew Rucker Jones
@@ -36,16 +45,51 @@ public class FieldAccess<T> {
     /** A functional interface to write the field. */
     private final AssignmentInvoker<Object, T> assignment;
 
+    /**
+     * A method handle of the type {@code (Object, primitive)void} to write the
+     * field without boxing, or {@code null} if the field is not of a supported
+     * primitive type or cannot be accessed this way.
+     */
+    private final MethodHandle primitiveAssignment;
+
     /**
      * Constructs this instance by determining what mode of access will work
      * for this field.
      *
      * @param field The field to be accessed.
      */
+    @SuppressWarnings("unchecked")
     public FieldAccess(Field field) {
         this.field = field;
-        accessor = determineAccessorMethod();
-        assignment = determineAssignmentMethod();
+        GeneratedBeanAccess generated = IntrospectionCache.generatedAccess(field.getDeclaringClass());
+        AccessorInvoker<Object, T> generatedAccessor = null;
+        AssignmentInvoker<Object, T> generatedAssignment = null;
+        if(generated != null) {
+            generatedAccessor = (AccessorInvoker<Object, T>) generated.accessor(field.getName());
+            generatedAssignment = (AssignmentInvoker<Object, T>) generated.assignment(field.getName());
+        }
+        accessor = generatedAccessor != null ? generatedAccessor : determineAccessorMethod();
+        assignment = generatedAssignment != null ? generatedAssignment : determineAssignmentMethod();
+
+        // Generated code assigns without reflection, which is worth more
+        // than avoiding boxing.
+        primitiveAssignment = generatedAssignment != null ? null : determinePrimitiveAssignmentMethod();
+    }
+
+    /**
+     * Provides the instance for accessing a field that is shared by all
+     * mapping strategies.
+     * Determining the mode of access is relatively expensive, and the
+     * result is immutable, so it is kept in the {@link IntrospectionCache}.
+     *
+     * @param field The field to be accessed
+     * @param <T>   The type of the field
+     * @return The shared instance for accessing the field
+     * @since 5.12
+     */
+    static <T> FieldAccess<T> forField(Field field) {
+        return IntrospectionCache.get(field.getDeclaringClass(), field,
+                () -> new FieldAccess<T>(field));
     }
 
     @SuppressWarnings("unchecked")
@@ -89,6 +133,53 @@ public class FieldAccess<T> {
         return localAssignment;
     }
 
+    private MethodHandle determinePrimitiveAssignmentMethod() {
+        Class<?> fieldType = field.getType();
+        if(fieldType != Integer.TYPE && fieldType != Long.TYPE && fieldType != Double.TYPE) {
+            return null;
+        }
+        String setterName = "set" + Character.toUpperCase(field.getName().charAt(0))
+                + field.getName().substring(1);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle;
+        try {
+            Method setterMethod = field.getDeclaringClass().getMethod(setterName, fieldType);
+            setterMethod.setAccessible(true);
+            handle = lookup.unreflect(setterMethod);
+        } catch (NoSuchMethodException e1) {
+            try {
+                // A setter taking an Optional rules out primitive assignment
+                field.getDeclaringClass().getMethod(setterName, Optional.class);
+                return null;
+            } catch (NoSuchMethodException e2) {
+                try {
+                    field.setAccessible(true);
+                    handle = lookup.unreflectSetter(field);
+                } catch (IllegalAccessException | RuntimeException e3) {
+                    return null;
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            // Access is denied, for example by the module system. The boxed
+            // path through reflection will report the problem, if any.
+            return null;
+        }
+        return handle.asType(MethodType.methodType(Void.TYPE, Object.class, fieldType));
+    }
+
+    /**
+     * Whether this member variable can be written through
+     * {@link #setIntField(Object, int)}, {@link #setLongField(Object, long)}
+     * or {@link #setDoubleField(Object, double)}, according to its type.
+     *
+     * @return {@code true} if the member variable is of type {@code int},
+     *   {@code long} or {@code double} and can be written without boxing
+     * @since 5.12
+     */
+    public boolean isPrimitiveAssignmentAvailable() {
+        return primitiveAssignment != null;
+    }
+
     /**
      * Returns the value of the field in the given bean.
      * @param bean The bean from which the value of this field should be returned
@@ -115,6 +206,61 @@ public class FieldAccess<T> {
         assignment.invoke(bean, value);
     }
 
+    /**
+     * Sets the value of an {@code int} field in the given bean without boxing.
+     * May only be called if {@link #isPrimitiveAssignmentAvailable()} is
+     * {@code true} and the field is of type {@code int}.
+     *
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws InvocationTargetException If the setter throws an exception
+     * @since 5.12
+     */
+    public void setIntField(Object bean, int value) throws InvocationTargetException {
+        try {
+            primitiveAssignment.invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a {@code long} field in the given bean without boxing.
+     * May only be called if {@link #isPrimitiveAssignmentAvailable()} is
+     * {@code true} and the field is of type {@code long}.
+     *
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws InvocationTargetException If the setter throws an exception
+     * @since 5.12
+     */
+    public void setLongField(Object bean, long value) throws InvocationTargetException {
+        try {
+            primitiveAssignment.invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a {@code double} field in the given bean without
+     * boxing.
+     * May only be called if {@link #isPrimitiveAssignmentAvailable()} is
+     * {@code true} and the field is of type {@code double}.
+     *
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws InvocationTargetException If the setter throws an exception
+     * @since 5.12
+     */
+    public void setDoubleField(Object bean, double value) throws InvocationTargetException {
+        try {
+            primitiveAssignment.invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
     /**
      * Creates a hash code for this object.
      * This override delegates hash code creation to the field passed in
@@ -21,6 +21,8 @@ public class FuzzyMappingStrategyBuilder<T>
     @Override
     public FuzzyMappingStrategy<T> build() {
         FuzzyMappingStrategy<T> builder = new FuzzyMappingStrategy<>(forceCorrectRecordLength);
+        builder.setBeanUtilsConversion(beanUtilsConversion);
+        builder.setConversionCacheSize(conversionCacheSize);
         if (type != null) {
             builder.setType(type);
         }
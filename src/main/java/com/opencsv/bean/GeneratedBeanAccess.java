@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import com.opencsv.bean.function.AccessorInvoker;
+import com.opencsv.bean.function.AssignmentInvoker;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Access to the members of a bean without reflection.
+ * <p>Implementations of this interface are generated at compile time by
+ * {@link com.opencsv.bean.apt.CsvBindingProcessor} and are not meant to be
+ * written by hand. The implementation for a bean class has the binary name
+ * of the bean class followed by {@link #CLASS_NAME_SUFFIX}, and it lives in
+ * the same package as the bean. If such a class is present at runtime,
+ * opencsv uses it instead of reflection to find the fields of beans, to
+ * create beans and to read and write their fields.</p>
+ * <p>Every method may return {@code null} to indicate that the generated code
+ * cannot perform the operation in question, for example because the
+ * field is private and has no accessor method. opencsv then falls back to
+ * reflection for that operation. Whatever the generated code does perform
+ * follows the same rules as {@link FieldAccess}: accessor methods are
+ * preferred over direct access to the field, and {@link java.util.Optional}
+ * is wrapped and unwrapped as necessary.</p>
+ *
+ * @since 5.12
+ */
+public interface GeneratedBeanAccess {
+
+    /**
+     * The suffix appended to the binary name of a bean class to form the
+     * name of the class that provides generated access to it.
+     */
+    String CLASS_NAME_SUFFIX = "_OpencsvAccess";
+
+    /**
+     * Provides a means of creating new instances of the bean.
+     *
+     * @return A function that calls the nullary constructor of the bean, or
+     *   {@code null} if none is accessible
+     */
+    Supplier<Object> constructor();
+
+    /**
+     * Provides a means of reading a field of the bean.
+     *
+     * @param fieldName The name of a field declared in the bean class
+     * @return A function that reads the field, or {@code null} if generated
+     *   code cannot read the field
+     */
+    AccessorInvoker<Object, Object> accessor(String fieldName);
+
+    /**
+     * Provides a means of writing a field of the bean.
+     * <p>The function returned throws {@link IllegalArgumentException} if
+     * the bean or the value is not of the expected type, and it wraps any
+     * exception thrown by a setter in a
+     * {@link java.lang.reflect.InvocationTargetException}, just as
+     * reflection would.</p>
+     *
+     * @param fieldName The name of a field declared in the bean class
+     * @return A function that writes the field, or {@code null} if generated
+     *   code cannot write the field
+     */
+    AssignmentInvoker<Object, Object> assignment(String fieldName);
+
+    /**
+     * Describes the fields of the bean class and all of its superclasses,
+     * so that opencsv need not search them for annotations with reflection.
+     * <p>The fields are listed in the order in which
+     * {@link org.apache.commons.lang3.reflect.FieldUtils#getAllFields(Class)}
+     * returns them: the fields declared by the bean class first, in the
+     * order of declaration, then those of its superclass, and so on.</p>
+     *
+     * @return One entry for every field, static or not, or {@code null} if
+     *   the fields are to be determined with reflection
+     */
+    FieldMetadata[] fields();
+
+    /**
+     * What was known at compile time about one field of a bean class or one
+     * of its superclasses.
+     * Immutable.
+     *
+     * @since 5.12
+     */
+    final class FieldMetadata {
+        private final int depth;
+        private final String name;
+        private final Set<String> annotations;
+
+        /**
+         * @param depth       The number of steps from the bean class up the
+         *                    hierarchy of superclasses to the class declaring
+         *                    the field. Zero for the bean class itself.
+         * @param name        The name of the field
+         * @param annotations The binary names of the types of all annotations
+         *                    on the field that are retained at runtime
+         */
+        public FieldMetadata(int depth, String name, String... annotations) {
+            this.depth = depth;
+            this.name = name;
+            this.annotations = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(annotations)));
+        }
+
+        /**
+         * @return The number of steps from the bean class up to the class
+         *   declaring the field
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * @return The name of the field
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The binary names of the types of all annotations on the
+         *   field that are retained at runtime
+         */
+        public Set<String> getAnnotations() {
+            return annotations;
+        }
+    }
+}
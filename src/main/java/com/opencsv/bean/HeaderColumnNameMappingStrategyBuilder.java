@@ -21,6 +21,8 @@ public class HeaderColumnNameMappingStrategyBuilder<T>
     @Override
     public HeaderColumnNameMappingStrategy<T> build() {
         HeaderColumnNameMappingStrategy<T> builder = new HeaderColumnNameMappingStrategy<>(forceCorrectRecordLength);
+        builder.setBeanUtilsConversion(beanUtilsConversion);
+        builder.setConversionCacheSize(conversionCacheSize);
         if (type != null) {
             builder.setType(type);
         }
@@ -21,6 +21,8 @@ public class HeaderColumnNameTranslateMappingStrategyBuilder<T>
     @Override
     public HeaderColumnNameTranslateMappingStrategy<T> build() {
         HeaderColumnNameTranslateMappingStrategy<T> builder = new HeaderColumnNameTranslateMappingStrategy<>(forceCorrectRecordLength);
+        builder.setBeanUtilsConversion(beanUtilsConversion);
+        builder.setConversionCacheSize(conversionCacheSize);
         if (type != null) {
             builder.setType(type);
         }
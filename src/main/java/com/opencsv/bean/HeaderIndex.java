@@ -40,6 +40,9 @@ public class HeaderIndex {
      * positions.
      */
     private MultiValuedMap<String, Integer> headerToPosition = new ArrayListValuedHashMap<>();
+
+    /** Counts the changes to the mapping, so others can tell it changed. */
+    private int modificationCount = 0;
     
     /** Useless but explicit nullary constructor to make the style checker happy. */
     public HeaderIndex(){}
@@ -48,6 +51,7 @@ public class HeaderIndex {
      * Empties the entire mapping.
      */
     public void clear() {
+        modificationCount++;
         positionToHeader = ArrayUtils.EMPTY_STRING_ARRAY;
         headerToPosition.clear();
     }
@@ -75,6 +79,7 @@ public class HeaderIndex {
      *   expected in the CSV input
      */
     public void initializeHeaderIndex(String[] header) {
+        modificationCount++;
         positionToHeader = header != null ? ArrayUtils.clone(header): ArrayUtils.EMPTY_STRING_ARRAY;
         headerToPosition.clear();
         int i = 0;
@@ -84,6 +89,14 @@ public class HeaderIndex {
         }
     }
     
+    /**
+     * @return A number that changes whenever the mapping is changed
+     * @since 5.12
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+
     /** @return Whether or not the mapping is empty */
     public boolean isEmpty() {
         return positionToHeader.length == 0;
@@ -139,6 +152,7 @@ public class HeaderIndex {
      * @param v The header to be associated with the column position
      */
     public void put(int k, String v) {
+        modificationCount++;
         if(k >= positionToHeader.length) {
             positionToHeader = Arrays.copyOf(positionToHeader, k+1);
             positionToHeader[k] = v;
@@ -103,8 +103,7 @@ abstract public class HeaderNameBaseMappingStrategy<T> extends AbstractMappingSt
 
     @Override
     protected String chooseMultivaluedFieldIndexFromHeaderIndex(int index) {
-        String[] s = headerIndex.getHeaderIndex();
-        return index >= s.length ? null: s[index];
+        return headerIndex.getByPosition(index);
     }
 
     @Override
@@ -187,6 +186,7 @@ abstract public class HeaderNameBaseMappingStrategy<T> extends AbstractMappingSt
      */
     public void setColumnOrderOnWrite(Comparator<String> writeOrder) {
         this.writeOrder = writeOrder;
+        invalidateWritePlan();
         if(fieldMap != null) {
             fieldMap.setColumnOrderOnWrite(this.writeOrder);
         }
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+
+/**
+ * A {@link CsvConverter} that is also capable of converting input directly
+ * into an {@code int} without boxing the result.
+ * <p>If the converter for a single-valued field of type {@code int}
+ * implements this interface, opencsv uses {@link #convertToInt(String)} and
+ * assigns the result through a primitive setter instead of going through
+ * {@link CsvConverter#convertToRead(String)} and a {@link Integer}.</p>
+ *
+ * @since 5.12
+ */
+public interface IntConverter extends CsvConverter {
+
+    /**
+     * Converts the input string directly to an {@code int}.
+     *
+     * @param value The string from the selected field of the CSV file. This
+     *   is never {@code null}, empty or blank according to
+     *   {@link org.apache.commons.lang3.StringUtils#isBlank(java.lang.CharSequence)},
+     *   since blank input leaves the field untouched, just as a {@code null}
+     *   returned by {@link CsvConverter#convertToRead(String)} would
+     * @return The converted value
+     * @throws CsvDataTypeMismatchException If the input string cannot be
+     *   converted into an {@code int}
+     */
+    int convertToInt(String value) throws CsvDataTypeMismatchException;
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import com.opencsv.bean.util.OpencsvUtils;
+import com.opencsv.exceptions.CsvBadConverterException;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * A process-wide cache for the results of introspecting classes.
+ * <p>Everything opencsv learns about a bean type while setting up a mapping
+ * strategy that does not depend on the individual instance of the mapping
+ * strategy is kept here, attached to the class it describes. This includes
+ * the fields to be bound, the means of accessing them and compiled regular
+ * expressions. Setting up a mapping strategy for a type that has been seen
+ * before is therefore considerably cheaper.</p>
+ * <p>The cache is backed by {@link ClassValue}, so the metadata for a class
+ * does not outlive the class.</p>
+ * <p>Formatters for dates and numbers are not tied to any one class. They
+ * are kept in a cache of their own, which holds at most
+ * {@link #MAX_FORMATTERS} of them and drops the least recently used.</p>
+ * <p>Everything stored here must be immutable or at least thread-safe, since
+ * it is shared among all mapping strategies and all threads. Computations
+ * that end in an exception are not cached.</p>
+ *
+ * @since 5.12
+ */
+final class IntrospectionCache {
+
+    private static final ClassValue<ConcurrentMap<Object, Object>> CACHE =
+            new ClassValue<ConcurrentMap<Object, Object>>() {
+                @Override
+                protected ConcurrentMap<Object, Object> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /** The maximum number of formatters kept in {@link #FORMATTERS}. */
+    static final int MAX_FORMATTERS = 256;
+
+    private static final Map<Object, Object> FORMATTERS = Collections.synchronizedMap(
+            new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                    return size() > MAX_FORMATTERS;
+                }
+            });
+
+    /** This class is not meant to be instantiated. */
+    private IntrospectionCache() {}
+
+    /**
+     * Retrieves a value from the cache, computing it if necessary.
+     * <p>The computation may itself use the cache, even for the same class.
+     * If two threads compute the same value concurrently, both compute it,
+     * but only the first result is kept and returned to both.</p>
+     *
+     * @param type   The class the value describes
+     * @param key    The key for the value within the metadata for the class.
+     *               Must implement {@link Object#equals(Object)} and
+     *               {@link Object#hashCode()} by value.
+     * @param loader Computes the value if it is not already in the cache.
+     *               Must not return {@code null}.
+     * @param <V>    The type of the value
+     * @return The cached value
+     */
+    @SuppressWarnings("unchecked")
+    static <V> V get(Class<?> type, Object key, Supplier<? extends V> loader) {
+        ConcurrentMap<Object, Object> metadata = CACHE.get(type);
+        Object value = metadata.get(key);
+        if (value == null) {
+            value = loader.get();
+            Object previous = metadata.putIfAbsent(key, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return (V) value;
+    }
+
+    /**
+     * Retrieves a formatter from the cache of formatters, creating it if
+     * necessary.
+     * If two threads create the same formatter concurrently, both create it,
+     * but only the first result is kept and returned to both.
+     *
+     * @param key    The key for the formatter, which must include everything
+     *               the formatter depends on, including its type. Must
+     *               implement {@link Object#equals(Object)} and
+     *               {@link Object#hashCode()} by value.
+     * @param loader Creates the formatter if it is not already in the cache.
+     *               Must not return {@code null}.
+     * @param <V>    The type of the formatter, which must be thread-safe
+     * @return The cached formatter
+     */
+    @SuppressWarnings("unchecked")
+    static <V> V getFormatter(Object key, Supplier<? extends V> loader) {
+        Object value = FORMATTERS.get(key);
+        if (value == null) {
+            value = loader.get();
+            Object previous = FORMATTERS.putIfAbsent(key, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return (V) value;
+    }
+
+    /**
+     * Finds the generated code for accessing a bean class without
+     * reflection, if it exists.
+     * <p>The result of the search, successful or not, is cached.</p>
+     *
+     * @param type The bean class
+     * @return An instance of the {@link GeneratedBeanAccess} generated for
+     *   the class, or {@code null} if there is none
+     */
+    static GeneratedBeanAccess generatedAccess(Class<?> type) {
+        Optional<GeneratedBeanAccess> access = get(type, GeneratedBeanAccess.class, () -> {
+            try {
+                Class<?> generated = Class.forName(
+                        type.getName() + GeneratedBeanAccess.CLASS_NAME_SUFFIX,
+                        true, type.getClassLoader());
+                if (GeneratedBeanAccess.class.isAssignableFrom(generated)) {
+                    return Optional.of((GeneratedBeanAccess) generated.getConstructor().newInstance());
+                }
+            } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+                // No usable generated code. Reflection it is.
+            }
+            return Optional.empty();
+        });
+        return access.orElse(null);
+    }
+
+    /**
+     * Retrieves all fields of a class and its superclasses.
+     * <p>If code was generated for the class (see
+     * {@link GeneratedBeanAccess#fields()}), the fields and their
+     * annotations are taken from it. Otherwise they are determined with
+     * reflection. Should the generated code no longer match the class, it is
+     * ignored. The result is cached.</p>
+     *
+     * @param type The class whose fields are sought
+     * @return The fields of the class and its superclasses
+     */
+    static FieldTable fieldTable(Class<?> type) {
+        return get(type, FieldTable.class, () -> {
+            GeneratedBeanAccess generated = generatedAccess(type);
+            GeneratedBeanAccess.FieldMetadata[] metadata = generated == null ? null : generated.fields();
+            if (metadata != null) {
+                try {
+                    return new FieldTable(type, metadata);
+                } catch (NoSuchFieldException e) {
+                    // The class has changed since the code was generated
+                }
+            }
+            return new FieldTable(FieldUtils.getAllFields(type));
+        });
+    }
+
+    /**
+     * Compiles a regular expression from an annotation on a field, or
+     * retrieves the compiled pattern from the cache.
+     *
+     * @param field           The field whose annotation provided the regular
+     *                        expression. If {@code null}, nothing is cached.
+     * @param regex           The regular expression to be compiled. May be
+     *                        {@code null} or empty, in which case
+     *                        {@code null} is returned.
+     * @param regexFlags      Flags for compiling the regular expression
+     * @param atLeastOneGroup Whether the regular expression must have at
+     *                        least one capturing group
+     * @param callingClass    The class from which this method is being called.
+     *                        Used for generating helpful exceptions.
+     * @param errorLocale     The locale to be used for error messages
+     * @return A compiled pattern, or {@code null} if the input was null or
+     *   empty
+     * @throws CsvBadConverterException If the regular expression is invalid
+     * @see OpencsvUtils#compilePattern(String, int, Class, Locale)
+     * @see OpencsvUtils#compilePatternAtLeastOneGroup(String, int, Class, Locale)
+     */
+    static Pattern compilePattern(Field field, String regex, int regexFlags, boolean atLeastOneGroup,
+                                  Class<?> callingClass, Locale errorLocale)
+            throws CsvBadConverterException {
+        Supplier<Pattern> compiler = atLeastOneGroup
+                ? () -> OpencsvUtils.compilePatternAtLeastOneGroup(regex, regexFlags, callingClass, errorLocale)
+                : () -> OpencsvUtils.compilePattern(regex, regexFlags, callingClass, errorLocale);
+        if (field == null || StringUtils.isEmpty(regex)) {
+            return compiler.get();
+        }
+        return get(field.getDeclaringClass(),
+                Arrays.asList(Pattern.class, regex, regexFlags, atLeastOneGroup),
+                compiler);
+    }
+
+    /**
+     * All fields of a class and its superclasses, in the order of
+     * {@link FieldUtils#getAllFields(Class)}, and the annotations on them.
+     * Immutable.
+     */
+    static final class FieldTable {
+        private final Field[] fields;
+
+        /**
+         * The binary names of the annotations on every field, if they were
+         * recorded at compile time, or {@code null} if reflection must be
+         * asked.
+         */
+        private final Map<Field, Set<String>> annotations;
+
+        FieldTable(Field[] fields) {
+            this.fields = fields;
+            this.annotations = null;
+        }
+
+        FieldTable(Class<?> type, GeneratedBeanAccess.FieldMetadata[] metadata) throws NoSuchFieldException {
+            fields = new Field[metadata.length];
+            annotations = new HashMap<>();
+            for (int i = 0; i < metadata.length; i++) {
+                Class<?> declaringClass = type;
+                for (int depth = metadata[i].getDepth(); depth > 0 && declaringClass != null; depth--) {
+                    declaringClass = declaringClass.getSuperclass();
+                }
+                if (declaringClass == null) {
+                    throw new NoSuchFieldException(metadata[i].getName());
+                }
+                fields[i] = declaringClass.getDeclaredField(metadata[i].getName());
+                annotations.put(fields[i], metadata[i].getAnnotations());
+            }
+        }
+
+        /**
+         * @return A copy of all fields that belongs to the caller
+         */
+        Field[] getFields() {
+            return fields.clone();
+        }
+
+        /**
+         * @param annotation The annotation sought
+         * @return All fields that bear the annotation
+         */
+        Field[] getFieldsWithAnnotation(Class<? extends Annotation> annotation) {
+            return Arrays.stream(fields)
+                    .filter(f -> isAnnotationPresent(f, annotation))
+                    .toArray(Field[]::new);
+        }
+
+        /**
+         * Determines whether a field bears an annotation, as
+         * {@link Field#isAnnotationPresent(Class)} would.
+         *
+         * @param field      A field of the class or one of its superclasses
+         * @param annotation The annotation sought
+         * @return Whether the field bears the annotation
+         */
+        boolean isAnnotationPresent(Field field, Class<? extends Annotation> annotation) {
+            Set<String> names = annotations == null ? null : annotations.get(field);
+            return names == null ? field.isAnnotationPresent(annotation) : names.contains(annotation.getName());
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.util.Locale;
  * <p>Any implementing class <em>must</em> be thread-safe. Specifically, the
  * following methods must be thread-safe:</p>
  * <ul><li>{@link #populateNewBean(java.lang.String[])}</li>
+ * <li>{@link #populateExistingBean(java.lang.Object, java.lang.String[])}</li>
  * <li>{@link #transmuteBean(java.lang.Object)}</li></ul>
  *
  * @param <T> Type of object you are converting the data to.
@@ -95,6 +96,35 @@ public interface MappingStrategy<T> {
     T populateNewBean(String[] line)
             throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
             CsvChainedException;
+
+    /**
+     * Takes a line of input from a CSV file and writes it into a bean that
+     * already exists.
+     * <p>This allows beans to be reused or pooled instead of creating a new
+     * one for every line of input. The bean is not reset first: a field for
+     * which the input is empty keeps whatever value it had before. Subordinate
+     * beans (see {@link CsvRecurse}) that are not {@code null} are reused as
+     * well, and those that are {@code null} are created.</p>
+     * <p>The default implementation throws
+     * {@link UnsupportedOperationException}.</p>
+     *
+     * @param bean The bean to be populated
+     * @param line A line of input returned from {@link com.opencsv.CSVReader}
+     * @return {@code bean}, now populated
+     * @throws CsvBeanIntrospectionException Generally, if some part of the bean cannot
+     *   be accessed and used as needed
+     * @throws CsvFieldAssignmentException A more specific subclass of this
+     *   exception is thrown for any problem decoding and assigning a field
+     *   of the input to a bean field
+     * @throws CsvChainedException If multiple exceptions are thrown for the
+     * same input line
+     * @since 5.12
+     */
+    default T populateExistingBean(T bean, String[] line)
+            throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
+            CsvChainedException {
+        throw new UnsupportedOperationException();
+    }
     
     /**
      * Sets the locale for all error messages.
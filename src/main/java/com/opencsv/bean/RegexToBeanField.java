@@ -15,7 +15,6 @@
  */
 package com.opencsv.bean;
 
-import com.opencsv.bean.util.OpencsvUtils;
 
 import java.util.Locale;
 import java.util.regex.Matcher;
@@ -44,7 +43,8 @@ public class RegexToBeanField<T> extends AbstractFieldMapEntry<String, String, T
      */
     public RegexToBeanField(final String pattern, final BeanField<T, String> field, final Locale errorLocale) {
         super(field, errorLocale);
-        regex = OpencsvUtils.compilePattern(pattern, Pattern.CASE_INSENSITIVE, BeanFieldJoin.class, this.errorLocale);
+        regex = IntrospectionCache.compilePattern(field == null ? null : field.getField(),
+                pattern, Pattern.CASE_INSENSITIVE, false, BeanFieldJoin.class, this.errorLocale);
     }
     
     @Override
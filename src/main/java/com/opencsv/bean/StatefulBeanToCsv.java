@@ -19,13 +19,14 @@ import com.opencsv.CSVWriter;
 import com.opencsv.ICSVParser;
 import com.opencsv.ICSVWriter;
 import com.opencsv.bean.concurrent.BeanExecutor;
-import com.opencsv.bean.concurrent.ProcessCsvBean;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerThrow;
 import com.opencsv.bean.util.OpencsvUtils;
 import com.opencsv.bean.util.OrderedObject;
+import com.opencsv.exceptions.CsvChainedException;
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvFieldAssignmentException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import com.opencsv.exceptions.CsvRuntimeException;
 import org.apache.commons.collections4.CollectionUtils;
@@ -37,10 +38,11 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.Writer;
 import java.lang.reflect.Field;
 import java.util.*;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -76,11 +78,20 @@ public class StatefulBeanToCsv<T> {
     private List<CsvException> capturedExceptions = new ArrayList<>();
     private boolean orderedResults = true;
     private BeanExecutor<T> executor = null;
+    private int concurrency = 0;
+    private int maxRecordsInFlight = 0;
+    private Executor conversionExecutor = null;
     private Locale errorLocale = Locale.getDefault();
     private final boolean applyQuotesToAll;
     private final MultiValuedMap<Class<?>, Field> ignoredFields;
     private final String profile;
 
+    /**
+     * Holds the exceptions captured while writing a single bean, so the
+     * queue need not be created anew for every bean.
+     */
+    private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
+
     /**
      * Constructor used when supplying a Writer instead of a CsvWriter class.
      * It is defined as package protected to ensure that {@link StatefulBeanToCsvBuilder} is always used.
@@ -202,45 +213,44 @@ public class StatefulBeanToCsv<T> {
                 beforeFirstWrite(bean);
             }
 
-            // Process the bean
-            BlockingQueue<OrderedObject<String[]>> resultantLineQueue = new ArrayBlockingQueue<>(1);
-            BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
-            ProcessCsvBean<T> proc = new ProcessCsvBean<>(++lineNumber,
-                    mappingStrategy, bean, resultantLineQueue,
-                    thrownExceptionsQueue, new TreeSet<>(), exceptionHandler);
+            // Process the bean. This is done directly instead of through
+            // ProcessCsvBean so that writing a single bean allocates nothing
+            // beyond what conversion itself needs.
+            ++lineNumber;
+            String[] line;
             try {
-                proc.run();
-            } catch (RuntimeException re) {
-                if (re.getCause() != null) {
-                    if (re.getCause() instanceof CsvRuntimeException) {
-                        // Can't currently happen, but who knows what might be
-                        // in the future? I'm certain we wouldn't want to wrap
-                        // these in another RuntimeException.
-                        throw (CsvRuntimeException) re.getCause();
-                    }
+                line = mappingStrategy.transmuteBean(bean);
+            } catch (CsvFieldAssignmentException | CsvChainedException e) {
+                try {
+                    OpencsvUtils.handleException(e, lineNumber,
+                            exceptionHandler, thrownExceptionsQueue);
+                } catch (RuntimeException re) {
+                    // Nothing is captured for a bean whose exception is thrown
+                    thrownExceptionsQueue.clear();
                     if (re.getCause() instanceof CsvDataTypeMismatchException) {
                         throw (CsvDataTypeMismatchException) re.getCause();
                     }
                     if (re.getCause() instanceof CsvRequiredFieldEmptyException) {
                         throw (CsvRequiredFieldEmptyException) re.getCause();
                     }
+                    throw re;
                 }
-                throw re;
-            }
-
-            // Write out the result
-            if (!thrownExceptionsQueue.isEmpty()) {
                 OrderedObject<CsvException> o = thrownExceptionsQueue.poll();
-                while (o != null && o.getElement() != null) {
+                while (o != null) {
                     capturedExceptions.add(o.getElement());
                     o = thrownExceptionsQueue.poll();
                 }
-            } else {
-                // No exception, so there really must always be a string
-                OrderedObject<String[]> result = resultantLineQueue.poll();
-                if (result != null && result.getElement() != null) {
-                    csvwriter.writeNext(result.getElement(), applyQuotesToAll);
-                }
+                return;
+            } catch (CsvRuntimeException csvre) {
+                throw csvre;
+            } catch (RuntimeException re) {
+                // Wrapped as ProcessCsvBean does for the other write methods
+                throw new RuntimeException(re);
+            }
+
+            // Write out the result
+            if (line != null) {
+                csvwriter.writeNext(line, applyQuotesToAll);
             }
         }
     }
@@ -296,27 +306,22 @@ public class StatefulBeanToCsv<T> {
             beforeFirstWrite(firstBean);
         }
 
-        executor = new BeanExecutor<>(orderedResults, errorLocale);
+        executor = new BeanExecutor<>(orderedResults, errorLocale, concurrency,
+                maxRecordsInFlight, conversionExecutor);
         executor.prepare();
 
+        if (maxRecordsInFlight > 0) {
+            writeWhileConverting(beans);
+            return;
+        }
+
         // Process the beans
         try {
             submitAllLines(beans);
         } catch (RejectedExecutionException e) {
             // An exception in one of the bean writing threads prompted the
             // executor service to shutdown before we were done.
-            if (executor.getTerminalException() instanceof RuntimeException) {
-                throw (RuntimeException) executor.getTerminalException();
-            }
-            if (executor.getTerminalException() instanceof CsvDataTypeMismatchException) {
-                throw (CsvDataTypeMismatchException) executor.getTerminalException();
-            }
-            if (executor.getTerminalException() instanceof CsvRequiredFieldEmptyException) {
-                throw (CsvRequiredFieldEmptyException) executor
-                        .getTerminalException();
-            }
-            throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                    .getString("error.writing.beans"), executor.getTerminalException());
+            throwTerminalException();
         } catch (Exception e) {
             // Exception during parsing. Always unrecoverable.
             // I can't find a way to create this condition in the current
@@ -336,6 +341,96 @@ public class StatefulBeanToCsv<T> {
                 .forEach(l -> csvwriter.writeNext(l, applyQuotesToAll));
     }
 
+    /**
+     * Writes the results of conversion while beans are still being
+     * submitted for conversion.
+     * The beans are taken from the iterator and submitted in a thread of
+     * their own, which waits whenever the maximum number of records in
+     * flight has been reached. The calling thread writes the results in
+     * the meantime, as soon as they are available.
+     *
+     * @param beans The beans to be written
+     * @throws CsvDataTypeMismatchException   If a field of the beans is annotated improperly or an unsupported
+     *                                        data type is supposed to be written
+     * @throws CsvRequiredFieldEmptyException If a field is marked as required, but the source is null
+     */
+    private void writeWhileConverting(Iterator<T> beans)
+            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        AtomicReference<Throwable> submissionException = new AtomicReference<>();
+        Thread submitter = new Thread(() -> {
+            try {
+                submitAllLines(beans);
+            } catch (Exception | Error e) {
+                submissionException.set(e);
+
+                // Nothing more will be submitted, and the writing thread
+                // must not wait for it.
+                executor.shutdownNow();
+            }
+        });
+        submitter.start();
+
+        try {
+            StreamSupport.stream(executor, false)
+                    .forEach(l -> csvwriter.writeNext(l, applyQuotesToAll));
+        } catch (RuntimeException e) {
+            // Stop submitting beans, whatever went wrong
+            executor.shutdownNow();
+            if (executor.getTerminalException() == null) {
+                throw e;
+            }
+        } finally {
+            boolean interrupted = false;
+            while (submitter.isAlive()) {
+                try {
+                    submitter.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            capturedExceptions.addAll(executor.getCapturedExceptions());
+        }
+
+        if (executor.getTerminalException() != null) {
+            throwTerminalException();
+        }
+        Throwable e = submissionException.get();
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e != null) {
+            // Exception while taking beans from the iterator
+            throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                    .getString("error.writing.beans"), e);
+        }
+    }
+
+    /**
+     * Throws the exception that caused the executor to shut down before
+     * all beans were converted.
+     *
+     * @throws CsvDataTypeMismatchException   If that was the exception
+     * @throws CsvRequiredFieldEmptyException If that was the exception
+     */
+    private void throwTerminalException()
+            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        if (executor.getTerminalException() instanceof RuntimeException) {
+            throw (RuntimeException) executor.getTerminalException();
+        }
+        if (executor.getTerminalException() instanceof CsvDataTypeMismatchException) {
+            throw (CsvDataTypeMismatchException) executor.getTerminalException();
+        }
+        if (executor.getTerminalException() instanceof CsvRequiredFieldEmptyException) {
+            throw (CsvRequiredFieldEmptyException) executor
+                    .getTerminalException();
+        }
+        throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                .getString("error.writing.beans"), executor.getTerminalException());
+    }
+
     /**
      * Writes a stream of beans out to the {@link java.io.Writer} provided to the
      * constructor.
@@ -366,6 +461,60 @@ public class StatefulBeanToCsv<T> {
         this.orderedResults = orderedResults;
     }
 
+    /**
+     * Sets the number of threads used to convert beans to lines of output in
+     * {@link #write(java.util.Iterator)} and the methods based on it.
+     * If an executor has been set with
+     * {@link #setConversionExecutor(Executor)}, this is the number of
+     * conversions handed to that executor at once.
+     *
+     * @param concurrency The number of threads for conversion. Values below
+     *                    one mean one thread per available processor, which
+     *                    is the default.
+     * @since 5.12
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Limits the number of beans held in memory by
+     * {@link #write(java.util.Iterator)} and the methods based on it between
+     * being submitted for conversion and being written.
+     * <p>By default, all beans are converted before the first line is
+     * written, so the output for all beans is held in memory at once. With
+     * a limit, beans are taken from the iterator in a thread of their own,
+     * which waits whenever that many beans are in flight, while the calling
+     * thread writes the results as soon as they are available. Output of
+     * any size is then written in constant memory, and writing starts right
+     * away. The iterator must allow being used from another thread.</p>
+     *
+     * @param maxRecordsInFlight The maximum number of beans submitted but not
+     *                           yet written. Values below one mean there is
+     *                           no limit, which is the default.
+     * @see CsvToBean#setMaxRecordsInFlight(int)
+     * @since 5.12
+     */
+    public void setMaxRecordsInFlight(int maxRecordsInFlight) {
+        this.maxRecordsInFlight = maxRecordsInFlight;
+    }
+
+    /**
+     * Sets the executor on which beans are converted to lines of output.
+     * By default, a new pool of threads is started for every call to
+     * {@link #write(java.util.Iterator)} and the methods based on it. A
+     * shared executor avoids that. It is never shut down by opencsv.
+     *
+     * @param conversionExecutor The executor to run conversions on, or
+     *                           {@code null} to start threads for every
+     *                           call, which is the default
+     * @see CsvToBean#setConversionExecutor(Executor)
+     * @since 5.12
+     */
+    public void setConversionExecutor(Executor conversionExecutor) {
+        this.conversionExecutor = conversionExecutor;
+    }
+
     /**
      * @return Whether or not exceptions are thrown. If they are not thrown,
      * they are captured and returned later via {@link #getCapturedExceptions()}.
@@ -31,6 +31,7 @@ import java.io.Writer;
 import java.lang.reflect.Field;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.Executor;
 
 /**
  * This is a builder for StatefulBeanToCsv, allowing one to set all parameters
@@ -51,6 +52,9 @@ public class StatefulBeanToCsvBuilder<T> {
     private final ICSVWriter csvWriter;
     private CsvExceptionHandler exceptionHandler = new ExceptionHandlerThrow();
     private boolean orderedResults = true;
+    private int concurrency = 0;
+    private int maxRecordsInFlight = 0;
+    private Executor conversionExecutor = null;
     private Locale errorLocale = Locale.getDefault();
     private boolean applyQuotesToAll = true;
     private final ListValuedMap<Class<?>, Field> ignoredFields = new ArrayListValuedHashMap<>();
@@ -199,6 +203,53 @@ public class StatefulBeanToCsvBuilder<T> {
         return this;
     }
     
+    /**
+     * Sets the number of threads used to convert beans to lines of output.
+     *
+     * @param concurrency The number of threads for conversion. Values below
+     *                    one mean one thread per available processor, which
+     *                    is the default.
+     * @return this
+     * @see StatefulBeanToCsv#setConcurrency(int)
+     * @since 5.12
+     */
+    public StatefulBeanToCsvBuilder<T> withConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Limits the number of beans held in memory between being submitted for
+     * conversion and being written, and writes while converting.
+     *
+     * @param maxRecordsInFlight The maximum number of beans submitted but not
+     *                           yet written. Values below one mean there is
+     *                           no limit, which is the default.
+     * @return this
+     * @see StatefulBeanToCsv#setMaxRecordsInFlight(int)
+     * @since 5.12
+     */
+    public StatefulBeanToCsvBuilder<T> withMaxRecordsInFlight(int maxRecordsInFlight) {
+        this.maxRecordsInFlight = maxRecordsInFlight;
+        return this;
+    }
+
+    /**
+     * Sets an executor shared with the rest of the application on which
+     * beans are converted to lines of output.
+     *
+     * @param conversionExecutor The executor to run conversions on, or
+     *                           {@code null} to start threads for every
+     *                           write, which is the default
+     * @return this
+     * @see StatefulBeanToCsv#setConversionExecutor(Executor)
+     * @since 5.12
+     */
+    public StatefulBeanToCsvBuilder<T> withConversionExecutor(Executor conversionExecutor) {
+        this.conversionExecutor = conversionExecutor;
+        return this;
+    }
+
     /**
      * Sets the locale to be used for all error messages.
      * @param errorLocale Locale for error messages. If null, the default locale
@@ -282,6 +333,9 @@ public class StatefulBeanToCsvBuilder<T> {
         }
 
         sbtcsv.setOrderedResults(orderedResults);
+        sbtcsv.setConcurrency(concurrency);
+        sbtcsv.setMaxRecordsInFlight(maxRecordsInFlight);
+        sbtcsv.setConversionExecutor(conversionExecutor);
         sbtcsv.setErrorLocale(errorLocale);
         return sbtcsv;
     }
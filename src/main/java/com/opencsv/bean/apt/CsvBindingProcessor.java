@@ -0,0 +1,533 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean.apt;
+
+import com.opencsv.bean.*;
+import com.opencsv.bean.processor.PreAssignmentProcessor;
+import com.opencsv.bean.validators.PreAssignmentValidator;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An annotation processor that generates code for accessing annotated beans
+ * without reflection.
+ * <p>For every class with at least one field bearing an opencsv annotation,
+ * this processor generates an implementation of {@link GeneratedBeanAccess}
+ * in the same package. At runtime, opencsv finds these classes by name and
+ * uses them to create beans and to read and write their fields with direct
+ * calls to constructors, accessor methods and fields. Whatever the generated
+ * code cannot reach, such as private fields without accessor methods, is
+ * still accessed through reflection, so generating code never changes which
+ * beans can be used. The generated class also lists the fields of the bean
+ * class and its superclasses with the annotations on them, so that opencsv
+ * need not search for them with reflection when it sets up a mapping
+ * strategy.</p>
+ * <p>Additionally, the processor writes a reflection configuration for
+ * GraalVM native images for every such class. It registers the class, the
+ * generated class and the converters, validators, processors and
+ * collection types named in the annotations, so that the annotations can
+ * still be read at runtime without configuration written by hand. Each
+ * configuration is written to a directory of its own, named after the
+ * binary name of the class, so that an incremental compilation, which
+ * processes only the classes that changed, leaves the configurations of
+ * all other classes intact. The directory in which these directories are
+ * created can be changed with the processor option
+ * {@value #NATIVE_IMAGE_CONFIG_OPTION}. Setting the option to an empty
+ * string turns the configurations off.</p>
+ * <p>The processor is not registered as a service, so it is never run
+ * without being requested. To use it with Maven, for example, name it in
+ * the configuration of the compiler plugin:</p>
+ * <pre>
+ * &lt;annotationProcessorPaths&gt;
+ *   &lt;path&gt;
+ *     &lt;groupId&gt;com.opencsv&lt;/groupId&gt;
+ *     &lt;artifactId&gt;opencsv&lt;/artifactId&gt;
+ *     &lt;version&gt;${opencsv.version}&lt;/version&gt;
+ *   &lt;/path&gt;
+ * &lt;/annotationProcessorPaths&gt;
+ * &lt;annotationProcessors&gt;
+ *   &lt;annotationProcessor&gt;com.opencsv.bean.apt.CsvBindingProcessor&lt;/annotationProcessor&gt;
+ * &lt;/annotationProcessors&gt;
+ * </pre>
+ * <p>With {@code javac} directly, use
+ * {@code -processor com.opencsv.bean.apt.CsvBindingProcessor}.</p>
+ *
+ * @since 5.12
+ */
+public class CsvBindingProcessor extends AbstractProcessor {
+
+    /**
+     * The name of the processor option for the directory of the reflection
+     * configurations for GraalVM native images, relative to the output
+     * directory for classes.
+     */
+    public static final String NATIVE_IMAGE_CONFIG_OPTION = "opencsv.nativeImageConfig";
+
+    /** The default directory of the reflection configurations. */
+    public static final String DEFAULT_NATIVE_IMAGE_CONFIG = "META-INF/native-image/opencsv-generated";
+
+    /**
+     * The name of the reflection configuration written for every class in
+     * a directory of its own.
+     */
+    public static final String NATIVE_IMAGE_CONFIG_FILE = "reflect-config.json";
+
+    /** The annotations that mark a field as being of interest to opencsv. */
+    private static final Set<String> SUPPORTED_ANNOTATIONS = Collections.unmodifiableSet(Stream.<Class<?>>of(
+            CsvBindAndJoinByName.class, CsvBindAndJoinByNames.class,
+            CsvBindAndJoinByPosition.class, CsvBindAndJoinByPositions.class,
+            CsvBindAndSplitByName.class, CsvBindAndSplitByNames.class,
+            CsvBindAndSplitByPosition.class, CsvBindAndSplitByPositions.class,
+            CsvBindByName.class, CsvBindByNames.class,
+            CsvBindByPosition.class, CsvBindByPositions.class,
+            CsvCustomBindByName.class, CsvCustomBindByNames.class,
+            CsvCustomBindByPosition.class, CsvCustomBindByPositions.class,
+            CsvDate.class, CsvDates.class, CsvNumber.class, CsvNumbers.class,
+            CsvIgnore.class, CsvRecurse.class,
+            PreAssignmentProcessor.class, PreAssignmentValidator.class)
+            .map(Class::getCanonicalName)
+            .collect(Collectors.toCollection(() -> new TreeSet<String>())));
+
+    /**
+     * The annotations that bind a field to a collection, which opencsv may
+     * instantiate with reflection.
+     */
+    private static final Set<String> COLLECTION_ANNOTATIONS = Collections.unmodifiableSet(Stream.<Class<?>>of(
+            CsvBindAndJoinByName.class, CsvBindAndJoinByNames.class,
+            CsvBindAndJoinByPosition.class, CsvBindAndJoinByPositions.class,
+            CsvBindAndSplitByName.class, CsvBindAndSplitByNames.class,
+            CsvBindAndSplitByPosition.class, CsvBindAndSplitByPositions.class)
+            .map(Class::getCanonicalName)
+            .collect(Collectors.toSet()));
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return SUPPORTED_ANNOTATIONS;
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(NATIVE_IMAGE_CONFIG_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+
+        // Collect the classes declaring annotated fields, and for each the
+        // binary names of all classes to be registered for reflection, in
+        // the order in which they are encountered
+        Map<TypeElement, Set<String>> beans = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (VariableElement field : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                TypeElement enclosing = (TypeElement) field.getEnclosingElement();
+                Set<String> reflectiveClasses = beans.computeIfAbsent(enclosing, bean ->
+                        new LinkedHashSet<>(Collections.singleton(elements.getBinaryName(bean).toString())));
+                registerAnnotationValues(field, reflectiveClasses);
+            }
+        }
+
+        for (Map.Entry<TypeElement, Set<String>> entry : beans.entrySet()) {
+            TypeElement bean = entry.getKey();
+            if (bean.getKind() == ElementKind.CLASS && !isAccessible(bean, elements.getPackageOf(bean))) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "opencsv cannot generate code for accessing a private class. Reflection will be used.",
+                        bean);
+            } else if (bean.getKind() == ElementKind.CLASS) {
+                try {
+                    generateAccess(bean);
+                    entry.getValue().add(elements.getBinaryName(bean) + GeneratedBeanAccess.CLASS_NAME_SUFFIX);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Could not generate code for accessing the class: " + e.getLocalizedMessage(),
+                            bean);
+                }
+            }
+            writeNativeImageConfig(bean, entry.getValue());
+        }
+
+        // Other processors may be interested in the same annotations
+        return false;
+    }
+
+    /**
+     * Registers the classes named in the opencsv annotations on a field for
+     * reflection. These are converters, validators, processors and the
+     * types of collections, all of which opencsv instantiates with
+     * reflection. For collections, the type of the field itself is
+     * registered, too, if it can be instantiated.
+     *
+     * @param field             An annotated field
+     * @param reflectiveClasses The binary names of the classes registered
+     *                          so far, to which the new ones are added
+     */
+    private void registerAnnotationValues(VariableElement field, Set<String> reflectiveClasses) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (!SUPPORTED_ANNOTATIONS.contains(name)) {
+                continue;
+            }
+            annotation.getElementValues().values().forEach(v -> registerAnnotationValue(v, reflectiveClasses));
+            TypeMirror fieldType = types.erasure(field.asType());
+            if (COLLECTION_ANNOTATIONS.contains(name) && fieldType.getKind() == TypeKind.DECLARED) {
+                TypeElement fieldClass = (TypeElement) ((DeclaredType) fieldType).asElement();
+                if (fieldClass.getKind() == ElementKind.CLASS
+                        && !fieldClass.getModifiers().contains(Modifier.ABSTRACT)) {
+                    reflectiveClasses.add(elements.getBinaryName(fieldClass).toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the classes in an annotation value for reflection,
+     * descending into arrays and nested annotations.
+     */
+    private void registerAnnotationValue(AnnotationValue value, Set<String> reflectiveClasses) {
+        Object v = value.getValue();
+        if (v instanceof DeclaredType) {
+            reflectiveClasses.add(elements.getBinaryName((TypeElement) ((DeclaredType) v).asElement()).toString());
+        } else if (v instanceof AnnotationMirror) {
+            ((AnnotationMirror) v).getElementValues().values()
+                    .forEach(nested -> registerAnnotationValue(nested, reflectiveClasses));
+        } else if (v instanceof List) {
+            for (Object element : (List<?>) v) {
+                registerAnnotationValue((AnnotationValue) element, reflectiveClasses);
+            }
+        }
+    }
+
+    /**
+     * Determines whether a class can be named by generated code in the
+     * given package.
+     */
+    private boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+        for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || !modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(e).equals(fromPackage)) {
+                return false;
+            }
+            if (((TypeElement) e).getNestingKind() == NestingKind.LOCAL
+                    || ((TypeElement) e).getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether a type can be named by generated code in the given
+     * package.
+     */
+    private boolean isAccessible(TypeMirror type, PackageElement fromPackage) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType(), fromPackage);
+        }
+        return type.getKind() == TypeKind.DECLARED
+                && isAccessible((TypeElement) ((DeclaredType) type).asElement(), fromPackage);
+    }
+
+    /**
+     * Determines whether a member can be used by generated code in the given
+     * package.
+     */
+    private boolean isMemberAccessible(Element member, PackageElement fromPackage) {
+        Set<Modifier> modifiers = member.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC)
+                || !modifiers.contains(Modifier.PRIVATE) && elements.getPackageOf(member).equals(fromPackage);
+    }
+
+    /**
+     * Finds a public, non-static method in a class or its superclasses, as
+     * {@link Class#getMethod(String, Class[])} would.
+     *
+     * @param type       The class to be searched
+     * @param name       The name of the method
+     * @param parameters The erasures of the parameter types of the method
+     * @return The method, or {@code null} if there is no such method
+     */
+    private ExecutableElement findMethod(TypeElement type, String name, TypeMirror... parameters) {
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && method.getParameters().size() == parameters.length) {
+                boolean matches = true;
+                for (int i = 0; i < parameters.length && matches; i++) {
+                    matches = types.isSameType(
+                            types.erasure(method.getParameters().get(i).asType()), parameters[i]);
+                }
+                if (matches) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Whether a method declares checked exceptions. */
+    private boolean throwsCheckedExceptions(ExecutableElement method) {
+        TypeMirror runtimeException = elements.getTypeElement(RuntimeException.class.getCanonicalName()).asType();
+        TypeMirror error = elements.getTypeElement(Error.class.getCanonicalName()).asType();
+        return method.getThrownTypes().stream().anyMatch(t ->
+                !types.isSubtype(t, runtimeException) && !types.isSubtype(t, error));
+    }
+
+    /** Returns the boxed type for primitives and the type itself otherwise. */
+    private String classLiteralType(TypeMirror erasure) {
+        return erasure.getKind().isPrimitive()
+                ? types.boxedClass((PrimitiveType) erasure).getQualifiedName().toString()
+                : erasure.toString();
+    }
+
+    private static String capitalize(CharSequence name) {
+        return Character.toUpperCase(name.charAt(0)) + name.toString().substring(1);
+    }
+
+    private void generateAccess(TypeElement bean) throws IOException {
+        PackageElement pkg = elements.getPackageOf(bean);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(bean).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + GeneratedBeanAccess.CLASS_NAME_SUFFIX;
+        String beanType = types.erasure(bean.asType()).toString();
+        TypeMirror optional = types.erasure(elements.getTypeElement(Optional.class.getCanonicalName()).asType());
+
+        // Determine how each field can be accessed
+        Map<String, String> accessors = new LinkedHashMap<>();
+        Map<String, String> assignments = new LinkedHashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(bean.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            TypeMirror fieldType = types.erasure(field.asType());
+            boolean directAccess = isMemberAccessible(field, pkg);
+
+            ExecutableElement getter = findMethod(bean, "get" + capitalize(name));
+            if (getter != null) {
+                if (types.isSameType(types.erasure(getter.getReturnType()), optional)) {
+                    accessors.put(name, String.format(
+                            "java.util.Optional value;%n"
+                            + "                    try { value = castBean(bean).%s(); }%n"
+                            + "                    catch (Throwable t) { throw new InvocationTargetException(t); }%n"
+                            + "                    return value.orElse(null);",
+                            getter.getSimpleName()));
+                } else {
+                    accessors.put(name, String.format(
+                            "%s target = castBean(bean);%n"
+                            + "                    try { return target.%s(); }%n"
+                            + "                    catch (Throwable t) { throw new InvocationTargetException(t); }",
+                            beanType, getter.getSimpleName()));
+                }
+            } else if (directAccess) {
+                accessors.put(name, String.format("return castBean(bean).%s;", name));
+            }
+
+            if (!isAccessible(fieldType, pkg)) {
+                continue;
+            }
+            String valueType = fieldType.toString();
+            String castValue = String.format("%s target = castBean(bean);%n"
+                    + "                    %s v = %s(value, %s.class);%n",
+                    beanType, valueType, fieldType.getKind().isPrimitive() ? "castPrimitive" : "castValue",
+                    classLiteralType(fieldType));
+            ExecutableElement setter = findMethod(bean, "set" + capitalize(name), fieldType);
+            if (setter != null) {
+                assignments.put(name, castValue + String.format(
+                        "                    try { target.%s(v); }%n"
+                        + "                    catch (Throwable t) { throw new InvocationTargetException(t); }",
+                        setter.getSimpleName()));
+            } else if ((setter = findMethod(bean, "set" + capitalize(name), optional)) != null) {
+                assignments.put(name, castValue + String.format(
+                        "                    try { target.%s(java.util.Optional.ofNullable(v)); }%n"
+                        + "                    catch (Throwable t) { throw new InvocationTargetException(t); }",
+                        setter.getSimpleName()));
+            } else if (directAccess && !field.getModifiers().contains(Modifier.FINAL)) {
+                assignments.put(name, castValue + String.format(
+                        "                    target.%s = v;", name));
+            }
+        }
+
+        // Describe every field of the class and its superclasses, as
+        // reflection would find them
+        List<String> fieldMetadata = new ArrayList<>();
+        TypeMirror declaring = bean.asType();
+        for (int depth = 0; declaring.getKind() == TypeKind.DECLARED; depth++) {
+            TypeElement declaringClass = (TypeElement) ((DeclaredType) declaring).asElement();
+            for (VariableElement field : ElementFilter.fieldsIn(declaringClass.getEnclosedElements())) {
+                StringBuilder entry = new StringBuilder(String.format(
+                        "new GeneratedBeanAccess.FieldMetadata(%d, \"%s\"", depth, field.getSimpleName()));
+                for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+                    TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+                    Retention retention = annotationType.getAnnotation(Retention.class);
+                    if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                        entry.append(", \"").append(elements.getBinaryName(annotationType)).append('"');
+                    }
+                }
+                fieldMetadata.add(entry.append(')').toString());
+            }
+            declaring = declaringClass.getSuperclass();
+        }
+        if (declaring.getKind() != TypeKind.NONE) {
+            // A superclass could not be resolved, so leave it to reflection
+            fieldMetadata = null;
+        }
+
+        // Find a nullary constructor
+        boolean constructible = bean.getKind() == ElementKind.CLASS
+                && !bean.getModifiers().contains(Modifier.ABSTRACT)
+                && (bean.getNestingKind() == NestingKind.TOP_LEVEL || bean.getModifiers().contains(Modifier.STATIC))
+                && ElementFilter.constructorsIn(bean.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && isMemberAccessible(c, pkg) && !throwsCheckedExceptions(c));
+
+        FileObject source = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? simpleName : packageName + "." + simpleName, bean);
+        try (PrintWriter out = new PrintWriter(source.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("import com.opencsv.bean.GeneratedBeanAccess;%n");
+            out.printf("import com.opencsv.bean.function.AccessorInvoker;%n");
+            out.printf("import com.opencsv.bean.function.AssignmentInvoker;%n");
+            out.printf("import java.lang.reflect.InvocationTargetException;%n");
+            out.printf("import java.util.function.Supplier;%n%n");
+            out.printf("/**%n * Accesses {@link %s} without reflection.%n", beanType);
+            out.printf(" * <p>Generated by %s. Do not edit.</p>%n */%n", getClass().getName());
+            out.printf("@SuppressWarnings({\"rawtypes\", \"unchecked\"})%n");
+            out.printf("public final class %s implements GeneratedBeanAccess {%n%n", simpleName);
+
+            out.printf("    private static %s castBean(Object bean) {%n", beanType);
+            out.printf("        try { return (%s) bean; }%n", beanType);
+            out.printf("        catch (ClassCastException e) { throw new IllegalArgumentException(e); }%n");
+            out.printf("    }%n%n");
+            out.printf("    private static <V> V castValue(Object value, Class<V> type) {%n");
+            out.printf("        try { return type.cast(value); }%n");
+            out.printf("        catch (ClassCastException e) { throw new IllegalArgumentException(e); }%n");
+            out.printf("    }%n%n");
+            out.printf("    private static <V> V castPrimitive(Object value, Class<V> type) {%n");
+            out.printf("        if (value == null) { throw new IllegalArgumentException(\"null cannot be assigned to a primitive\"); }%n");
+            out.printf("        return castValue(value, type);%n");
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n    public Supplier<Object> constructor() {%n");
+            out.printf(constructible ? "        return %s::new;%n" : "        return null;%n", beanType);
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n    public AccessorInvoker<Object, Object> accessor(String fieldName) {%n");
+            writeSwitch(out, accessors, "bean");
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n    public AssignmentInvoker<Object, Object> assignment(String fieldName) {%n");
+            writeSwitch(out, assignments, "(bean, value)");
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n    public GeneratedBeanAccess.FieldMetadata[] fields() {%n");
+            if (fieldMetadata == null) {
+                out.printf("        return null;%n");
+            } else {
+                out.printf("        return new GeneratedBeanAccess.FieldMetadata[] {%n");
+                for (String entry : fieldMetadata) {
+                    out.printf("            %s,%n", entry);
+                }
+                out.printf("        };%n");
+            }
+            out.printf("    }%n}%n");
+        }
+    }
+
+    private static void writeSwitch(PrintWriter out, Map<String, String> cases, String parameters) {
+        out.printf("        switch (fieldName) {%n");
+        for (Map.Entry<String, String> c : cases.entrySet()) {
+            out.printf("            case \"%s\":%n", c.getKey());
+            out.printf("                return %s -> {%n                    %s%n                };%n",
+                    parameters, c.getValue());
+        }
+        out.printf("            default:%n                return null;%n        }%n");
+    }
+
+    /**
+     * Writes the reflection configuration for one class to a directory of
+     * its own, so that it need never be merged with the configurations of
+     * classes not processed in the same compilation.
+     *
+     * @param bean              The class declaring annotated fields
+     * @param reflectiveClasses The binary names of all classes to be
+     *                          registered for it
+     */
+    private void writeNativeImageConfig(TypeElement bean, Set<String> reflectiveClasses) {
+        String directory = processingEnv.getOptions().getOrDefault(
+                NATIVE_IMAGE_CONFIG_OPTION, DEFAULT_NATIVE_IMAGE_CONFIG);
+        if (directory.isEmpty()) {
+            return;
+        }
+        String location = String.join("/", directory, elements.getBinaryName(bean), NATIVE_IMAGE_CONFIG_FILE);
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject config = filer.createResource(StandardLocation.CLASS_OUTPUT, "", location, bean);
+            try (Writer out = config.openWriter()) {
+                out.write(reflectiveClasses.stream()
+                        .map(name -> String.format("  {%n"
+                                + "    \"name\": \"%s\",%n"
+                                + "    \"allDeclaredFields\": true,%n"
+                                + "    \"allDeclaredConstructors\": true,%n"
+                                + "    \"allPublicConstructors\": true,%n"
+                                + "    \"allPublicMethods\": true%n"
+                                + "  }", name))
+                        .collect(Collectors.joining(String.format(",%n"),
+                                String.format("[%n"), String.format("%n]%n"))));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not write the reflection configuration for native images: "
+                            + e.getLocalizedMessage(), bean);
+        }
+    }
+}
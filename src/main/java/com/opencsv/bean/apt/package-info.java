@@ -0,0 +1,6 @@
+/**
+ * This package contains the annotation processor that generates code for
+ * accessing annotated beans without reflection.
+ * <p>Nothing in this package is needed at runtime.</p>
+ */
+package com.opencsv.bean.apt;
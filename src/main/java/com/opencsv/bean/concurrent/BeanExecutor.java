@@ -2,8 +2,16 @@ package com.opencsv.bean.concurrent;
 
 import com.opencsv.bean.MappingStrategy;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
+import com.opencsv.bean.util.OpencsvUtils;
+import com.opencsv.bean.util.OrderedObject;
+import com.opencsv.exceptions.CsvChainedException;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvFieldAssignmentException;
+import com.opencsv.exceptions.CsvRuntimeException;
 
 import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 
 /**
  * A specific derivative of {@link IntolerantThreadPoolExecutor} intended for
@@ -15,6 +23,9 @@ import java.util.Locale;
  */
 public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
 
+    /** The batch beans are currently added to, or {@code null}. */
+    private BeanBatch<T> batch = null;
+
     /**
      * The only constructor available for this class.
      * @param orderedResults Whether order should be preserved in the results
@@ -24,8 +35,34 @@ public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
         super(orderedResults, errorLocale);
     }
 
+    /**
+     * Creates an executor with a fixed degree of parallelism, optionally
+     * limiting memory use and running the conversions on an executor
+     * supplied by the caller.
+     * <p>If {@code maxInFlight} is positive, submitting a bean blocks as
+     * long as that many beans have been submitted whose results have not
+     * been consumed. The results must then be consumed in another thread
+     * while beans are still being submitted.</p>
+     * @param orderedResults Whether order should be preserved in the results
+     * @param errorLocale The locale to use for error messages
+     * @param parallelism The number of beans converted at once. Values below
+     *                    one mean one per available processor.
+     * @param maxInFlight The maximum number of beans submitted but not yet
+     *                    consumed. Values below one mean there is no limit.
+     * @param conversionExecutor The executor to run conversions on. If
+     *                           {@code null}, threads are started for this
+     *                           executor alone.
+     * @since 5.12
+     */
+    public BeanExecutor(boolean orderedResults, Locale errorLocale, int parallelism, int maxInFlight,
+                        Executor conversionExecutor) {
+        super(orderedResults, errorLocale, parallelism, maxInFlight, conversionExecutor);
+    }
+
     /**
      * Submit one bean for conversion.
+     * <p>Beans are collected in batches, which are converted as soon as
+     * they are full or {@link #complete()} is called.</p>
      *
      * @param lineNumber Which record in the output file is being processed
      * @param mappingStrategy The mapping strategy to be used
@@ -36,18 +73,81 @@ public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
     public void submitBean(
             long lineNumber, MappingStrategy<T> mappingStrategy,
             T bean, CsvExceptionHandler exceptionHandler) {
-        if (accumulateThread != null) {
-            expectedRecords.add(lineNumber);
+        if (batch != null && !batch.accepts(mappingStrategy, exceptionHandler)) {
+            submitPendingBatch();
+        }
+        if (batch == null) {
+            batch = new BeanBatch<>(this, nextBatchCapacity(), mappingStrategy, exceptionHandler);
+        }
+        batch.add(lineNumber, bean);
+        if (batch.isFull()) {
+            submitPendingBatch();
+        }
+    }
+
+    private void submitPendingBatch() {
+        if (batch != null) {
+            BeanBatch<T> full = batch;
+            batch = null;
+            submitBatch(full);
+        }
+    }
+
+    /**
+     * Submits the beans still waiting to be converted, then proceeds as
+     * described in {@link IntolerantThreadPoolExecutor#complete()}.
+     *
+     * @throws InterruptedException {@inheritDoc}
+     */
+    @Override
+    public void complete() throws InterruptedException {
+        submitPendingBatch();
+        super.complete();
+    }
+
+    /**
+     * A batch of beans to be converted to lines of output.
+     * This does what {@link ProcessCsvBean} does for every bean in the batch.
+     *
+     * @param <T> The type of the bean being converted
+     */
+    private static class BeanBatch<T> extends ConversionBatch<T, String[]> {
+        private final MappingStrategy<T> mappingStrategy;
+        private final CsvExceptionHandler exceptionHandler;
+        private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue;
+
+        BeanBatch(BeanExecutor<T> executor, int capacity,
+                  MappingStrategy<T> mappingStrategy, CsvExceptionHandler exceptionHandler) {
+            super(executor, capacity);
+            this.mappingStrategy = mappingStrategy;
+            this.exceptionHandler = exceptionHandler;
+            this.thrownExceptionsQueue = executor.thrownExceptionsQueue;
+        }
+
+        /**
+         * @return Whether beans submitted with the given parameters can be
+         * added to this batch
+         */
+        boolean accepts(MappingStrategy<T> mappingStrategy, CsvExceptionHandler exceptionHandler) {
+            return this.mappingStrategy == mappingStrategy && this.exceptionHandler == exceptionHandler;
         }
-        try {
-            execute(new ProcessCsvBean<>(lineNumber, mappingStrategy, bean, resultQueue,
-                    thrownExceptionsQueue, expectedRecords, exceptionHandler));
-        } catch (Exception e) {
-            if(accumulateThread != null) {
-                expectedRecords.remove(lineNumber);
-                accumulateThread.setMustStop(true);
+
+        @Override
+        protected String[] convert(long lineNumber, T bean) {
+            try {
+                return mappingStrategy.transmuteBean(bean);
+            }
+            catch (CsvFieldAssignmentException | CsvChainedException e) {
+                OpencsvUtils.handleException(e, lineNumber, exceptionHandler, thrownExceptionsQueue);
+                return null;
+            }
+            catch(CsvRuntimeException csvre) {
+                // Rethrowing exception here because I do not want the CsvRuntimeException caught and rewrapped in the catch below.
+                throw csvre;
+            }
+            catch(Exception t) {
+                throw new RuntimeException(t);
             }
-            throw e;
         }
     }
 }
@@ -88,7 +88,9 @@ public class CompleteFileReader<T> extends SingleLineReader implements Runnable
     public void run() {
         // Parse through each line of the file
         try {
-            while (null != readNextLine()) {
+            // Reading stops as soon as the executor has been stopped, for
+            // instance because the stream of results was closed.
+            while (!executor.isStopped() && null != readNextLine()) {
                 lineProcessed = csvReader.getLinesRead();
                 executor.submitLine(lineProcessed, mappingStrategy, filter,
                         verifiers, line, exceptionHandler);
@@ -96,9 +98,16 @@ public class CompleteFileReader<T> extends SingleLineReader implements Runnable
 
             // Since only this thread knows when reading is over, it is responsible
             // for telling the executor it's finished.
-            executor.complete();
+            if (!executor.isStopped()) {
+                executor.complete();
+            }
         } catch(Exception e) {
             terminalException = e;
+
+            // Nothing more will be submitted, so the executor must not wait
+            // for more input. Terminating it also wakes up a consumer waiting
+            // for the next result, which then finds this exception.
+            executor.shutdownNow();
         }
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A number of consecutive records converted together in one task.
+ * <p>Handing every record to an executor on its own costs more in
+ * coordination than converting it, unless conversion is expensive. A batch
+ * collects records as they are submitted, is handed to the executor once it
+ * is full, converts all of its records one after the other, and passes its
+ * results on as a whole, so the cost of coordination is paid once per batch
+ * instead of once per record.</p>
+ * <p>The batch itself is the unit of publication: once run, it is placed in
+ * the {@link ReorderBuffer} or the result queue of its executor, and the
+ * consumer takes the results out of it.</p>
+ *
+ * @param <I> The type of the input records
+ * @param <R> The type of the results of conversion
+ * @since 5.12
+ */
+abstract class ConversionBatch<I, R> implements Runnable {
+
+    private final IntolerantThreadPoolExecutor<R> executor;
+    private final long[] lineNumbers;
+    private List<I> inputs;
+    private int size = 0;
+    private List<R> results = Collections.emptyList();
+    private long sequence = 0;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param executor The executor this batch is submitted to and publishes
+     *                 its results in
+     * @param capacity The number of records after which the batch is full
+     */
+    ConversionBatch(IntolerantThreadPoolExecutor<R> executor, int capacity) {
+        this.executor = executor;
+        this.lineNumbers = new long[capacity];
+        this.inputs = new ArrayList<>(capacity);
+    }
+
+    /**
+     * Adds a record to this batch.
+     * May only be called before the batch is submitted and while it is not
+     * full.
+     *
+     * @param lineNumber Which record of the input is being added
+     * @param input The record
+     */
+    void add(long lineNumber, I input) {
+        lineNumbers[size++] = lineNumber;
+        inputs.add(input);
+    }
+
+    /**
+     * @return Whether no more records can be added
+     */
+    boolean isFull() {
+        return size == lineNumbers.length;
+    }
+
+    /**
+     * @return The number of records in this batch, whether they produced a
+     * result or not
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return The sequence number under which this batch is ordered
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @param sequence The sequence number under which this batch is ordered
+     */
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * May only be called once the batch has been published.
+     *
+     * @return The results of conversion in the order of the input. Records
+     * that produced no result are left out.
+     */
+    List<R> getResults() {
+        return results;
+    }
+
+    @Override
+    public void run() {
+        List<R> converted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (executor.isStopped()) {
+                // Nobody is waiting for the results any more
+                return;
+            }
+            R result = convert(lineNumbers[i], inputs.get(i));
+            if (result != null) {
+                converted.add(result);
+            }
+        }
+
+        // The input is not needed any longer, and the batch may wait a while
+        // for the consumer.
+        inputs = null;
+        results = converted;
+        executor.publish(this);
+    }
+
+    /**
+     * Converts one record.
+     * Exceptions that are to be captured must be handled here. Anything
+     * else must be thrown wrapped in a {@link RuntimeException}, which ends
+     * the batch and shuts the executor down.
+     *
+     * @param lineNumber Which record of the input is being converted
+     * @param input The record
+     * @return The result, or {@code null} if the record produces none
+     */
+    protected abstract R convert(long lineNumber, I input);
+}
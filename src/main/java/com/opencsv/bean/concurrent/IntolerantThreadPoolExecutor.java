@@ -16,17 +16,19 @@
 package com.opencsv.bean.concurrent;
 
 import com.opencsv.ICSVParser;
+import com.opencsv.bean.util.OpencsvUtils;
 import com.opencsv.bean.util.OrderedObject;
 import com.opencsv.exceptions.CsvException;
-import org.apache.commons.collections4.ListValuedMap;
-import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This ThreadPoolExecutor automatically shuts down on any failed thread.
@@ -34,6 +36,13 @@ import java.util.stream.Collectors;
  * in opencsv. This implementation expects all uncaught exceptions from its
  * threads to be wrapped in a {@link java.lang.RuntimeException}. The number of
  * threads in the pool is fixed.</p>
+ * <p>Instead of starting threads of its own, the executor can run its tasks
+ * on an {@link Executor} supplied by the caller, such as a pool shared by the
+ * whole application or an executor that starts a virtual thread per task.
+ * In that case, no more tasks than the configured parallelism are handed to
+ * that executor at any one time; the rest wait in a queue of their own. The
+ * life cycle of this executor (shutting down, termination) is the same
+ * either way, but the supplied executor is never shut down.</p>
  * <p>It is not intended for this executor to be instantiated and receive jobs
  * directly. There are function-specific derived classes for that purpose.</p>
  * <p>This executor adds significant logic to the basic idea of an
@@ -52,13 +61,18 @@ import java.util.stream.Collectors;
  * it on to</li>
  * <li>This executor, which performs a number of conversions in parallel and
  * passes these results and any resultant errors to</li>
- * <li>The accumulator, which creates an ordered list of the results.</li></ol></p>
- * <p>The threads in the executor queue their results in a thread-safe
- * queue, which should be O(1), minimizing wait time due to synchronization.
- * The accumulator then removes items from the queue and inserts them into a
- * sorted data structure, which is O(log n) on average and O(n) in the worst
- * case. If the user has told us she doesn't need sorted data, the
- * accumulator is not necessary, and thus is not started.</p>
+ * <li>The consumer of the results, in the order of the input if requested.</li></ol></p>
+ * <p>Records are not submitted to the pool one by one, but in
+ * {@link ConversionBatch batches} of consecutive records, each of which is
+ * converted by one task. The first batches are small, so that results are
+ * available early, and the size doubles up to {@link #MAX_BATCH_SIZE}.</p>
+ * <p>If order is to be preserved, every batch is numbered on submission and
+ * stores itself directly in a {@link ReorderBuffer} under that
+ * number. The consumer takes the batches out in order, waiting if the next
+ * one is not finished yet. Both operations are O(1). If the user has told us
+ * she doesn't need sorted data, the threads in the executor queue their
+ * batches in a thread-safe queue instead, and the consumer takes them in
+ * whatever order they arrive.</p>
  *
  * @param <T> The type of the object being created by the threads run
  * @author Andrew Rucker Jones
@@ -66,28 +80,31 @@ import java.util.stream.Collectors;
  */
 class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spliterator<T> {
 
-    /** A queue of the beans created. */
-    protected final BlockingQueue<OrderedObject<T>> resultQueue = new LinkedBlockingQueue<>();
+    /** The largest number of records converted together in one task. */
+    static final int MAX_BATCH_SIZE = 256;
 
-    /** A queue of exceptions thrown by threads during processing. */
-    protected final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
-
-    /** A sorted, concurrent map for the beans created. */
-    private ConcurrentNavigableMap<Long, T> resultantBeansMap = null;
+    /** A queue of the batches converted. */
+    protected final BlockingQueue<ConversionBatch<?, T>> resultQueue = new LinkedBlockingQueue<>();
 
     /**
-     * A multi-valued map for any exceptions captured.
-     * <p>The multi-valued part is important because the same line can throw more
-     * than one exception.</p>
-     * <p><em>All access to this variable must be synchronized.</em></p>
-     * */
-    private ListValuedMap<Long, CsvException> thrownExceptionsMap = null;
+     * Placed in {@link #resultQueue} once no more batches can be expected,
+     * so a consumer waiting for the next batch wakes up.
+     */
+    private final ConversionBatch<?, T> endOfResults = new ConversionBatch<Void, T>(this, 0) {
+        @Override
+        protected T convert(long lineNumber, Void input) {
+            return null;
+        }
+    };
 
-    /** A separate thread that accumulates and orders results. */
-    protected AccumulateCsvResults<T> accumulateThread = null;
+    /** A queue of exceptions thrown by threads during processing. */
+    protected final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
 
-    /** A list of the ordinals of data records still to be expected by the accumulator. */
-    protected final SortedSet<Long> expectedRecords = new ConcurrentSkipListSet<>();
+    /**
+     * Restores the order of the results, if order is to be preserved.
+     * Otherwise, results are placed in {@link #resultQueue}.
+     */
+    ReorderBuffer<ConversionBatch<?, T>> reorderBuffer = null;
 
     /**
      * Determines whether resulting data sets have to be in the same order as
@@ -98,8 +115,73 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
     /** The locale for error messages. */
     protected final Locale errorLocale;
 
+    /** The maximum number of records in flight, or zero if unlimited. */
+    private final int maxInFlight;
+
+    /**
+     * Limits the number of records in flight, or {@code null} if there is no
+     * limit.
+     * A permit is taken for every record submitted and returned once the
+     * consumer has moved past the batch the record was submitted in.
+     */
+    private final Semaphore inFlight;
+
+    /** The largest number of records submitted in one batch. */
+    private final int maxBatchSize;
+
+    /**
+     * The number of records in the next batch.
+     * Only ever accessed by the thread submitting records.
+     */
+    private int nextBatchSize = 1;
+
+    /** The batch whose results the consumer is currently taking. */
+    private ConversionBatch<?, T> currentBatch = null;
+
+    /** The index of the next result to be taken from {@link #currentBatch}. */
+    private int currentIndex = 0;
+
+    /**
+     * The number of results in batches that have been published, but not
+     * yet taken by the consumer.
+     */
+    private final AtomicLong publishedResults = new AtomicLong();
+
     /** The exception that caused this Executor to stop executing. */
-    private Throwable terminalException;
+    private volatile Throwable terminalException;
+
+    /**
+     * Whether conversion has been stopped before all input was converted.
+     * Batches already running check this between records and stop.
+     */
+    private volatile boolean stopped = false;
+
+    /** The time allowed for conversion in nanoseconds, or zero for no limit. */
+    private long timeout = 0;
+
+    /**
+     * The value of {@link System#nanoTime()} at which conversion is
+     * stopped, if there is a {@link #timeout}.
+     */
+    private long deadline = 0;
+
+    /**
+     * The executor supplied by the caller to run tasks on, or {@code null}
+     * if this executor uses its own threads.
+     */
+    private final Executor delegate;
+
+    /** The maximum number of tasks handed to {@link #delegate} at once. */
+    private final int parallelism;
+
+    /** Tasks waiting to be handed to {@link #delegate}. */
+    private final Queue<Runnable> delegatedTasks = new ConcurrentLinkedQueue<>();
+
+    /** The number of tasks handed to {@link #delegate} and not yet finished. */
+    private final AtomicInteger activeDelegatedTasks = new AtomicInteger();
+
+    /** Released once all tasks handed to {@link #delegate} are finished after shutdown. */
+    private final CountDownLatch delegateTermination = new CountDownLatch(1);
 
     /**
      * Constructor for a thread pool executor that stops by itself as soon as
@@ -109,11 +191,62 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
      * @param errorLocale The errorLocale to use for error messages.
      */
     IntolerantThreadPoolExecutor(boolean orderedResults, Locale errorLocale) {
-        super(Runtime.getRuntime().availableProcessors(),
-                Runtime.getRuntime().availableProcessors(), Long.MAX_VALUE,
-                TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>());
+        this(orderedResults, errorLocale, 0, 0, null);
+    }
+
+    /**
+     * Constructor for an executor with a fixed degree of parallelism that
+     * stops by itself as soon as any task throws an exception.
+     * Threads never time out.
+     * @param orderedResults Whether order should be preserved in the results
+     * @param errorLocale The errorLocale to use for error messages.
+     * @param parallelism The number of threads in the pool, or the number of
+     *                    tasks handed to {@code delegate} at once. Values
+     *                    below one mean one per available processor.
+     * @param maxInFlight The maximum number of records submitted whose
+     *                    results have not been consumed yet. Values below
+     *                    one mean there is no limit.
+     * @param delegate The executor to run all tasks on. If {@code null}, this
+     *                 executor starts threads of its own.
+     * @since 5.12
+     */
+    IntolerantThreadPoolExecutor(boolean orderedResults, Locale errorLocale,
+                                 int parallelism, int maxInFlight, Executor delegate) {
+        super(delegate == null ? effectiveParallelism(parallelism) : 0,
+                delegate == null ? effectiveParallelism(parallelism) : 1,
+                Long.MAX_VALUE, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>());
         this.orderedResults = orderedResults;
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        this.maxInFlight = maxInFlight;
+        this.inFlight = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+        this.delegate = delegate;
+        this.parallelism = effectiveParallelism(parallelism);
+
+        // With a limit on the records in flight, a batch must not hold
+        // so many that the others cannot keep all threads busy.
+        this.maxBatchSize = maxInFlight > 0 ?
+                Math.max(1, Math.min(MAX_BATCH_SIZE, maxInFlight / (2 * this.parallelism))) :
+                MAX_BATCH_SIZE;
+    }
+
+    private static int effectiveParallelism(int parallelism) {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Limits the time conversion may take.
+     * Once the time is up, reading and conversion are stopped, and the
+     * consumer of the results receives an exception wrapping a
+     * {@link TimeoutException}. Must be called before {@link #prepare()}.
+     *
+     * @param timeout The time allowed, measured from this call. Values
+     *                below one mean there is no limit.
+     * @param unit The unit of {@code timeout}
+     * @since 5.12
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        this.timeout = Math.max(0, unit.toNanos(timeout));
+        this.deadline = System.nanoTime() + this.timeout;
     }
 
     /**
@@ -122,20 +255,13 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
     public void prepare() {
         prestartAllCoreThreads();
 
-        // The ordered maps and accumulator are only necessary if ordering is
-        // stipulated. After this, the presence or absence of the accumulator is
-        // used to indicate ordering or not so as to guard against the unlikely
+        // The reorder buffer is only necessary if ordering is stipulated.
+        // After this, the presence or absence of the buffer is used to
+        // indicate ordering or not so as to guard against the unlikely
         // problem that someone sets orderedResults right in the middle of
         // processing.
         if(orderedResults) {
-            resultantBeansMap = new ConcurrentSkipListMap<>();
-            thrownExceptionsMap = new ArrayListValuedHashMap<>();
-
-            // Start the process for accumulating results and cleaning up
-            accumulateThread = new AccumulateCsvResults<>(
-                    resultQueue, thrownExceptionsQueue, expectedRecords,
-                    resultantBeansMap, thrownExceptionsMap);
-            accumulateThread.start();
+            reorderBuffer = new ReorderBuffer<>();
         }
     }
 
@@ -153,10 +279,6 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
         // Normal termination
         shutdown();
         awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS); // Wait indefinitely
-        if(accumulateThread != null) {
-            accumulateThread.setMustStop(true);
-            accumulateThread.join();
-        }
 
         // There's one more possibility: The very last bean caused a problem.
         if(terminalException != null) {
@@ -174,36 +296,249 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
      * @return All exceptions captured
      */
     public List<CsvException> getCapturedExceptions() {
-        List<CsvException> returnList = null;
-        if(thrownExceptionsMap == null) {
-            returnList = thrownExceptionsQueue.stream()
-                    .filter(Objects::nonNull)
-                    .map(OrderedObject::getElement)
-                    .collect(Collectors.toList());
+        Stream<OrderedObject<CsvException>> exceptions = thrownExceptionsQueue.stream()
+                .filter(Objects::nonNull);
+        if(reorderBuffer != null) {
+            // The sort is stable, so multiple exceptions from the same line
+            // stay in the order in which they were thrown.
+            exceptions = exceptions.sorted(Comparator.comparingLong(OrderedObject::getOrdinal));
         }
-        else {
-            returnList = new LinkedList<>();
-            synchronized (thrownExceptionsMap) {
-                final List<CsvException> finalReturnList = returnList;
-                thrownExceptionsMap.keySet().stream()
-                        .sorted()
-                        .forEach(l -> finalReturnList.addAll(thrownExceptionsMap.get(l)));
+        return exceptions
+                .map(OrderedObject::getElement)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if(delegate == null) {
+            super.execute(command);
+            return;
+        }
+        if(command == null) {
+            throw new NullPointerException();
+        }
+        if(isShutdown()) {
+            throw new RejectedExecutionException();
+        }
+        delegatedTasks.add(command);
+        if(isShutdown() && delegatedTasks.remove(command)) {
+            // Lost a race with shutdown
+            throw new RejectedExecutionException();
+        }
+        dispatchDelegatedTasks();
+    }
+
+    /**
+     * Hands waiting tasks to the delegate as long as fewer than
+     * {@link #parallelism} tasks are active there.
+     */
+    private void dispatchDelegatedTasks() {
+        while(!delegatedTasks.isEmpty()) {
+            int active = activeDelegatedTasks.get();
+            if(active >= parallelism) {
+                return;
+            }
+            if(activeDelegatedTasks.compareAndSet(active, active + 1)) {
+                Runnable task = delegatedTasks.poll();
+                if(task == null) {
+                    activeDelegatedTasks.decrementAndGet();
+                }
+                else {
+                    try {
+                        delegate.execute(() -> runDelegatedTask(task));
+                    }
+                    catch(RejectedExecutionException e) {
+                        activeDelegatedTasks.decrementAndGet();
+                        terminalException = e;
+                        shutdownNow();
+                        throw e;
+                    }
+                }
+            }
+        }
+        tryTerminateDelegation();
+    }
+
+    /**
+     * Runs one task in a thread of the delegate, with the same exception
+     * handling as for threads of this executor.
+     * @param task The task to run
+     */
+    private void runDelegatedTask(Runnable task) {
+        Throwable thrown = null;
+        try {
+            task.run();
+        }
+        catch(Throwable t) {
+            // The thread belongs to the delegate, so the exception ends
+            // here instead of killing the thread.
+            thrown = t;
+        }
+        finally {
+            afterExecute(task, thrown);
+            activeDelegatedTasks.decrementAndGet();
+            dispatchDelegatedTasks();
+        }
+    }
+
+    /**
+     * Terminates this executor if it uses a delegate, has been shut down,
+     * and all tasks are finished.
+     */
+    private void tryTerminateDelegation() {
+        if(isShutdown() && activeDelegatedTasks.get() == 0 && delegatedTasks.isEmpty()) {
+            synchronized (delegateTermination) {
+                if(delegateTermination.getCount() > 0) {
+                    releaseWaiters();
+                    delegateTermination.countDown();
+                }
             }
         }
-        return returnList;
     }
 
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        if(delegate != null) {
+            tryTerminateDelegation();
+        }
+    }
+
+    /**
+     * Stops conversion at once.
+     * Batches waiting to be converted are dropped, batches being converted
+     * stop before their next record, and the input is read no further.
+     * This is what happens when the stream of results is closed.
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     public List<Runnable> shutdownNow() {
-        if(accumulateThread != null) {
-            accumulateThread.setMustStop(true);
-            try {
-                accumulateThread.join();
-            } catch (InterruptedException e) {
-                // Do nothing. Best faith effort.
+        stopped = true;
+        List<Runnable> dropped = super.shutdownNow();
+        if(delegate != null) {
+            // Tasks already running in the delegate are allowed to finish.
+            dropped = new ArrayList<>(dropped);
+            Runnable task = delegatedTasks.poll();
+            while(task != null) {
+                dropped.add(task);
+                task = delegatedTasks.poll();
+            }
+            tryTerminateDelegation();
+        }
+        return dropped;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate == null ? super.isTerminated() : delegateTermination.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate == null ?
+                super.awaitTermination(timeout, unit) :
+                delegateTermination.await(timeout, unit);
+    }
+
+    /**
+     * Releases the consumer of ordered results once no more results can be
+     * expected.
+     * If tasks run on a delegate, this executor terminates without its own
+     * threads long before the tasks are finished, so the waiters are
+     * released separately.
+     */
+    @Override
+    protected void terminated() {
+        super.terminated();
+        if(delegate == null) {
+            releaseWaiters();
+        }
+    }
+
+    /**
+     * Wakes up everyone waiting for this executor once no more results can
+     * be expected.
+     */
+    private void releaseWaiters() {
+        if(reorderBuffer != null) {
+            reorderBuffer.close();
+        }
+        else {
+            resultQueue.offer(endOfResults);
+        }
+
+        // If the executor was shut down early, records still in the queue
+        // were dropped without returning their permits. Nothing more can be
+        // accepted anyway, so don't keep anyone waiting to submit.
+        if(inFlight != null) {
+            inFlight.release(maxInFlight);
+        }
+    }
+
+    /**
+     * Determines whether conversion has been stopped early, either with
+     * {@link #shutdownNow()} or because the time allowed is up. In the
+     * latter case, this method is what stops it.
+     * Submission and conversion check this between records.
+     *
+     * @return Whether no more records should be read or converted
+     */
+    boolean isStopped() {
+        if(!stopped && timeout > 0 && System.nanoTime() - deadline >= 0) {
+            if(terminalException == null) {
+                terminalException = new TimeoutException(String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("conversion.timeout"),
+                        TimeUnit.NANOSECONDS.toMillis(timeout)));
             }
+            shutdownNow();
+        }
+        return stopped;
+    }
+
+    /**
+     * Determines the capacity of the next batch to be submitted.
+     * May only be called from the thread submitting records.
+     *
+     * @return The number of records the next batch is to hold
+     */
+    int nextBatchCapacity() {
+        int capacity = nextBatchSize;
+        nextBatchSize = Math.min(nextBatchSize * 2, maxBatchSize);
+        return capacity;
+    }
+
+    /**
+     * Submits a batch for conversion, waiting first if it would exceed the
+     * maximum number of records in flight.
+     * May only be called from the thread submitting records.
+     *
+     * @param batch The batch to be converted
+     */
+    void submitBatch(ConversionBatch<?, T> batch) {
+        if(inFlight != null) {
+            inFlight.acquireUninterruptibly(batch.size());
+        }
+        if(reorderBuffer != null) {
+            batch.setSequence(reorderBuffer.reserve());
+        }
+        execute(batch);
+    }
+
+    /**
+     * Passes a batch that has been converted on to the consumer.
+     * Called by the batch itself when it is finished.
+     *
+     * @param batch The batch converted
+     */
+    void publish(ConversionBatch<?, T> batch) {
+        publishedResults.addAndGet(batch.getResults().size());
+        if(reorderBuffer != null) {
+            reorderBuffer.complete(batch.getSequence(), batch);
+        }
+        else {
+            OpencsvUtils.queueRefuseToAcceptDefeat(resultQueue, batch);
         }
-        return super.shutdownNow();
     }
 
     /**
@@ -254,153 +589,212 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
         }
     }
 
-    private boolean isConversionComplete() {
-        return isTerminated() && (accumulateThread == null || !accumulateThread.isAlive());
-    }
-
     /**
-     * Determines whether more conversion results can be expected.
-     * Since {@link Spliterator}s have no way of indicating that they don't
-     * have a result at the moment, but might in the future, we must ensure
-     * that every call to {@link #tryAdvance(Consumer)} or {@link #trySplit()}
-     * only returns {@code null} if the entire conversion apparatus has shut
-     * down and all result queues are cleared. Thus, this method waits until
-     * either that is true, or there is truly at least one result that can be
-     * returned to users of the {@link Spliterator} interface.
+     * Takes the next unordered batch converted, waiting until one is
+     * available.
+     * Waiting costs no processing time: the consumer sleeps until a batch
+     * is queued or the executor terminates.
      *
-     * @return {@code false} if conversion is complete and no more results
-     *   can ever be expected out of this {@link Spliterator}, {@code true}
-     *   otherwise. If {@code true} is returned, it is guaranteed that at
-     *   least one result is available immediately to the caller.
+     * @return The next batch, or {@code null} if no more batches can ever
+     *   be expected
      */
-    private boolean areMoreResultsAvailable() {
+    private ConversionBatch<?, T> takeUnorderedBatch() {
         // If an exception has been thrown that needs to be passed on,
         // throw it here.
         checkExceptions();
-
-        // Check conditions for completion
-        boolean elementFound = false;
-        while(!elementFound && !isConversionComplete()) {
-            if(accumulateThread == null) {
-                if(resultQueue.isEmpty()) {
-                    Thread.yield();
+        ConversionBatch<?, T> batch = null;
+        boolean interrupted = false;
+        try {
+            while(batch == null) {
+                try {
+                    if(timeout > 0 && !stopped) {
+                        batch = resultQueue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if(batch == null && isStopped()) {
+                            checkExceptions();
+                        }
+                    }
+                    else {
+                        batch = resultQueue.take();
+                    }
                 }
-                else {
-                    elementFound = true;
+                catch(InterruptedException e) {
+                    // Like the wait for ordered results, this wait is only
+                    // ended by results, the end of conversion or the time
+                    // allowed running out.
+                    interrupted = true;
                 }
             }
-            else {
-                if(resultantBeansMap.isEmpty()) {
-                    Thread.yield();
-                }
-                else {
-                    elementFound = true;
-                }
+        }
+        finally {
+            if(interrupted) {
+                Thread.currentThread().interrupt();
             }
+        }
+        if(batch == endOfResults) {
+            // Leave the marker for any later call.
+            resultQueue.offer(endOfResults);
 
-            // If an exception has been thrown that needs to be passed on,
-            // throw it here.
+            // The executor has terminated. If it did so because of an
+            // exception, that exception must be passed on now.
             checkExceptions();
+            return null;
         }
-
-        return accumulateThread == null ? !resultQueue.isEmpty() : !resultantBeansMap.isEmpty();
+        return batch;
     }
 
-    @Override
-    public boolean tryAdvance(Consumer<? super T> action) {
-        T bean = null;
-
-        if (areMoreResultsAvailable()) {
-            // Since we are now guaranteed to have a result, we don't
-            // really have to do all of the null checking below, but
-            // better safe than sorry.
-            if(accumulateThread == null) {
-                OrderedObject<T> orderedObject = resultQueue.poll();
-                if(orderedObject != null) {
-                    bean = orderedObject.getElement();
-                }
+    /**
+     * Takes the next batch converted, in order if order is to be preserved,
+     * waiting until it is available.
+     *
+     * @return The next batch, or {@code null} if no more batches can ever
+     *   be expected
+     */
+    private ConversionBatch<?, T> takeBatch() {
+        // Stops conversion if the time allowed is up, even if results are
+        // still waiting.
+        isStopped();
+        if(reorderBuffer == null) {
+            return takeUnorderedBatch();
+        }
+
+        // If an exception has been thrown that needs to be passed on,
+        // throw it here.
+        checkExceptions();
+        ConversionBatch<?, T> batch;
+        if(timeout > 0) {
+            batch = reorderBuffer.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if(batch == null) {
+                // Stops conversion if the time allowed is up
+                isStopped();
             }
-            else {
-                Map.Entry<Long, T> mapEntry = resultantBeansMap.pollFirstEntry();
-                if(mapEntry != null) {
-                    bean = mapEntry.getValue();
+        }
+        else {
+            batch = reorderBuffer.take();
+        }
+        if(batch == null) {
+            // The executor has terminated or the time allowed is up. If
+            // conversion ended because of an exception, the slot for the
+            // batch that caused it was never completed, and the exception
+            // must be passed on now.
+            checkExceptions();
+        }
+        return batch;
+    }
+
+    /**
+     * Signals that the consumer has moved past a batch.
+     *
+     * @param batch The batch all results of which have been taken
+     */
+    private void releaseBatch(ConversionBatch<?, T> batch) {
+        if(inFlight != null) {
+            inFlight.release(batch.size());
+        }
+    }
+
+    /**
+     * Takes the next conversion result, waiting until it is available.
+     *
+     * @return The next result, or {@code null} if no more results can ever
+     *   be expected
+     */
+    private T takeResult() {
+        while(true) {
+            if(currentBatch != null) {
+                List<T> results = currentBatch.getResults();
+                if(currentIndex < results.size()) {
+                    return results.get(currentIndex++);
                 }
+                releaseBatch(currentBatch);
+                currentBatch = null;
             }
-            if(bean != null) {
-                action.accept(bean);
+            ConversionBatch<?, T> batch = takeBatch();
+            if(batch == null) {
+                return null;
             }
+            publishedResults.addAndGet(-batch.getResults().size());
+            currentBatch = batch;
+            currentIndex = 0;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        T bean = takeResult();
+        if(bean != null) {
+            action.accept(bean);
         }
 
         return bean != null;
     }
 
-    // WARNING! This code is untested because I have no way of telling the JDK
-    // streaming code how to do its job.
+    /**
+     * Splits off all results that are ready, waiting for the next result if
+     * none is.
+     * In order, if order is to be preserved, these are the results that
+     * come next.
+     *
+     * @return A spliterator over the results that were ready, or
+     *   {@code null} if no more results can ever be expected
+     */
     @Override
     public Spliterator<T> trySplit() {
-        Spliterator<T> s = null;
-
-        // Check if all threads are through
-        if(areMoreResultsAvailable()) {
-            if(isConversionComplete()) {
-                // Return everything we have
-                if(accumulateThread == null) {
-                    s = resultQueue.stream().map(OrderedObject::getElement).spliterator();
-                }
-                else {
-                    s = resultantBeansMap.values().spliterator();
-                }
+        // Split off everything that is ready (in order, if order is to be
+        // preserved), which is at least one result unless conversion is over.
+        T first = takeResult();
+        if(first == null) {
+            return null;
+        }
+        ArrayList<T> c = new ArrayList<>();
+        c.add(first);
+        List<T> results = currentBatch.getResults();
+        c.addAll(results.subList(currentIndex, results.size()));
+        releaseBatch(currentBatch);
+        currentBatch = null;
+
+        List<ConversionBatch<?, T>> ready = new ArrayList<>();
+        if(reorderBuffer != null) {
+            reorderBuffer.drainTo(ready);
+        }
+        else {
+            // We can't use resultQueue.drainTo() because bulk operations
+            // are not thread-safe. So, we have to poll each batch
+            // individually.
+            ConversionBatch<?, T> batch = resultQueue.poll();
+            while(batch != null && batch != endOfResults) {
+                ready.add(batch);
+                batch = resultQueue.poll();
             }
-            else {
-                int size;
-                ArrayList<T> c;
-                if(accumulateThread == null) {
-                    // May seem like an odd implementation, but we can't use
-                    // resultQueue.drainTo() because bulk operations are not
-                    // thread-safe. So, we have to poll each object individually.
-                    // We don't want to use a LinkedList for the Spliterator
-                    // because another split would presumably be inefficient. With
-                    // an ArrayList, on the other hand, we have to make sure we
-                    // avoid a costly resize operation.
-                    size = resultQueue.size();
-                    c = new ArrayList<>(size);
-                    for(int i = 0; i < size; i++) {
-                        // Result guaranteed to exist through areMoreResultsAvailable()
-                        OrderedObject<T> orderedObject = resultQueue.poll();
-                        if(orderedObject != null) {
-                            c.add(orderedObject.getElement());
-                        }
-
-                    }
-                }
-                else {
-                    size = resultantBeansMap.size();
-                    c = new ArrayList<>(size);
-                    for(int i = 0; i < size; i++) {
-                        Map.Entry<Long, T> mapEntry = resultantBeansMap.pollFirstEntry();
-                        if(mapEntry != null) {
-                            c.add(mapEntry.getValue());
-                        }
-                    }
-                }
-                s = c.spliterator();
+            if(batch == endOfResults) {
+                resultQueue.offer(endOfResults);
             }
         }
+        for(ConversionBatch<?, T> batch : ready) {
+            publishedResults.addAndGet(-batch.getResults().size());
+            c.addAll(batch.getResults());
+            releaseBatch(batch);
+        }
 
-        return s;
+        return c.spliterator();
     }
 
-    // WARNING! This code is untested because I have no way of telling the JDK
-    // streaming code how to do its job.
+    /**
+     * Estimates the number of results left.
+     * Only results that have already been converted are counted, since the
+     * number of records still to be read is unknown.
+     *
+     * @return The number of results converted and not yet taken
+     */
     @Override
     public long estimateSize() {
-        return accumulateThread == null ? resultQueue.size() : resultantBeansMap.size();
+        long ready = currentBatch == null ? 0 : currentBatch.getResults().size() - currentIndex;
+        return ready + publishedResults.get();
     }
 
     @Override
     public int characteristics() {
         int characteristics = Spliterator.CONCURRENT | Spliterator.NONNULL;
-        if(accumulateThread != null) {
+        if(reorderBuffer != null) {
             characteristics |= Spliterator.ORDERED;
         }
         return characteristics;
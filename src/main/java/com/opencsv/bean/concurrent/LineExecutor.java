@@ -5,12 +5,17 @@ import com.opencsv.bean.BeanVerifier;
 import com.opencsv.bean.CsvToBeanFilter;
 import com.opencsv.bean.MappingStrategy;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
+import com.opencsv.bean.util.OpencsvUtils;
+import com.opencsv.bean.util.OrderedObject;
+import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvMalformedLineException;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 
 /**
@@ -25,8 +30,11 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
 
     private final CompleteFileReader<T> completeFileReader;
 
+    /** The batch records are currently added to, or {@code null}. */
+    private LineBatch<T> batch = null;
+
     /**
-     * The only constructor available for this class.
+     * Creates an executor with one thread per available processor.
      * @param orderedResults Whether order should be preserved in the results
      * @param errorLocale The locale to use for error messages
      * @param completeFileReader The thread that reads lines of input and feeds the
@@ -37,6 +45,36 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
         this.completeFileReader = completeFileReader;
     }
 
+    /**
+     * Creates an executor with a fixed degree of parallelism for conversion
+     * and, optionally, a limit on memory use and an executor to run the
+     * conversions on.
+     * <p>If {@code maxInFlight} is positive, no more than that many records
+     * are held at any time between being read and being consumed. Once the
+     * limit is reached, reading blocks until the consumer catches up, so
+     * arbitrarily large input can be processed in constant memory. In that
+     * case, the results must be consumed to the end, or the executor shut
+     * down, lest the reading thread wait forever.</p>
+     * @param orderedResults Whether order should be preserved in the results
+     * @param errorLocale The locale to use for error messages
+     * @param completeFileReader The thread that reads lines of input and feeds the
+     *                   results to this Executor
+     * @param parallelism The number of lines of input converted at once.
+     *                    Values below one mean one per available processor.
+     * @param maxInFlight The maximum number of records read but not yet
+     *                    consumed. Values below one mean there is no limit.
+     * @param conversionExecutor The executor to run conversions on. If
+     *                           {@code null}, threads are started for this
+     *                           executor alone. Input is always read in a
+     *                           thread of its own.
+     * @since 5.12
+     */
+    public LineExecutor(boolean orderedResults, Locale errorLocale, CompleteFileReader<T> completeFileReader,
+                        int parallelism, int maxInFlight, Executor conversionExecutor) {
+        super(orderedResults, errorLocale, parallelism, maxInFlight, conversionExecutor);
+        this.completeFileReader = completeFileReader;
+    }
+
     @Override
     public void prepare() {
         Thread readerThread = new Thread(completeFileReader);
@@ -69,6 +107,8 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
 
     /**
      * Submit one record for conversion to a bean.
+     * <p>Records are collected in batches, which are converted as soon as
+     * they are full or {@link #complete()} is called.</p>
      *
      * @param lineNumber Which record in the input file is being processed
      * @param mapper The mapping strategy to be used
@@ -83,20 +123,93 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
             long lineNumber, MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
             List<BeanVerifier<T>> verifiers, String[] line,
             CsvExceptionHandler exceptionHandler) {
-        if (accumulateThread != null) {
-            expectedRecords.add(lineNumber);
+        if (batch != null && !batch.accepts(mapper, filter, verifiers, exceptionHandler)) {
+            submitPendingBatch();
+        }
+        if (batch == null) {
+            batch = new LineBatch<>(this, nextBatchCapacity(),
+                    mapper, filter, verifiers, exceptionHandler);
+        }
+        batch.add(lineNumber, line);
+        if (batch.isFull()) {
+            submitPendingBatch();
         }
-        try {
-            execute(new ProcessCsvLine<>(
-                    lineNumber, mapper, filter, verifiers, line,
-                    resultQueue, thrownExceptionsQueue,
-                    expectedRecords, exceptionHandler));
-        } catch (Exception e) {
-            if(accumulateThread != null) {
-                expectedRecords.remove(lineNumber);
-                accumulateThread.setMustStop(true);
+    }
+
+    private void submitPendingBatch() {
+        if (batch != null) {
+            LineBatch<T> full = batch;
+            batch = null;
+            submitBatch(full);
+        }
+    }
+
+    /**
+     * Submits the records still waiting to be converted, then proceeds as
+     * described in {@link IntolerantThreadPoolExecutor#complete()}.
+     *
+     * @throws InterruptedException {@inheritDoc}
+     */
+    @Override
+    public void complete() throws InterruptedException {
+        submitPendingBatch();
+        super.complete();
+    }
+
+    /**
+     * A batch of lines of input to be converted to beans.
+     * This does what {@link ProcessCsvLine} does for every line in the batch.
+     *
+     * @param <T> The type of the bean being converted to
+     */
+    private static class LineBatch<T> extends ConversionBatch<String[], T> {
+        private final MappingStrategy<? extends T> mapper;
+        private final CsvToBeanFilter filter;
+        private final List<BeanVerifier<T>> verifiers;
+        private final CsvExceptionHandler exceptionHandler;
+        private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue;
+
+        LineBatch(LineExecutor<T> executor, int capacity,
+                  MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
+                  List<BeanVerifier<T>> verifiers, CsvExceptionHandler exceptionHandler) {
+            super(executor, capacity);
+            this.mapper = mapper;
+            this.filter = filter;
+            this.verifiers = verifiers;
+            this.exceptionHandler = exceptionHandler;
+            this.thrownExceptionsQueue = executor.thrownExceptionsQueue;
+        }
+
+        /**
+         * @return Whether lines submitted with the given parameters can be
+         * added to this batch
+         */
+        boolean accepts(MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
+                        List<BeanVerifier<T>> verifiers, CsvExceptionHandler exceptionHandler) {
+            return this.mapper == mapper && this.filter == filter
+                    && this.verifiers == verifiers && this.exceptionHandler == exceptionHandler;
+        }
+
+        @Override
+        protected T convert(long lineNumber, String[] line) {
+            try {
+                if (filter != null && !filter.allowLine(line)) {
+                    return null;
+                }
+                T obj = mapper.populateNewBean(line);
+                for (BeanVerifier<T> verifier : verifiers) {
+                    if (!verifier.verifyBean(obj)) {
+                        return null;
+                    }
+                }
+                return obj;
+            } catch (CsvException e) {
+                e.setLine(line);
+                OpencsvUtils.handleException(e, lineNumber, exceptionHandler, thrownExceptionsQueue);
+                return null;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
             }
-            throw e;
         }
     }
 }
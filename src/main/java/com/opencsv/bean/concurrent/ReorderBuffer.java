@@ -0,0 +1,251 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean.concurrent;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Restores the order of results produced concurrently.
+ * <p>Every task submitted to an executor that preserves order is given a
+ * sequence number with {@link #reserve()}. When the task is finished, it
+ * stores its result directly in the slot for its sequence number. The
+ * consumer takes results out in the order of their sequence numbers,
+ * blocking while the next result is still outstanding. Storing and taking
+ * a result are both O(1), independent of how far out of order results
+ * arrive. The slots form a ring that grows as necessary when a result
+ * arrives too far ahead of the consumer.</p>
+ * <p>A task that produces no result (because the input was filtered, or
+ * because an exception was captured) must still complete its slot with
+ * {@code null}, so the consumer can move past it. A task that ends in an
+ * unrecoverable error leaves its slot empty; the consumer then waits until
+ * the buffer is {@link #close() closed}.</p>
+ *
+ * @param <T> Type of the results being ordered
+ * @since 5.12
+ */
+class ReorderBuffer<T> {
+
+    /** The initial number of slots. Must be a power of two. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Marks a slot that was completed without a result. */
+    private static final Object SKIPPED = new Object();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Signalled when the slot for {@link #head} is completed or the buffer is closed. */
+    private final Condition headCompleted = lock.newCondition();
+
+    /**
+     * The slots for all sequence numbers from {@link #head} on.
+     * The length is always a power of two.
+     */
+    private Object[] slots = new Object[INITIAL_CAPACITY];
+
+    /** The sequence number of the next result to be taken. */
+    private long head = 0;
+
+    /** The number of results stored and not yet taken. */
+    private int available = 0;
+
+    /** Whether no more results can be expected. */
+    private boolean closed = false;
+
+    /**
+     * The next sequence number to be handed out.
+     * Only ever accessed by the thread submitting tasks.
+     */
+    private long nextSequence = 0;
+
+    /**
+     * Hands out the next sequence number.
+     * All tasks must be submitted from the same thread.
+     *
+     * @return The sequence number for the next task
+     */
+    long reserve() {
+        return nextSequence++;
+    }
+
+    /**
+     * Completes the slot for a sequence number.
+     *
+     * @param sequence The sequence number reserved for the task
+     * @param result   The result of the task, or {@code null} if it produced
+     *                 none
+     */
+    void complete(long sequence, T result) {
+        lock.lock();
+        try {
+            if (sequence - head >= slots.length) {
+                grow(sequence - head + 1);
+            }
+            slots[index(sequence)] = result == null ? SKIPPED : result;
+            if (result != null) {
+                available++;
+            }
+            if (sequence == head) {
+                headCompleted.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next result in order, waiting until it is available.
+     *
+     * @return The next result, or {@code null} if the buffer has been closed
+     * and the next result is not available
+     */
+    T take() {
+        lock.lock();
+        try {
+            T result = pollHead();
+            while (result == null && !closed) {
+                headCompleted.awaitUninterruptibly();
+                result = pollHead();
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next result in order, waiting no longer than the given
+     * time for it to become available.
+     *
+     * @param timeout The longest time to wait
+     * @param unit The unit of {@code timeout}
+     * @return The next result, or {@code null} if the buffer has been closed
+     * or the time is up and the next result is not available
+     */
+    T poll(long timeout, TimeUnit unit) {
+        long end = System.nanoTime() + unit.toNanos(timeout);
+        boolean interrupted = false;
+        lock.lock();
+        try {
+            T result = pollHead();
+            long nanos = end - System.nanoTime();
+            while (result == null && !closed && nanos > 0) {
+                try {
+                    headCompleted.awaitNanos(nanos);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                result = pollHead();
+                nanos = end - System.nanoTime();
+            }
+            return result;
+        } finally {
+            lock.unlock();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Takes all results that are available in order without waiting.
+     *
+     * @param c The collection to add the results to
+     */
+    void drainTo(Collection<? super T> c) {
+        lock.lock();
+        try {
+            T result = pollHead();
+            while (result != null) {
+                c.add(result);
+                result = pollHead();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of results stored and not yet taken. Results that
+     * are out of order are included.
+     */
+    int size() {
+        lock.lock();
+        try {
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Signals that no more results can be expected.
+     * Results already stored can still be taken.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            headCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the next result in order, if it is available.
+     * Slots completed without a result are skipped. Must be called with
+     * the lock held.
+     *
+     * @return The next result, or {@code null} if it is not available yet
+     */
+    @SuppressWarnings("unchecked")
+    private T pollHead() {
+        Object o = slots[index(head)];
+        while (o != null) {
+            slots[index(head)] = null;
+            head++;
+            if (o != SKIPPED) {
+                available--;
+                return (T) o;
+            }
+            o = slots[index(head)];
+        }
+        return null;
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & (slots.length - 1);
+    }
+
+    /**
+     * Enlarges the ring so it holds at least the given number of slots from
+     * {@link #head} on. Must be called with the lock held.
+     *
+     * @param minCapacity The number of slots required
+     */
+    private void grow(long minCapacity) {
+        int capacity = slots.length;
+        while (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+        Object[] newSlots = new Object[capacity];
+        for (long s = head; s < head + slots.length; s++) {
+            newSlots[(int) s & (capacity - 1)] = slots[index(s)];
+        }
+        slots = newSlots;
+    }
+}
@@ -1,6 +1,7 @@
 package com.opencsv.bean.customconverter;
 
 import com.opencsv.bean.AbstractBeanField;
+import com.opencsv.bean.CacheableConversion;
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.beanutils.Converter;
@@ -16,7 +17,7 @@ import java.util.ResourceBundle;
  * @param <I> Type of the index into multivalued fields
  * @author Andrew Rucker Jones
  */
-abstract public class ConverterLanguageToBoolean<T, I> extends AbstractBeanField<T, I> {
+abstract public class ConverterLanguageToBoolean<T, I> extends AbstractBeanField<T, I> implements CacheableConversion {
 
     /**
      * This is the string for "true" in the localized language.
@@ -0,0 +1,275 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.stream.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * A {@link Writer} that encodes its output as UTF-8 itself and writes the
+ * bytes to an {@link OutputStream} or a {@link WritableByteChannel}, such as
+ * a {@link java.nio.channels.FileChannel}.
+ * <p>An {@link java.io.OutputStreamWriter} passes everything through a
+ * {@link java.nio.charset.CharsetEncoder} and a buffer of its own. This class
+ * encodes characters straight into the buffer that is written to the
+ * destination, and copies runs of ASCII characters without further
+ * examination, which is the common case for CSV output.</p>
+ * <p>The buffer is only written when it is full, on {@link #flush()} and on
+ * {@link #close()}, so a channel sees writes of the size of the buffer, save
+ * for up to three bytes when a character encoded in more than one byte does
+ * not fit any more. Malformed surrogate pairs are written as {@code '?'}, as an
+ * {@link java.io.OutputStreamWriter} does.</p>
+ * <p>Use it wherever opencsv takes a {@link Writer}:</p>
+ * <pre>
+ * try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+ *      ICSVWriter csvWriter = new CSVWriterBuilder(new Utf8Writer(channel)).build()) {
+ *     csvWriter.writeAll(lines);
+ * }
+ * </pre>
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since 5.12
+ */
+public class Utf8Writer extends Writer {
+
+    /** The default size of the buffer in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /** The smallest buffer possible, enough for any one character. */
+    private static final int MIN_BUFFER_SIZE = 4;
+
+    /** Written in place of malformed surrogate pairs. */
+    private static final byte REPLACEMENT = '?';
+
+    private final OutputStream out;
+    private final WritableByteChannel channel;
+    private final byte[] bytes;
+    private int position = 0;
+
+    /** A high surrogate whose low surrogate has not yet been written. */
+    private char pendingHighSurrogate = 0;
+
+    /** Used to copy the characters of strings for encoding. */
+    private char[] scratch = null;
+
+    private boolean closed = false;
+
+    /**
+     * Writes to an {@link OutputStream} with a buffer of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param out The destination of the encoded output
+     */
+    public Utf8Writer(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Writes to an {@link OutputStream}.
+     *
+     * @param out The destination of the encoded output
+     * @param bufferSize The size of the buffer in bytes
+     */
+    public Utf8Writer(OutputStream out, int bufferSize) {
+        this.out = Objects.requireNonNull(out);
+        this.channel = null;
+        this.bytes = new byte[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+    }
+
+    /**
+     * Writes to a channel with a buffer of {@link #DEFAULT_BUFFER_SIZE}
+     * bytes.
+     *
+     * @param channel The destination of the encoded output
+     */
+    public Utf8Writer(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Writes to a channel.
+     *
+     * @param channel The destination of the encoded output
+     * @param bufferSize The size of the buffer in bytes. Choosing a multiple
+     *                   of the block size of the file system keeps writes to
+     *                   a file aligned.
+     */
+    public Utf8Writer(WritableByteChannel channel, int bufferSize) {
+        this.out = null;
+        this.channel = Objects.requireNonNull(channel);
+        this.bytes = new byte[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        encode((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || off > cbuf.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        final int end = off + len;
+        int i = off;
+        while (i < end) {
+
+            // Copy a run of ASCII characters, as much as fits
+            int runEnd = Math.min(end, i + bytes.length - position);
+            if (pendingHighSurrogate == 0) {
+                while (i < runEnd) {
+                    char c = cbuf[i];
+                    if (c >= 0x80) {
+                        break;
+                    }
+                    bytes[position++] = (byte) c;
+                    i++;
+                }
+            }
+            if (i < end) {
+                if (position == bytes.length) {
+                    writeBuffer();
+                } else {
+                    encode(cbuf[i++]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen();
+        if (scratch == null) {
+            scratch = new char[Math.min(bytes.length, 1024)];
+        }
+        while (len > 0) {
+            int count = Math.min(len, scratch.length);
+            str.getChars(off, off + count, scratch, 0);
+            write(scratch, 0, count);
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Encodes one character, which may be half of a surrogate pair.
+     */
+    private void encode(char c) throws IOException {
+        if (bytes.length - position < MIN_BUFFER_SIZE) {
+            writeBuffer();
+        }
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            bytes[position++] = REPLACEMENT;
+            if (bytes.length - position < MIN_BUFFER_SIZE) {
+                writeBuffer();
+            }
+        }
+        if (c < 0x80) {
+            bytes[position++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[position++] = (byte) (0xC0 | (c >> 6));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            bytes[position++] = REPLACEMENT;
+        } else {
+            bytes[position++] = (byte) (0xE0 | (c >> 12));
+            bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /** Writes the contents of the buffer to the destination. */
+    private void writeBuffer() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        try {
+            if (out != null) {
+                out.write(bytes, 0, position);
+            } else {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, 0, position);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+        } finally {
+            position = 0;
+        }
+    }
+
+    /**
+     * Writes everything buffered to the destination and flushes it, if it
+     * is an {@link OutputStream}.
+     * A high surrogate at the end of the output so far is kept until the
+     * next character.
+     *
+     * @throws IOException If the destination throws it
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        writeBuffer();
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (pendingHighSurrogate != 0) {
+                pendingHighSurrogate = 0;
+                if (position == bytes.length) {
+                    writeBuffer();
+                }
+                bytes[position++] = REPLACEMENT;
+            }
+            writeBuffer();
+        } finally {
+            closed = true;
+            if (out != null) {
+                out.close();
+            } else {
+                channel.close();
+            }
+        }
+    }
+}
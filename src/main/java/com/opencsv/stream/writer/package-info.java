@@ -0,0 +1,4 @@
+/**
+ * Collection of classes for customizing writing output.
+ */
+package com.opencsv.stream.writer;
@@ -2,6 +2,7 @@ module com.opencsv {
     requires java.desktop; // for java.beans.*
     requires java.sql;
     requires java.sql.rowset;
+    requires static java.compiler; // for the annotation processor
 
     requires org.apache.commons.collections4;
     requires org.apache.commons.lang3;
@@ -11,6 +12,7 @@ module com.opencsv {
 
     exports com.opencsv.bean;
     exports com.opencsv.bean.function;
+    exports com.opencsv.bean.apt;
     exports com.opencsv.bean.comparator;
     exports com.opencsv.bean.concurrent;
     exports com.opencsv.bean.customconverter;
@@ -18,5 +20,6 @@ module com.opencsv {
     exports com.opencsv.enums;
     exports com.opencsv.exceptions;
     exports com.opencsv.stream.reader;
+    exports com.opencsv.stream.writer;
     exports com.opencsv;
 }
\ No newline at end of file
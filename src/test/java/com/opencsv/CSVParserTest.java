@@ -8,6 +8,7 @@ import org.junit.jupiter.api.*;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.Locale;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -862,6 +863,47 @@ public class CSVParserTest {
         assertEquals("\"This\",\" is\",\" a\",\" test.\"", csvParser.parseToLine(items, true));
     }
 
+    @Test
+    public void parseToLineToAppendableMatchesParseToLine() throws IOException {
+        Random random = new Random(42);
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            ICSVParser parser = new CSVParserBuilder()
+                    .withEscapeChar('\\')
+                    .withFieldAsNull(indicator)
+                    .build();
+            for (int i = 0; i < 500; i++) {
+                String[] values = randomValues(random);
+                boolean applyQuotesToAll = random.nextBoolean();
+                StringBuilder sb = new StringBuilder();
+                parser.parseToLine(values, applyQuotesToAll, sb);
+                assertEquals(parser.parseToLine(values, applyQuotesToAll), sb.toString());
+            }
+        }
+    }
+
+    @Test
+    public void parseToLineEscapesQuotesAndEscapes() throws IOException {
+        ICSVParser parser = new CSVParserBuilder().withEscapeChar('\\').build();
+        String[] items = {"a\"b", "c\\d", "e,f"};
+        StringBuilder sb = new StringBuilder();
+        parser.parseToLine(items, false, sb);
+        assertEquals("a\"\"b,c\\\\d,\"e,f\"", sb.toString());
+        assertEquals(sb.toString(), parser.parseToLine(items, false));
+    }
+
+    private static String[] randomValues(Random random) {
+        char[] alphabet = {'a', ' ', '\u00e4', '\u20ac', '\n', '\r', ',', '"', '\'', '\\'};
+        String[] values = new String[random.nextInt(4)];
+        for (int v = 0; v < values.length; v++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = random.nextInt(6); i > 0; i--) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            values[v] = random.nextInt(8) == 0 ? null : sb.toString();
+        }
+        return values;
+    }
+
     @Test
     public void parseToLineUsesCorrectSeparator() {
         CSVParserBuilder builder = new CSVParserBuilder();
@@ -15,6 +15,7 @@ package com.opencsv;
  limitations under the License.
  */
 
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
@@ -22,7 +23,14 @@ import org.mockito.stubbing.Answer;
 import java.io.*;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Matchers.anyInt;
@@ -83,6 +91,410 @@ public class CSVWriterTest {
       assertEquals(0, sw.toString().length());
    }
 
+   @Test
+   public void consecutiveLinesDoNotShareContent() {
+      StringWriter sw = new StringWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw).build();
+      String longField = StringUtils.repeat('x', 100 * ICSVWriter.INITIAL_STRING_SIZE);
+      csvw.writeNext(new String[]{"a", "b"});
+      csvw.writeNext(new String[]{longField});
+      csvw.writeNext(new String[]{"c"});
+      assertEquals("\"a\",\"b\"\n\"" + longField + "\"\n\"c\"\n", sw.toString());
+   }
+
+   @Test
+   public void writeAllWritesLinesInBlocks() {
+      final int[] writes = {0};
+      StringWriter sw = new StringWriter() {
+         @Override
+         public void write(char[] cbuf, int off, int len) {
+            writes[0]++;
+            super.write(cbuf, off, len);
+         }
+      };
+      ICSVWriter csvw = new CSVWriterBuilder(sw).build();
+      List<String[]> lines = Collections.nCopies(10000, new String[]{"a", "b"});
+      csvw.writeAll(lines);
+      assertEquals(StringUtils.repeat("\"a\",\"b\"\n", lines.size()), sw.toString());
+      assertTrue(writes[0] < lines.size() / 100);
+
+      // Outside of writeAll(), every line is written at once
+      csvw.writeNext(new String[]{"c"});
+      assertTrue(sw.toString().endsWith("\"b\"\n\"c\"\n"));
+   }
+
+   @Test
+   public void writeAllWithSubclassWritingItself() {
+      StringWriter sw = new StringWriter();
+      ICSVWriter csvw = new CSVWriter(sw) {
+         @Override
+         protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+            appendable.append(String.join("|", nextLine)).append(getLineEnd());
+            getWriter().write(appendable.toString());
+         }
+      };
+      csvw.writeAll(Arrays.asList(new String[]{"a", "b"}, new String[]{"c", "d"}));
+      csvw.writeNext(new String[]{"e"});
+      assertEquals("a|b\nc|d\ne\n", sw.toString());
+   }
+
+   @Test
+   public void concurrentWriteAllMatchesSequential() {
+      Random random = new Random(42);
+      char[] alphabet = {'a', 'b', ' ', '\u00e4', '\n', '\r', ',', ';', '"', '\'', '\\'};
+      List<String[]> lines = new ArrayList<>();
+      for (int line = 0; line < 5000; line++) {
+         String[] fields = new String[random.nextInt(4)];
+         for (int f = 0; f < fields.length; f++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = random.nextInt(8); i > 0; i--) {
+               sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            fields[f] = random.nextInt(10) == 0 ? null : sb.toString();
+         }
+         lines.add(fields);
+      }
+      for (ICSVParser parser : Arrays.asList(null, new CSVParser(), new RFC4180Parser())) {
+         for (boolean applyQuotesToAll : new boolean[]{true, false}) {
+            StringWriter sequential = new StringWriter();
+            StringWriter concurrent = new StringWriter();
+            CSVWriterBuilder sequentialBuilder = new CSVWriterBuilder(sequential);
+            CSVWriterBuilder concurrentBuilder = new CSVWriterBuilder(concurrent).withConcurrency(4);
+            if (parser != null) {
+               sequentialBuilder.withParser(parser);
+               concurrentBuilder.withParser(parser);
+            }
+            sequentialBuilder.build().writeAll(lines, applyQuotesToAll);
+            concurrentBuilder.build().writeAll(lines, applyQuotesToAll);
+            assertEquals(sequential.toString(), concurrent.toString());
+         }
+      }
+   }
+
+   @Test
+   public void writeNextFromSeveralThreads() throws InterruptedException {
+      StringWriter sw = new StringWriter();
+      CSVWriter writer = new CSVWriter(sw);
+      List<String> expected = Collections.synchronizedList(new ArrayList<>());
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+         final String name = "thread" + t;
+         threads.add(new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+               if (i % 2 == 0) {
+                  writer.writeNext(new String[]{name, Integer.toString(i)});
+               } else {
+                  writer.beginRow().writeString(name).writeInt(i).endRow();
+               }
+               expected.add("\"" + name + "\",\"" + i + "\"");
+            }
+         }));
+      }
+      threads.forEach(Thread::start);
+      for (Thread thread : threads) {
+         thread.join();
+      }
+
+      List<String> written = new ArrayList<>(Arrays.asList(sw.toString().split("\n")));
+      Collections.sort(written);
+      Collections.sort(expected);
+      assertEquals(expected, written);
+   }
+
+   @Test
+   public void concurrentWriteAllWritesBeforeAllLinesAreRead() {
+      StringWriter sw = new StringWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw).withConcurrency(2).build();
+      int total = 100 * ConcurrentLineWriter.BATCH_SIZE;
+      Iterable<String[]> lines = () -> new Iterator<String[]>() {
+         private int read = 0;
+
+         @Override
+         public boolean hasNext() {
+            return read < total;
+         }
+
+         @Override
+         public String[] next() {
+            if (read == total / 2) {
+               // No more than a few batches may be in flight
+               assertTrue(sw.getBuffer().length() > 0);
+            }
+            return new String[]{Integer.toString(read++)};
+         }
+      };
+      csvw.writeAll(lines, false);
+      assertTrue(sw.toString().startsWith("0\n1\n2\n"));
+      assertTrue(sw.toString().endsWith((total - 1) + "\n"));
+   }
+
+   @Test
+   public void concurrentWriteAllCopiesReusedRows() {
+      StringWriter sw = new StringWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw).withConcurrency(2).build();
+      int total = 3 * ConcurrentLineWriter.BATCH_SIZE;
+      String[] row = new String[1];
+      Iterable<String[]> lines = () -> new Iterator<String[]>() {
+         private int read = 0;
+
+         @Override
+         public boolean hasNext() {
+            return read < total;
+         }
+
+         @Override
+         public String[] next() {
+            row[0] = Integer.toString(read++);
+            return row;
+         }
+      };
+      csvw.writeAll(lines, false);
+      String[] written = sw.toString().split("\n");
+      assertEquals(total, written.length);
+      for (int i = 0; i < total; i++) {
+         assertEquals(Integer.toString(i), written[i]);
+      }
+   }
+
+   @Test
+   public void concurrentWriteAllUsesGivenExecutor() {
+      ExecutorService pool = Executors.newFixedThreadPool(2);
+      try {
+         AtomicInteger batches = new AtomicInteger();
+         Executor executor = task -> {
+            batches.incrementAndGet();
+            pool.execute(task);
+         };
+         StringWriter sw = new StringWriter();
+         ICSVWriter csvw = new CSVWriterBuilder(sw)
+               .withConcurrency(2)
+               .withFormattingExecutor(executor)
+               .build();
+         List<String[]> lines = new ArrayList<>();
+         for (int i = 0; i < 3 * ConcurrentLineWriter.BATCH_SIZE; i++) {
+            lines.add(new String[]{Integer.toString(i)});
+         }
+         csvw.writeAll(lines, false);
+         csvw.writeAll(lines, false);
+         assertEquals(6, batches.get());
+         assertEquals(6 * ConcurrentLineWriter.BATCH_SIZE, sw.toString().split("\n").length);
+         assertFalse(pool.isShutdown());
+      } finally {
+         pool.shutdownNow();
+      }
+   }
+
+   @Test
+   public void concurrentWriteAllStopsAfterWriterFails() {
+      Writer failing = new Writer() {
+         @Override
+         public void write(char[] cbuf, int off, int len) throws IOException {
+            throw new IOException("full");
+         }
+
+         @Override
+         public void flush() {
+         }
+
+         @Override
+         public void close() {
+         }
+      };
+      ICSVWriter csvw = new CSVWriterBuilder(failing).withConcurrency(2).build();
+      int total = 100 * ConcurrentLineWriter.BATCH_SIZE;
+      int[] read = new int[1];
+      Iterable<String[]> lines = () -> new Iterator<String[]>() {
+         @Override
+         public boolean hasNext() {
+            return read[0] < total;
+         }
+
+         @Override
+         public String[] next() {
+            return new String[]{Integer.toString(read[0]++)};
+         }
+      };
+      csvw.writeAll(lines, false);
+      assertEquals("full", csvw.getException().getMessage());
+      assertTrue(read[0] < total);
+   }
+
+   @Test
+   public void concurrentWriteAllWithSubclassWritingItself() {
+      StringWriter sw = new StringWriter();
+      CSVWriter csvw = new CSVWriter(sw) {
+         @Override
+         protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+            appendable.append(String.join("|", nextLine)).append(getLineEnd());
+            getWriter().write(appendable.toString());
+         }
+      };
+      csvw.setConcurrency(4);
+      List<String[]> lines = Collections.nCopies(5000, new String[]{"a", "b"});
+      csvw.writeAll(lines);
+      assertEquals(StringUtils.repeat("a|b\n", lines.size()), sw.toString());
+   }
+
+   @Test
+   public void escapingMatchesOverridableMethods() {
+      Random random = new Random(42);
+      char[] alphabet = {'a', 'b', ' ', '\u00e4', '\u20ac', '\n', '\r', '\0', ',', ';', '"', '\'', '\\', '\u00a7'};
+      char[][] configurations = {
+            {',', '"', '"'}, {',', '"', '\\'}, {';', ICSVWriter.NO_QUOTE_CHARACTER, '\\'},
+            {'\t', '\'', ICSVWriter.NO_ESCAPE_CHARACTER}, {'\u20ac', '\u00a7', '\\'},
+            {',', ICSVWriter.NO_QUOTE_CHARACTER, ICSVWriter.NO_ESCAPE_CHARACTER}};
+      for (char[] c : configurations) {
+         StringWriter fast = new StringWriter();
+         StringWriter overridden = new StringWriter();
+         ICSVWriter fastWriter = new CSVWriter(fast, c[0], c[1], c[2], "\n");
+         ICSVWriter overriddenWriter = new CSVWriter(overridden, c[0], c[1], c[2], "\n") {
+            @Override
+            protected void processCharacter(Appendable appendable, char nextChar) throws IOException {
+               super.processCharacter(appendable, nextChar);
+            }
+         };
+         for (int line = 0; line < 200; line++) {
+            String[] fields = new String[random.nextInt(4)];
+            for (int f = 0; f < fields.length; f++) {
+               StringBuilder sb = new StringBuilder();
+               for (int i = random.nextInt(8); i > 0; i--) {
+                  sb.append(alphabet[random.nextInt(alphabet.length)]);
+               }
+               fields[f] = random.nextInt(10) == 0 ? null : sb.toString();
+            }
+            boolean applyQuotesToAll = random.nextBoolean();
+            fastWriter.writeNext(fields, applyQuotesToAll);
+            overriddenWriter.writeNext(fields, applyQuotesToAll);
+         }
+         assertEquals(overridden.toString(), fast.toString());
+      }
+   }
+
+   @Test
+   public void rowWriterMatchesWriteNext() {
+      Random random = new Random(42);
+      char[][] configurations = {
+            {',', '"', '"'}, {'.', '"', '\\'}, {'-', ICSVWriter.NO_QUOTE_CHARACTER, '\\'},
+            {':', '\'', ICSVWriter.NO_ESCAPE_CHARACTER}, {'1', '2', '3'},
+            {',', ICSVWriter.NO_QUOTE_CHARACTER, ICSVWriter.NO_ESCAPE_CHARACTER}};
+      for (char[] c : configurations) {
+         StringWriter typed = new StringWriter();
+         StringWriter overridden = new StringWriter();
+         StringWriter strings = new StringWriter();
+         ICSVWriter typedWriter = new CSVWriter(typed, c[0], c[1], c[2], "\n");
+         ICSVWriter overriddenWriter = new CSVWriter(overridden, c[0], c[1], c[2], "\n") {
+            @Override
+            protected void processCharacter(Appendable appendable, char nextChar) throws IOException {
+               super.processCharacter(appendable, nextChar);
+            }
+         };
+         ICSVWriter stringWriter = new CSVWriter(strings, c[0], c[1], c[2], "\n");
+         for (int line = 0; line < 200; line++) {
+            boolean applyQuotesToAll = random.nextBoolean();
+            RowWriter typedRow = typedWriter.beginRow(applyQuotesToAll);
+            RowWriter overriddenRow = overriddenWriter.beginRow(applyQuotesToAll);
+            String[] fields = new String[random.nextInt(5)];
+            for (int f = 0; f < fields.length; f++) {
+               switch (random.nextInt(6)) {
+                  case 0:
+                     long l = random.nextInt(3) == 0 ? random.nextLong() : random.nextInt(2000) - 1000;
+                     fields[f] = Long.toString(l);
+                     typedRow.writeLong(l);
+                     overriddenRow.writeLong(l);
+                     break;
+                  case 1:
+                     double d = random.nextInt(2000) / 8.0 - 125;
+                     fields[f] = Double.toString(d);
+                     typedRow.writeDouble(d);
+                     overriddenRow.writeDouble(d);
+                     break;
+                  case 2:
+                     LocalDateTime dateTime = LocalDateTime.of(2000 + random.nextInt(30), 1 + random.nextInt(12),
+                           1 + random.nextInt(28), random.nextInt(24), random.nextInt(60),
+                           random.nextInt(3), random.nextInt(3) * 1_000_000);
+                     fields[f] = dateTime.toString();
+                     typedRow.writeDateTime(dateTime);
+                     overriddenRow.writeDateTime(dateTime);
+                     break;
+                  case 3:
+                     LocalDate date = random.nextBoolean() ? null : LocalDate.ofEpochDay(random.nextInt(30000));
+                     fields[f] = date == null ? null : date.toString();
+                     typedRow.writeDate(date);
+                     overriddenRow.writeDate(date);
+                     break;
+                  case 4:
+                     boolean b = random.nextBoolean();
+                     fields[f] = Boolean.toString(b);
+                     typedRow.writeBoolean(b);
+                     overriddenRow.writeBoolean(b);
+                     break;
+                  default:
+                     String s = random.nextBoolean() ? null : "a\"b" + c[0];
+                     fields[f] = s;
+                     typedRow.writeString(s);
+                     overriddenRow.writeString(s);
+               }
+            }
+            typedRow.endRow();
+            overriddenRow.endRow();
+            stringWriter.writeNext(fields, applyQuotesToAll);
+         }
+         assertEquals(strings.toString(), typed.toString());
+         assertEquals(strings.toString(), overridden.toString());
+      }
+   }
+
+   @Test
+   public void rowWriterWritesEachRowWhenEnded() {
+      StringWriter sw = new StringWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw).build();
+      csvw.beginRow().writeInt(1).writeString("one");
+      assertEquals("", sw.toString());
+      csvw.beginRow(false).writeInt(-2).writeTime(LocalTime.of(12, 0)).writeTime(null).endRow();
+      csvw.beginRow().endRow();
+      assertEquals("-2,12:00,\n\n", sw.toString());
+   }
+
+   @Test
+   public void rowWriterOfParserWriterMatchesWriteNext() {
+      StringWriter typed = new StringWriter();
+      StringWriter strings = new StringWriter();
+      new CSVWriterBuilder(typed).withParser(new RFC4180Parser()).build()
+            .beginRow().writeLong(Long.MIN_VALUE).writeDouble(0.5).writeDate(LocalDate.of(2026, 1, 2))
+            .writeString("a,b").endRow();
+      new CSVWriterBuilder(strings).withParser(new RFC4180Parser()).build()
+            .writeNext(new String[]{"-9223372036854775808", "0.5", "2026-01-02", "a,b"});
+      assertEquals(strings.toString(), typed.toString());
+   }
+
+   @Test
+   public void rowWriterFormatsDoublesShortestInPlainRange() {
+      assertEquals("0.1", formatDouble(0.1));
+      assertEquals("1.0", formatDouble(1));
+      assertEquals("-12.5", formatDouble(-12.5));
+      assertEquals("0.001", formatDouble(0.001));
+      assertEquals("9999999.999", formatDouble(9999999.999));
+      assertEquals("0.30000000000000004", formatDouble(0.1 + 0.2));
+      assertEquals("-0.0", formatDouble(-0.0));
+      assertEquals("1.0E7", formatDouble(1e7));
+      assertEquals("NaN", formatDouble(Double.NaN));
+      assertEquals("-Infinity", formatDouble(Double.NEGATIVE_INFINITY));
+
+      Random random = new Random(42);
+      for (int i = 0; i < 10000; i++) {
+         double d = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 4);
+         String formatted = formatDouble(d);
+         assertEquals(d, Double.parseDouble(formatted), 0.0, formatted);
+         assertTrue(formatted.length() <= Double.toString(d).length(), formatted);
+      }
+   }
+
+   private static String formatDouble(double d) {
+      StringWriter sw = new StringWriter();
+      new CSVWriterBuilder(sw).withLineEnd("").build().beginRow(false).writeDouble(d).endRow();
+      return sw.toString();
+   }
+
    /**
     * Tests parsing individual lines.
     */
@@ -515,6 +927,23 @@ public class CSVWriterTest {
       assertEquals(2, linesWritten);
    }
 
+   @Test
+   public void concurrentResultSetWithHeaders() throws SQLException, IOException {
+      String[] header = {"Foo", "Bar", "baz"};
+      String[] value = {"v1", "v,2", "v3"};
+
+      StringWriter sw = new StringWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw).withConcurrency(3).build();
+      csvw.setResultService(new ResultSetHelperService());
+
+      ResultSet rs = MockResultSetBuilder.buildResultSet(header, value, 2000);
+
+      int linesWritten = csvw.writeAll(rs, true, false, false);
+      assertFalse(csvw.checkError());
+      assertEquals("Foo,Bar,baz\n" + StringUtils.repeat("v1,\"v,2\",v3\n", 2000), sw.toString());
+      assertEquals(2001, linesWritten);
+   }
+
    @Test
    public void testMultiLineResultSetWithHeaders() throws SQLException, IOException {
       String[] header = {"Foo", "Bar", "baz"};
@@ -700,7 +1129,7 @@ public class CSVWriterTest {
    @Test
    public void testIOException() throws IOException {
       Writer writer = mock(Writer.class);
-      doThrow(IOException.class).when(writer).write(anyString());
+      doThrow(IOException.class).when(writer).write(any(char[].class), anyInt(), anyInt());
 
       // Using writeNext()
       ICSVWriter csvWriter = new CSVWriter(writer);
@@ -724,7 +1153,7 @@ public class CSVWriterTest {
    @Test
    public void checkErrorReturnsTrueWhenPassedInPrintWriter() throws IOException {
       Writer writer = mock(Writer.class);
-      doThrow(IOException.class).when(writer).write(anyString(), anyInt(), anyInt());
+      doThrow(IOException.class).when(writer).write(any(char[].class), anyInt(), anyInt());
 
       PrintWriter printWriter = new PrintWriter(writer);
 
@@ -744,13 +1173,13 @@ public class CSVWriterTest {
 
       String exceptionMessage = "Exception on writing csv";
       IOException ioException = new IOException(exceptionMessage);
-      doThrow(ioException).when(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
+      doThrow(ioException).when(csvWriter).writeNext(any(String[].class), anyBoolean(), any(Appendable.class));
 
       csvWriter.writeNext(SIMPLE_STRING_ARRAY);
 
       csvWriter.close();
 
-      verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
+      verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(Appendable.class));
 
       IOException storedException = csvWriter.getException();
       assertEquals(ioException, storedException, "Expected Exception is not returned by getException");
@@ -764,13 +1193,13 @@ public class CSVWriterTest {
 
       String exceptionMessage = "Exception on writing csv";
       IOException ioException = new IOException(exceptionMessage);
-      doThrow(ioException).when(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
+      doThrow(ioException).when(csvWriter).writeNext(any(String[].class), anyBoolean(), any(Appendable.class));
 
       csvWriter.writeNext(SIMPLE_STRING_ARRAY);
 
       csvWriter.close();
 
-      verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
+      verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(Appendable.class));
 
       IOException storedException = csvWriter.getException();
       assertEquals(ioException, storedException, "Expected Exception is not returned by getException");
@@ -779,12 +1208,12 @@ public class CSVWriterTest {
    @Test
    public void resetException() throws IOException {
       Writer writer = mock(Writer.class);
-      doThrow(IOException.class).when(writer).write(anyString(), anyInt(), anyInt());
+      doThrow(IOException.class).when(writer).write(any(char[].class), anyInt(), anyInt());
       AbstractCSVWriter csvWriter = spy(new CSVWriter(writer));
 
       String exceptionMessage = "Exception on writing csv";
       IOException ioException = new IOException(exceptionMessage);
-      doThrow(ioException).when(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
+      doThrow(ioException).when(csvWriter).writeNext(any(String[].class), anyBoolean(), any(Appendable.class));
 
       csvWriter.writeNext(SIMPLE_STRING_ARRAY);
 
@@ -797,18 +1226,18 @@ public class CSVWriterTest {
 
       csvWriter.close();
 
-      verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
+      verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(Appendable.class));
    }
 
    @Test
    public void resetError() throws IOException {
       Writer writer = mock(Writer.class);
-      doThrow(IOException.class).when(writer).write(anyString(), anyInt(), anyInt());
+      doThrow(IOException.class).when(writer).write(any(char[].class), anyInt(), anyInt());
       AbstractCSVWriter csvWriter = spy(new CSVWriter(writer));
 
       String exceptionMessage = "Exception on writing csv";
       IOException ioException = new IOException(exceptionMessage);
-      doThrow(ioException).when(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
+      doThrow(ioException).when(csvWriter).writeNext(any(String[].class), anyBoolean(), any(Appendable.class));
 
       csvWriter.writeNext(SIMPLE_STRING_ARRAY);
 
@@ -820,6 +1249,6 @@ public class CSVWriterTest {
 
       csvWriter.close();
 
-      verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
+      verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(Appendable.class));
    }
 }
@@ -1,11 +1,14 @@
 package com.opencsv;
 
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.io.IOException;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -33,4 +36,32 @@ public class RFC4180ParserTest {
 
         assertEquals(parse1, stringBuilder.toString());
     }
+
+    @Test
+    public void parseToLineToAppendableMatchesParseToLine() throws IOException {
+        Random random = new Random(42);
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            RFC4180Parser parser = new RFC4180ParserBuilder().withFieldAsNull(indicator).build();
+            for (int i = 0; i < 500; i++) {
+                String[] values = randomValues(random);
+                boolean applyQuotesToAll = random.nextBoolean();
+                StringBuilder sb = new StringBuilder();
+                parser.parseToLine(values, applyQuotesToAll, sb);
+                assertEquals(parser.parseToLine(values, applyQuotesToAll), sb.toString());
+            }
+        }
+    }
+
+    private static String[] randomValues(Random random) {
+        char[] alphabet = {'a', ' ', '\u00e4', '\u20ac', '\n', '\r', ',', '"', '\'', '\\'};
+        String[] values = new String[random.nextInt(4)];
+        for (int v = 0; v < values.length; v++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = random.nextInt(6); i > 0; i--) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            values[v] = random.nextInt(8) == 0 ? null : sb.toString();
+        }
+        return values;
+    }
 }
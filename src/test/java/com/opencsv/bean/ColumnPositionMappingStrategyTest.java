@@ -173,6 +173,26 @@ public class ColumnPositionMappingStrategyTest {
       assertArrayEquals(new String[0], strat.getColumnMapping());
    }
    
+   @Test
+   public void testLinesOfDifferentLengths() throws Exception {
+      strat.setColumnMapping("name", "orderNumber", "id", "num");
+
+      MockBean bean = strat.populateNewBean(new String[]{"kyle"});
+      assertEquals("kyle", bean.getName());
+      assertNull(bean.getOrderNumber());
+
+      bean = strat.populateNewBean(new String[]{"jimmy", "abcnum", "cust09878", "2", "ignored"});
+      assertEquals("jimmy", bean.getName());
+      assertEquals("abcnum", bean.getOrderNumber());
+      assertEquals("cust09878", bean.getId());
+      assertEquals(2, bean.getNum());
+
+      bean = strat.populateNewBean(new String[]{"sue", "defnum"});
+      assertEquals("sue", bean.getName());
+      assertEquals("defnum", bean.getOrderNumber());
+      assertNull(bean.getId());
+   }
+
    @Test
    public void throwsIllegalStateExceptionIfTypeNotSet() {
       String englishErrorMessage = null;
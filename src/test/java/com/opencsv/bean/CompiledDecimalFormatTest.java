@@ -0,0 +1,197 @@
+package com.opencsv.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledDecimalFormatTest {
+
+    private static final String[][] PATTERNS = {
+            {"en-US", "#,##0.00"}, {"en-US", "0.###"}, {"en-US", "#,##0"},
+            {"en-US", "00000"}, {"en-US", "#0.0#%"}, {"en-US", "0‰"},
+            {"en-US", "#,##0.00;(#,##0.00)"}, {"en-US", "0.00E0"},
+            {"de-DE", "#,##0.00"}, {"de-DE", "0.0"}, {"fr-FR", "#,##0.00"},
+            {"de-CH", "#,##0.00"}, {"en-IN", "#,##,##0.00"}
+    };
+
+    private static final String[] INPUTS = {
+            "0", "-0", "0.00", "-0.00", "7", "1,234.50", "1.234,50", "1234.5",
+            "-1,234,567.891", "12%", "12.5%", "-0.5%", "0.05", "007", "100",
+            "10.0", "999999999999999999", "1234567890123456789", "1,2,3.4",
+            "1.", ".5", "1,", "12abc", "-", "", "1E3", "+5", "1 234,50",
+            "1 234,50", "1'234.50", "3000000000", "1.5‰", "(5.00)",
+            "1,234.567,8", "0.000000000000000000001"
+    };
+
+    private static DecimalFormat decimalFormat(String locale, String pattern, RoundingMode roundingMode) {
+        DecimalFormat df = (DecimalFormat) NumberFormat.getInstance(Locale.forLanguageTag(locale));
+        df.applyPattern(pattern);
+        df.setRoundingMode(roundingMode);
+        return df;
+    }
+
+    private static Object parseOrException(DecimalFormat df, String s) {
+        try {
+            return df.parse(s);
+        } catch (ParseException | ArithmeticException e) {
+            return e.getClass();
+        }
+    }
+
+    private static Object parseOrException(CompiledDecimalFormat cdf, String s) {
+        try {
+            return cdf.parse(s);
+        } catch (ParseException | ArithmeticException e) {
+            return e.getClass();
+        }
+    }
+
+    private static Object formatOrException(DecimalFormat df, Object o) {
+        try {
+            return df.format(o);
+        } catch (ArithmeticException e) {
+            return e.getClass();
+        }
+    }
+
+    private static Object formatOrException(CompiledDecimalFormat cdf, Object o) {
+        try {
+            return cdf.format(o);
+        } catch (ArithmeticException e) {
+            return e.getClass();
+        }
+    }
+
+    private static void assertSameNumber(Object expected, Object actual, String message) {
+        assertEquals(expected, actual, message);
+        if (expected != null) {
+            assertEquals(expected.getClass(), actual.getClass(), message);
+        }
+        if (expected instanceof BigDecimal) {
+            assertEquals(((BigDecimal) expected).scale(), ((BigDecimal) actual).scale(), message);
+        }
+    }
+
+    @Test
+    public void testParsingMatchesDecimalFormat() {
+        for (String[] p : PATTERNS) {
+            for (boolean parseBigDecimal : new boolean[]{false, true}) {
+                DecimalFormat df = decimalFormat(p[0], p[1], RoundingMode.HALF_EVEN);
+                df.setParseBigDecimal(parseBigDecimal);
+                CompiledDecimalFormat cdf = new CompiledDecimalFormat(df);
+                for (String input : INPUTS) {
+                    String message = p[0] + " " + p[1] + " " + parseBigDecimal + " \"" + input + "\"";
+                    assertSameNumber(parseOrException(df, input), parseOrException(cdf, input), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParsingRandomInputMatchesDecimalFormat() {
+        Random r = new Random(20261019L);
+        for (String[] p : PATTERNS) {
+            DecimalFormat df = decimalFormat(p[0], p[1], RoundingMode.HALF_EVEN);
+            DecimalFormat bdf = (DecimalFormat) df.clone();
+            bdf.setParseBigDecimal(true);
+            CompiledDecimalFormat cdf = new CompiledDecimalFormat(df);
+            CompiledDecimalFormat cbdf = new CompiledDecimalFormat(bdf);
+            for (int i = 0; i < 2000; i++) {
+                BigDecimal value = BigDecimal.valueOf(r.nextLong() % 100000000000L, r.nextInt(8));
+                String input = df.format(value);
+                assertSameNumber(parseOrException(df, input), parseOrException(cdf, input), p[1] + " " + input);
+                assertSameNumber(parseOrException(bdf, input), parseOrException(cbdf, input), p[1] + " " + input);
+            }
+        }
+    }
+
+    @Test
+    public void testParsingManySignificantDigitsMatchesDecimalFormat() {
+        DecimalFormat df = decimalFormat("en-US", "#,##0.00######", RoundingMode.HALF_EVEN);
+        CompiledDecimalFormat cdf = new CompiledDecimalFormat(df);
+        for (String input : new String[]{"800811620119070.01", "2963478787.6299093",
+                "9007199254740993.5", "12345678901234567.8", "0.123456789012345678"}) {
+            assertSameNumber(parseOrException(df, input), parseOrException(cdf, input), input);
+        }
+
+        Random r = new Random(20261019L);
+        for (int i = 0; i < 20000; i++) {
+            int digits = 16 + r.nextInt(3);
+            long unscaled = (long) (Math.pow(10, digits - 1) * (1 + 9 * r.nextDouble()));
+            String input = BigDecimal.valueOf(unscaled, 1 + r.nextInt(digits - 1)).toPlainString();
+            assertSameNumber(parseOrException(df, input), parseOrException(cdf, input), input);
+        }
+    }
+
+    @Test
+    public void testFormattingMatchesDecimalFormat() {
+        Random r = new Random(20261019L);
+        List<Object> values = new ArrayList<>(Arrays.asList(
+                0, -0.0, 0.0, -0.001, 0.001, 1, -1, 7L, (short) 12, (byte) -3,
+                1234.5, 1234.565, 0.125, 0.15, 1.005, -2.5, 1e14 + 0.25, 1e16,
+                Double.NaN, Double.POSITIVE_INFINITY, 1.5f, 0.1f,
+                Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE,
+                new BigDecimal("1234.5650"), new BigDecimal("-0.004"),
+                new BigDecimal("1E+3"), new BigDecimal("123456789012345678901234.5"),
+                BigInteger.valueOf(42), BigInteger.TEN.pow(30)));
+        for (int i = 0; i < 2000; i++) {
+            values.add(r.nextDouble() * Math.pow(10, r.nextInt(12)) * (r.nextBoolean() ? 1 : -1));
+            values.add(Math.round(r.nextGaussian() * 1e6) / 100.0);
+            values.add(r.nextLong() >> r.nextInt(64));
+            values.add(BigDecimal.valueOf(r.nextLong() % 10000000000L, r.nextInt(6)));
+        }
+        for (String[] p : PATTERNS) {
+            for (RoundingMode mode : RoundingMode.values()) {
+                DecimalFormat df = decimalFormat(p[0], p[1], mode);
+                CompiledDecimalFormat cdf = new CompiledDecimalFormat(df);
+                for (Object value : values) {
+                    assertEquals(formatOrException(df, value), formatOrException(cdf, value),
+                            p[0] + " " + p[1] + " " + mode + " " + value);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentUse() throws InterruptedException {
+        DecimalFormat df = decimalFormat("en-US", "#,##0.00", RoundingMode.HALF_EVEN);
+        CompiledDecimalFormat cdf = new CompiledDecimalFormat(df);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final long seed = t;
+            threads[t] = new Thread(() -> {
+                Random r = new Random(seed);
+                try {
+                    for (int i = 0; i < 5000; i++) {
+                        double d = Math.round(r.nextDouble() * 1e8) / 100.0;
+                        // Non-canonical input exercises the fallback
+                        String s = cdf.format(d) + (i % 2 == 0 ? "" : "x");
+                        assertEquals(d, cdf.parse(s).doubleValue());
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+
+    @Test
+    public void testToPattern() {
+        DecimalFormat df = decimalFormat("de-DE", "#,##0.00", RoundingMode.HALF_EVEN);
+        assertEquals(df.toPattern(), new CompiledDecimalFormat(df).toPattern());
+    }
+}
@@ -0,0 +1,113 @@
+package com.opencsv.bean;
+
+import com.opencsv.bean.mocks.TestEnum;
+import com.opencsv.bean.mocks.cache.CacheMock;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConversionCacheTest {
+
+    private static final String INPUT = "status,localDate,date,flag,text\n"
+            + "TEST1,2026-01-01,2026-01-01,ja,a\n"
+            + "test2,2026-01-02,2026-01-01,nein,b\n"
+            + "TEST1,2026-01-01,2026-01-01,ja,c\n"
+            + "TEST1,2026-01-01,2026-01-01,,d\n";
+
+    @Test
+    public void testClockEviction() {
+        ConversionCache cache = new ConversionCache(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a"));
+        cache.put("c", 3);
+
+        // "a" was referenced, so it survives; "b" was not.
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getCapacity());
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ConversionCache(0));
+    }
+
+    private static HeaderColumnNameMappingStrategy<CacheMock> strategy(int cacheSize) {
+        return new HeaderColumnNameMappingStrategyBuilder<CacheMock>()
+                .withType(CacheMock.class)
+                .withConversionCacheSize(cacheSize)
+                .build();
+    }
+
+    @Test
+    public void testCachedConversionsAreReused() {
+        HeaderColumnNameMappingStrategy<CacheMock> strategy = strategy(10);
+        List<CacheMock> beans = new CsvToBeanBuilder<CacheMock>(new StringReader(INPUT))
+                .withMappingStrategy(strategy)
+                .build().parse();
+        assertEquals(4, beans.size());
+        assertEquals(TestEnum.TEST1, beans.get(0).getStatus());
+        assertEquals(TestEnum.Test2, beans.get(1).getStatus());
+        assertSame(beans.get(0).getLocalDate(), beans.get(2).getLocalDate());
+        assertNotSame(beans.get(0).getDate(), beans.get(2).getDate());
+        assertEquals(beans.get(0).getDate(), beans.get(2).getDate());
+        assertEquals(Boolean.TRUE, beans.get(2).getFlag());
+        assertNull(beans.get(3).getFlag());
+
+        Map<Field, ConversionCache> caches = strategy.getConversionCaches();
+        Set<String> names = caches.keySet().stream().map(Field::getName).collect(Collectors.toSet());
+        assertEquals(3, names.size());
+        assertTrue(names.contains("status"));
+        assertTrue(names.contains("localDate"));
+        assertTrue(names.contains("flag"));
+        for (ConversionCache cache : caches.values()) {
+            assertEquals(cache.getHits() + cache.getMisses(), cache == cacheFor(caches, "flag") ? 3 : 4);
+        }
+        ConversionCache status = cacheFor(caches, "status");
+        assertEquals(2, status.getHits());
+        assertEquals(2, status.getMisses());
+        assertEquals(2, status.size());
+        assertEquals(0, status.getEvictions());
+    }
+
+    private static ConversionCache cacheFor(Map<Field, ConversionCache> caches, String name) {
+        return caches.entrySet().stream()
+                .filter(e -> e.getKey().getName().equals(name))
+                .findFirst().orElseThrow(AssertionError::new).getValue();
+    }
+
+    @Test
+    public void testCacheDisabledByDefault() {
+        HeaderColumnNameMappingStrategy<CacheMock> strategy = strategy(0);
+        assertTrue(strategy.getConversionCaches().isEmpty());
+        strategy.setConversionCacheSize(5);
+        assertEquals(3, strategy.getConversionCaches().size());
+        strategy.setConversionCacheSize(0);
+        assertTrue(strategy.getConversionCaches().isEmpty());
+    }
+
+    @Test
+    public void testFailedConversionsAreNotCached() {
+        HeaderColumnNameMappingStrategy<CacheMock> strategy = strategy(10);
+        List<CacheMock> beans = new CsvToBeanBuilder<CacheMock>(new StringReader(
+                "status,text\nbogus,a\nbogus,b\nTEST1,c\n"))
+                .withMappingStrategy(strategy)
+                .withThrowExceptions(false)
+                .build().parse();
+        assertEquals(1, beans.size());
+        assertEquals(1, cacheFor(strategy.getConversionCaches(), "status").size());
+    }
+}
@@ -0,0 +1,86 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConverterDateTest {
+
+    private static final String FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    private static ConverterDate converter(Class<?> type) {
+        return new ConverterDate(type, "en-US", "en-US", Locale.US,
+                FORMAT, FORMAT, null, null);
+    }
+
+    @Test
+    public void testConcurrentReadAndWrite() throws InterruptedException, ExecutionException {
+        final ConverterDate converter = converter(Date.class);
+        final int threads = 8, iterations = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        String input = String.format("%04d-%02d-%02d %02d:%02d:%02d",
+                                1950 + (i + offset) % 70, 1 + i % 12, 1 + (i + offset) % 28,
+                                i % 24, offset, i % 60);
+                        Object date = converter.convertToRead(input);
+                        assertEquals(input, converter.convertToWrite(date));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDerivedDateTypes() throws CsvDataTypeMismatchException {
+        Object date = converter(Date.class).convertToRead("2001-02-03 04:05:06");
+        assertEquals(Date.class, date.getClass());
+
+        Object timestamp = converter(Timestamp.class).convertToRead("2001-02-03 04:05:06");
+        assertEquals(Timestamp.class, timestamp.getClass());
+        assertEquals(((Date) date).getTime(), ((Timestamp) timestamp).getTime());
+    }
+
+    /** A date type without a constructor taking milliseconds. */
+    public static class DateWithoutMillisConstructor extends Date {
+        public DateWithoutMillisConstructor() {
+            super();
+        }
+    }
+
+    @Test
+    public void testDerivedDateTypeWithoutConstructor() {
+        ConverterDate converter = converter(DateWithoutMillisConstructor.class);
+        CsvDataTypeMismatchException first = assertThrows(CsvDataTypeMismatchException.class,
+                () -> converter.convertToRead("2001-02-03 04:05:06"));
+        CsvDataTypeMismatchException second = assertThrows(CsvDataTypeMismatchException.class,
+                () -> converter.convertToRead("2001-02-03 04:05:06"));
+        assertTrue(first.getCause() instanceof NoSuchMethodException);
+        assertNotSame(first.getCause(), second.getCause());
+    }
+
+    @Test
+    public void testXMLGregorianCalendarRepeatedly() throws CsvDataTypeMismatchException {
+        ConverterDate converter = converter(XMLGregorianCalendar.class);
+        for (int i = 1; i <= 3; i++) {
+            XMLGregorianCalendar c = (XMLGregorianCalendar) converter.convertToRead("2001-02-0" + i + " 04:05:06");
+            assertEquals(i, c.getDay());
+        }
+    }
+}
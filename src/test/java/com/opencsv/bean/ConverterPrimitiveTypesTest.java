@@ -0,0 +1,94 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConverterPrimitiveTypesTest {
+
+    public static Stream<Arguments> standardConversions() {
+        return Stream.of(
+                Arguments.of(Boolean.TYPE, "TRUE"),
+                Arguments.of(Boolean.class, "yes"),
+                Arguments.of(Boolean.class, "Off"),
+                Arguments.of(Boolean.TYPE, " true"),
+                Arguments.of(Boolean.TYPE, "maybe"),
+                Arguments.of(Byte.class, " 5 "),
+                Arguments.of(Byte.TYPE, "300"),
+                Arguments.of(Short.TYPE, "+7"),
+                Arguments.of(Integer.TYPE, " 42 "),
+                Arguments.of(Integer.class, "1.0"),
+                Arguments.of(Long.class, "-9000000000"),
+                Arguments.of(Float.TYPE, "1e40"),
+                Arguments.of(Double.class, " 1.5 "),
+                Arguments.of(Double.TYPE, "NaN"),
+                Arguments.of(Character.TYPE, " a"),
+                Arguments.of(Character.class, "ab"),
+                Arguments.of(BigDecimal.class, "1e3"),
+                Arguments.of(BigInteger.class, " 12 "),
+                Arguments.of(BigInteger.class, "1.2"),
+                Arguments.of(String.class, " x "),
+                Arguments.of(Integer.class, "   "),
+                Arguments.of(String.class, "")
+        );
+    }
+
+    private static Object readOrException(ConverterPrimitiveTypes converter, String value) {
+        try {
+            return converter.convertToRead(value);
+        } catch (CsvDataTypeMismatchException e) {
+            return CsvDataTypeMismatchException.class;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("standardConversions")
+    public void testNativeReadingMatchesBeanUtils(Class<?> type, String value) {
+        ConverterPrimitiveTypes nativeConverter = new ConverterPrimitiveTypes(type, null, null, Locale.ROOT);
+        ConverterPrimitiveTypes beanUtilsConverter = new ConverterPrimitiveTypes(type, null, null, Locale.ROOT, true);
+        assertNull(nativeConverter.readConverter);
+        assertNotNull(beanUtilsConverter.readConverter);
+        assertEquals(readOrException(beanUtilsConverter, value), readOrException(nativeConverter, value));
+    }
+
+    @Test
+    public void testNativeWritingMatchesBeanUtils() throws CsvDataTypeMismatchException {
+        Object[] values = {Boolean.TRUE, (byte) 1, (short) 2, 3, 4L, 1.5f, 1e20, 'c',
+                new BigDecimal("1E+3"), BigInteger.TEN, "string"};
+        for(Object value : values) {
+            ConverterPrimitiveTypes nativeConverter = new ConverterPrimitiveTypes(value.getClass(), null, null, Locale.ROOT);
+            ConverterPrimitiveTypes beanUtilsConverter = new ConverterPrimitiveTypes(value.getClass(), null, null, Locale.ROOT, true);
+            assertNull(nativeConverter.writeConverter);
+            assertEquals(beanUtilsConverter.convertToWrite(value), nativeConverter.convertToWrite(value));
+        }
+    }
+
+    @Test
+    public void testLocaleStillUsesBeanUtils() throws CsvDataTypeMismatchException {
+        ConverterPrimitiveTypes converter = new ConverterPrimitiveTypes(Double.class, "de-DE", "de-DE", Locale.ROOT);
+        assertNotNull(converter.readLocaleConverter);
+        assertEquals(3.5, converter.convertToRead("3,5"));
+        assertEquals("3,5", converter.convertToWrite(3.5));
+    }
+
+    @Test
+    public void testBeanUtilsConversionThroughBuilder() {
+        HeaderColumnNameMappingStrategy<com.opencsv.bean.mocks.MockBean> strategy =
+                new HeaderColumnNameMappingStrategyBuilder<com.opencsv.bean.mocks.MockBean>()
+                        .withBeanUtilsConversion(true)
+                        .withType(com.opencsv.bean.mocks.MockBean.class)
+                        .build();
+        BeanField<com.opencsv.bean.mocks.MockBean, String> field = strategy.fieldMap.get("NUM");
+        ConverterPrimitiveTypes converter = (ConverterPrimitiveTypes) ((AbstractBeanField<?, ?>) field).converter;
+        assertNotNull(converter.readConverter);
+    }
+}
@@ -2,22 +2,49 @@ package com.opencsv.bean;
 
 import com.opencsv.*;
 import com.opencsv.bean.mocks.*;
+import com.opencsv.bean.mocks.recurse.RecursionMockLevelOne;
+import com.opencsv.bean.mocks.recurse.RecursionMockLevelZero;
 import com.opencsv.bean.verifier.PositiveEvensOnly;
 import com.opencsv.bean.verifier.PositiveOddsOnly;
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import com.opencsv.exceptions.CsvConstraintViolationException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import com.opencsv.exceptions.CsvValidationException;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -567,4 +594,438 @@ public class CsvToBeanTest {
             assertEquals(expectedString, e.getMessage());
         }
     }
+
+    @Test
+    public void testForEachReusesBean() {
+        SingleNumber reused = new SingleNumber();
+        AtomicInteger supplied = new AtomicInteger();
+        List<Integer> numbers = new ArrayList<>();
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(GOOD_NUMBERS))
+                .withType(SingleNumber.class)
+                .withFilter(line -> !"3".equals(line[0]))
+                .build();
+        csvToBean.forEach(() -> {
+            supplied.incrementAndGet();
+            return reused;
+        }, bean -> {
+            assertSame(reused, bean);
+            numbers.add(bean.getNumber());
+        });
+        assertEquals(Arrays.asList(0, 1, 2, 4), numbers);
+        assertEquals(4, supplied.get());
+    }
+
+    @Test
+    public void testForEachVerifiersAndCapturedExceptions() {
+        List<Integer> numbers = new ArrayList<>();
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(BAD_NUMBERS))
+                .withType(SingleNumber.class)
+                .withVerifier(new PositiveEvensOnly())
+                .withThrowExceptions(false)
+                .build();
+        csvToBean.forEach(SingleNumber::new, bean -> numbers.add(bean.getNumber()));
+        assertEquals(Arrays.asList(0, 2, 4), numbers);
+        assertEquals(1, csvToBean.getCapturedExceptions().size());
+        CsvException e = csvToBean.getCapturedExceptions().get(0);
+        assertTrue(e instanceof CsvConstraintViolationException);
+        assertEquals(5, e.getLineNumber());
+    }
+
+    @Test
+    public void testForEachThrowsExceptions() {
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(BAD_NUMBERS))
+                .withType(SingleNumber.class)
+                .withVerifier(new PositiveEvensOnly())
+                .build();
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> csvToBean.forEach(SingleNumber::new, bean -> {}));
+        assertTrue(e.getCause() instanceof CsvConstraintViolationException);
+    }
+
+    @Test
+    public void testForEachWrapsRuntimeExceptions() {
+        IllegalStateException failure = new IllegalStateException();
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(GOOD_NUMBERS))
+                .withType(SingleNumber.class)
+                .withVerifier(bean -> {
+                    throw failure;
+                })
+                .build();
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> csvToBean.forEach(SingleNumber::new, bean -> {}));
+        assertSame(failure, e.getCause());
+    }
+
+    @Test
+    public void testPopulateExistingBeanWithRecursion() throws CsvException, IOException {
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(RecursionMockLevelZero.class);
+        strategy.captureHeader(new CSVReader(new StringReader(
+                "intLevelZero,stringLevelOne,charLevelTwo,floatLevelThree,booleanLevelThree,shortLevelThree\n")));
+
+        RecursionMockLevelZero bean = new RecursionMockLevelZero();
+        assertSame(bean, strategy.populateExistingBean(bean, new String[]{"1", "one", "a", "1.5", "true", "3"}));
+        assertEquals(1, bean.getIntLevelZero());
+        RecursionMockLevelOne levelOne = bean.getLevelOne();
+        assertNotNull(levelOne);
+        assertEquals("one", levelOne.getStringLevelOne());
+
+        // Subordinate beans are reused, and empty input leaves fields alone
+        strategy.populateExistingBean(bean, new String[]{"2", "uno", "", "1.5", "true", "3"});
+        assertEquals(2, bean.getIntLevelZero());
+        assertSame(levelOne, bean.getLevelOne());
+        assertEquals("uno", levelOne.getStringLevelOne());
+        assertEquals('a', levelOne.getLevelTwo().getCharLevelTwo());
+
+        // The same again, now that the field for every column is known
+        strategy.populateExistingBean(
+                bean, new String[]{"3", "eins", "b", "1.5", "true", "3"});
+        assertEquals(3, bean.getIntLevelZero());
+        assertSame(levelOne, bean.getLevelOne());
+        assertEquals('b', levelOne.getLevelTwo().getCharLevelTwo());
+    }
+
+    @Test
+    public void testPopulateExistingBeanWithOverriddenAssignment() throws CsvException, IOException {
+        AtomicInteger assignments = new AtomicInteger();
+        HeaderColumnNameMappingStrategy<SingleNumber> strategy = new HeaderColumnNameMappingStrategy<SingleNumber>() {
+            @Override
+            protected void setFieldValue(Map<Class<?>, Object> beanTree, String value, int column)
+                    throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
+                    CsvConstraintViolationException, CsvValidationException {
+                assignments.incrementAndGet();
+                super.setFieldValue(beanTree, value, column);
+            }
+        };
+        strategy.setType(SingleNumber.class);
+        strategy.captureHeader(new CSVReader(new StringReader("number\n")));
+
+        SingleNumber bean = new SingleNumber();
+        strategy.populateExistingBean(bean, new String[]{"7"});
+        assertEquals(7, bean.getNumber());
+        assertEquals(1, assignments.get());
+    }
+
+    @Test
+    public void testSingleThreadedStream() {
+        Thread caller = Thread.currentThread();
+        List<Thread> filterThreads = new ArrayList<>();
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(BAD_NUMBERS))
+                .withType(SingleNumber.class)
+                .withFilter(line -> filterThreads.add(Thread.currentThread()))
+                .withVerifier(new PositiveEvensOnly())
+                .withThrowExceptions(false)
+                .withConcurrency(1)
+                .build();
+        List<SingleNumber> beans = csvToBean.parse();
+        assertEquals(Arrays.asList(0, 2, 4),
+                beans.stream().map(SingleNumber::getNumber).collect(Collectors.toList()));
+        assertEquals(6, filterThreads.size());
+        assertTrue(filterThreads.stream().allMatch(t -> t == caller));
+        assertEquals(1, csvToBean.getCapturedExceptions().size());
+        CsvException e = csvToBean.getCapturedExceptions().get(0);
+        assertTrue(e instanceof CsvConstraintViolationException);
+        assertEquals(5, e.getLineNumber());
+        assertArrayEquals(new String[]{"-5"}, e.getLine());
+    }
+
+    @Test
+    public void testSingleThreadedStreamThrowsExceptions() {
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(BAD_NUMBERS))
+                .withType(SingleNumber.class)
+                .withVerifier(new PositiveEvensOnly())
+                .withConcurrency(1)
+                .build();
+        RuntimeException e = assertThrows(RuntimeException.class, csvToBean::parse);
+        assertTrue(e.getCause() instanceof CsvConstraintViolationException);
+    }
+
+    @Test
+    public void testExplicitConcurrency() {
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(GOOD_NUMBERS))
+                .withType(SingleNumber.class)
+                .withConcurrency(2)
+                .build();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4),
+                csvToBean.parse().stream().map(SingleNumber::getNumber).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testReadingErrorEndsOrderedParse() {
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(
+                new StringReader("number\n0\n1\n\"2\n3\n4\n"))
+                .withType(SingleNumber.class)
+                .withMultilineLimit(1)
+                .build();
+        RuntimeException e = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(RuntimeException.class, csvToBean::parse));
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testMaxRecordsInFlight(boolean ordered) {
+        final int maxInFlight = 4;
+        StringBuilder input = new StringBuilder("number\n");
+        for (int i = 0; i < 10000; i++) {
+            input.append(i).append('\n');
+        }
+        AtomicInteger filterCalls = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(input.toString()))
+                .withType(SingleNumber.class)
+                .withOrderedResults(ordered)
+                .withFilter(line -> {
+                    filterCalls.incrementAndGet();
+                    if (Integer.parseInt(line[0]) % 7 == 0) {
+                        rejected.incrementAndGet();
+                        return false;
+                    }
+                    return true;
+                })
+                .withMaxRecordsInFlight(maxInFlight)
+                .build();
+        int consumed = 0;
+        for (Iterator<SingleNumber> it = csvToBean.stream().iterator(); it.hasNext(); it.next()) {
+            consumed++;
+            assertTrue(filterCalls.get() <= consumed + rejected.get() + maxInFlight);
+        }
+        assertEquals(10000 - 1429, consumed);
+        assertEquals(10000, filterCalls.get());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"true, 0", "false, 0", "true, 4", "false, 4"})
+    public void testSplitAfterAdvancing(boolean ordered, int maxInFlight) {
+        StringBuilder input = new StringBuilder("number\n");
+        for (int i = 0; i < 1000; i++) {
+            input.append(i).append('\n');
+        }
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(input.toString()))
+                .withType(SingleNumber.class)
+                .withOrderedResults(ordered)
+                .withMaxRecordsInFlight(maxInFlight)
+                .withConcurrency(4)
+                .build();
+        List<Integer> numbers = new ArrayList<>();
+        try (Stream<SingleNumber> beans = csvToBean.stream()) {
+            Spliterator<SingleNumber> spliterator = beans.spliterator();
+            assertTrue(spliterator.tryAdvance(bean -> numbers.add(bean.getNumber())));
+
+            // Once the executor has started, whatever is ready is split off
+            Spliterator<SingleNumber> ready = spliterator.trySplit();
+            assertNotNull(ready);
+            assertTrue(ready.estimateSize() > 0);
+            assertTrue(spliterator.estimateSize() >= 0);
+            ready.forEachRemaining(bean -> numbers.add(bean.getNumber()));
+            spliterator.forEachRemaining(bean -> numbers.add(bean.getNumber()));
+            assertNull(spliterator.trySplit());
+            assertEquals(0, spliterator.estimateSize());
+        }
+        if (!ordered) {
+            Collections.sort(numbers);
+        }
+        assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toList()), numbers);
+    }
+
+    @Test
+    public void testOrderAcrossBatches() {
+        StringBuilder input = new StringBuilder("number\n");
+        for (int i = 0; i < 3000; i++) {
+            input.append(i % 11 == 0 ? "x" : Integer.toString(i)).append('\n');
+        }
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(input.toString()))
+                .withType(SingleNumber.class)
+                .withFilter(line -> !line[0].endsWith("5"))
+                .withThrowExceptions(false)
+                .withConcurrency(4)
+                .build();
+        List<SingleNumber> beans = csvToBean.parse();
+        int expected = 0;
+        for (SingleNumber bean : beans) {
+            while (expected % 11 == 0 || expected % 10 == 5) {
+                expected++;
+            }
+            assertEquals(expected++, bean.getNumber());
+        }
+        assertEquals(3000 - 273 - 273, beans.size());
+        List<CsvException> exceptions = csvToBean.getCapturedExceptions();
+        assertEquals(273, exceptions.size());
+        for (int i = 0; i < exceptions.size(); i++) {
+            assertEquals(i * 11L + 2, exceptions.get(i).getLineNumber());
+        }
+    }
+
+    @Test
+    public void testWaitingForUnorderedResultsUsesNoProcessor() {
+        Thread consumer = Thread.currentThread();
+        AtomicBoolean consumerWaited = new AtomicBoolean();
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader("number\n1\n2\n"))
+                .withType(SingleNumber.class)
+                .withOrderedResults(false)
+                .withFilter(line -> {
+                    // Hold the line back until the consumer sleeps waiting for it
+                    for (int i = 0; i < 1_000_000 && !consumerWaited.get(); i++) {
+                        Thread.State state = consumer.getState();
+                        if (state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING) {
+                            consumerWaited.set(true);
+                        }
+                        Thread.yield();
+                    }
+                    return true;
+                })
+                .build();
+        assertEquals(2, csvToBean.stream().count());
+        assertTrue(consumerWaited.get());
+    }
+
+    /**
+     * Produces a header and an endless sequence of numbers, and remembers
+     * the thread reading them.
+     */
+    private static class EndlessNumbers extends Reader {
+        private final AtomicLong linesRead = new AtomicLong();
+        private volatile Thread reader;
+        private String pending = "number\n";
+        private int position = 0;
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            reader = Thread.currentThread();
+            if (position == pending.length()) {
+                pending = linesRead.getAndIncrement() + "\n";
+                position = 0;
+            }
+            int n = Math.min(len, pending.length() - position);
+            pending.getChars(position, position + n, cbuf, off);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testClosingStreamStopsReading(boolean ordered) throws InterruptedException {
+        EndlessNumbers input = new EndlessNumbers();
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(input)
+                .withType(SingleNumber.class)
+                .withOrderedResults(ordered)
+                .build();
+        try (Stream<SingleNumber> beans = csvToBean.stream()) {
+            assertEquals(10, beans.limit(10).count());
+        }
+
+        // Reading stops for good once the thread reading the input is done
+        Thread reader = input.reader;
+        assertNotSame(Thread.currentThread(), reader);
+        reader.join(TimeUnit.MINUTES.toMillis(1));
+        assertFalse(reader.isAlive());
+        assertSame(reader, input.reader);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testTimeout(boolean ordered) {
+        StringBuilder input = new StringBuilder("number\n");
+        for (int i = 0; i < 1000; i++) {
+            input.append(i).append('\n');
+        }
+
+        // No line gets through until the test is over, so parsing can only end with the timeout
+        CountDownLatch testOver = new CountDownLatch(1);
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(input.toString()))
+                .withType(SingleNumber.class)
+                .withOrderedResults(ordered)
+                .withConcurrency(2)
+                .withFilter(line -> {
+                    try {
+                        testOver.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return true;
+                })
+                .withTimeout(Duration.ofMillis(200))
+                .build();
+        try {
+            RuntimeException e = assertThrows(RuntimeException.class, csvToBean::parse);
+            assertTrue(e.getCause() instanceof TimeoutException);
+        } finally {
+            testOver.countDown();
+        }
+    }
+
+    @Test
+    public void testParallelStream() {
+        StringBuilder input = new StringBuilder("number\n");
+        for (int i = 0; i < 20000; i++) {
+            input.append(i % 1000 == 0 ? "x" : Integer.toString(i)).append('\n');
+        }
+        Set<Thread> converters = ConcurrentHashMap.newKeySet();
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(input.toString()))
+                .withType(SingleNumber.class)
+                .withFilter(line -> converters.add(Thread.currentThread()) || true)
+                .withThrowExceptions(false)
+                .build();
+        List<Integer> numbers = csvToBean.stream().parallel()
+                .map(SingleNumber::getNumber)
+                .collect(Collectors.toList());
+        assertEquals(20000 - 20, numbers.size());
+        for (int i = 1; i < numbers.size(); i++) {
+            assertTrue(numbers.get(i - 1) < numbers.get(i));
+        }
+        for (Thread converter : converters) {
+            assertTrue(converter == Thread.currentThread() || converter instanceof ForkJoinWorkerThread);
+        }
+        List<CsvException> exceptions = csvToBean.getCapturedExceptions();
+        assertEquals(20, exceptions.size());
+        for (int i = 0; i < exceptions.size(); i++) {
+            assertEquals(i * 1000L + 2, exceptions.get(i).getLineNumber());
+        }
+    }
+
+    @Test
+    public void testSharedConversionExecutor() throws InterruptedException {
+        StringBuilder input = new StringBuilder("number\n");
+        for (int i = 0; i < 2000; i++) {
+            input.append(i).append('\n');
+        }
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Set<Thread> converters = ConcurrentHashMap.newKeySet();
+            for (int run = 0; run < 3; run++) {
+                List<SingleNumber> beans = new CsvToBeanBuilder<SingleNumber>(new StringReader(input.toString()))
+                        .withType(SingleNumber.class)
+                        .withFilter(line -> converters.add(Thread.currentThread()) || true)
+                        .withConversionExecutor(pool)
+                        .withConcurrency(2)
+                        .build()
+                        .parse();
+                assertEquals(2000, beans.size());
+                for (int i = 0; i < beans.size(); i++) {
+                    assertEquals(i, beans.get(i).getNumber());
+                }
+            }
+            assertTrue(converters.stream().allMatch(t -> t instanceof ForkJoinWorkerThread));
+            assertFalse(pool.isShutdown());
+
+            // Errors end the conversion run, but not the executor
+            CsvToBean<SingleNumber> failing = new CsvToBeanBuilder<SingleNumber>(new StringReader(BAD_NUMBERS))
+                    .withType(SingleNumber.class)
+                    .withVerifier(new PositiveEvensOnly())
+                    .withConversionExecutor(pool)
+                    .build();
+            RuntimeException e = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> assertThrows(RuntimeException.class, failing::parse));
+            assertTrue(e.getCause() instanceof CsvConstraintViolationException);
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
 }
@@ -131,6 +131,23 @@ public class HeaderColumnNameMappingStrategyTest {
       assertEquals("name", strat.getColumnName(0));
    }
    
+   @Test
+   public void testHeaderRecapturedBetweenLines() throws Exception {
+      strat.setType(MockBean.class);
+      strat.captureHeader(new CSVReader(new StringReader("name,orderNumber,num")));
+      MockBean bean = strat.populateNewBean(new String[]{"kyle", "abc123456", "123"});
+      assertEquals("kyle", bean.getName());
+      assertEquals("abc123456", bean.getOrderNumber());
+      assertEquals(123, bean.getNum());
+
+      // The columns read for the first line must not be reused
+      strat.captureHeader(new CSVReader(new StringReader("num,name")));
+      bean = strat.populateNewBean(new String[]{"456", "jimmy"});
+      assertEquals("jimmy", bean.getName());
+      assertNull(bean.getOrderNumber());
+      assertEquals(456, bean.getNum());
+   }
+
    @Test
    public void throwsIllegalStateExceptionIfTypeNotSetBeforeParse() {
       strat = new HeaderColumnNameMappingStrategy<>();
@@ -0,0 +1,218 @@
+package com.opencsv.bean;
+
+import com.opencsv.bean.function.AccessorInvoker;
+import com.opencsv.bean.function.AssignmentInvoker;
+import com.opencsv.bean.mocks.recurse.RecursionMockLevelZero;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.apache.commons.collections4.ListValuedMap;
+import org.apache.commons.collections4.MultiValuedMap;
+import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntrospectionCacheTest {
+
+    private static HeaderColumnNameMappingStrategy<RecursionMockLevelZero> strategy() {
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(RecursionMockLevelZero.class);
+        return strategy;
+    }
+
+    private static HeaderColumnNameMappingStrategy<RecursionMockLevelZero> strategyIgnoring(Field field) {
+        MultiValuedMap<Class<?>, Field> ignored = new ArrayListValuedHashMap<>();
+        ignored.put(RecursionMockLevelZero.class, field);
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.ignoreFields(ignored);
+        strategy.setType(RecursionMockLevelZero.class);
+        return strategy;
+    }
+
+    private static Map<String, AbstractBeanField<RecursionMockLevelZero, String>> beanFields(
+            HeaderColumnNameMappingStrategy<RecursionMockLevelZero> strategy) {
+        return strategy.getFieldMap().values().stream()
+                .map(f -> (AbstractBeanField<RecursionMockLevelZero, String>) f)
+                .collect(Collectors.toMap(f -> f.getField().getName(), Function.identity()));
+    }
+
+    @Test
+    public void testMetadataIsSharedBetweenStrategies() {
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> first = strategy();
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> second = strategy();
+        assertSame(first.recursiveTypeTree, second.recursiveTypeTree);
+
+        Map<String, AbstractBeanField<RecursionMockLevelZero, String>> firstFields = beanFields(first);
+        Map<String, AbstractBeanField<RecursionMockLevelZero, String>> secondFields = beanFields(second);
+        assertEquals(firstFields.keySet(), secondFields.keySet());
+        assertFalse(firstFields.isEmpty());
+        for (String name : firstFields.keySet()) {
+            // The bean fields themselves carry state and must not be shared
+            assertNotSame(firstFields.get(name), secondFields.get(name));
+            assertSame(firstFields.get(name).fieldAccess, secondFields.get(name).fieldAccess);
+        }
+    }
+
+    @Test
+    public void testSharedMetadataCannotBeChanged() {
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> first = strategy();
+        assertThrows(UnsupportedOperationException.class,
+                () -> first.recursiveTypeTree.addRecursiveMember(null, null));
+
+        // Each strategy gets partitioned fields of its own
+        Map<Boolean, ListValuedMap<Class<?>, Field>> partitioned = first.partitionFields();
+        partitioned.get(Boolean.TRUE).clear();
+        assertFalse(beanFields(strategy()).isEmpty());
+    }
+
+    @Test
+    public void testOverriddenIntrospectionIsNotCached() {
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> custom = new HeaderColumnNameMappingStrategy<RecursionMockLevelZero>() {
+            @Override
+            protected List<Field> filterIgnoredFields(Class<?> type, Field[] fields) {
+                return super.filterIgnoredFields(type, fields).stream()
+                        .filter(f -> !"intLevelZero".equals(f.getName()))
+                        .collect(Collectors.toList());
+            }
+        };
+        custom.setType(RecursionMockLevelZero.class);
+        assertNotSame(strategy().recursiveTypeTree, custom.recursiveTypeTree);
+        assertFalse(beanFields(custom).containsKey("intLevelZero"));
+        assertTrue(beanFields(strategy()).containsKey("intLevelZero"));
+    }
+
+    @Test
+    public void testKeyIncludesProfileAndIgnoredFields() throws NoSuchFieldException {
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> plain = strategy();
+
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> profiled = new HeaderColumnNameMappingStrategy<>();
+        profiled.setProfile("some profile");
+        profiled.setType(RecursionMockLevelZero.class);
+        assertNotSame(plain.recursiveTypeTree, profiled.recursiveTypeTree);
+
+        MultiValuedMap<Class<?>, Field> ignored = new ArrayListValuedHashMap<>();
+        ignored.put(RecursionMockLevelZero.class, RecursionMockLevelZero.class.getDeclaredField("intLevelZero"));
+        HeaderColumnNameMappingStrategy<RecursionMockLevelZero> ignoring = new HeaderColumnNameMappingStrategy<>();
+        ignoring.ignoreFields(ignored);
+        ignoring.setType(RecursionMockLevelZero.class);
+        assertNotSame(plain.recursiveTypeTree, ignoring.recursiveTypeTree);
+        assertTrue(beanFields(plain).containsKey("intLevelZero"));
+        assertFalse(beanFields(ignoring).containsKey("intLevelZero"));
+
+        // The key is a snapshot, so later changes to the map do not leak into the cache
+        ignored.clear();
+        assertSame(ignoring.recursiveTypeTree, strategyIgnoring(RecursionMockLevelZero.class
+                .getDeclaredField("intLevelZero")).recursiveTypeTree);
+    }
+
+    @Test
+    public void testFormatterCacheIsBounded() {
+        Object first = IntrospectionCache.getFormatter("first formatter", Object::new);
+        assertSame(first, IntrospectionCache.getFormatter("first formatter", Object::new));
+        for (int i = 0; i < IntrospectionCache.MAX_FORMATTERS; i++) {
+            IntrospectionCache.getFormatter(i, Object::new);
+        }
+        assertNotSame(first, IntrospectionCache.getFormatter("first formatter", Object::new));
+    }
+
+    @Test
+    public void testCachedFormattersRespectDefaultLocale() throws CsvDataTypeMismatchException {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // Patterns are localized, so the same pattern means different things here
+            Locale.setDefault(Locale.GERMANY);
+            ConverterNumber german = new ConverterNumber(Double.class, null, null, Locale.US,
+                    "0.0", "0.0", RoundingMode.HALF_EVEN);
+            assertEquals("0.2", german.convertToWrite(1.5));
+            assertEquals(15.0, german.convertToRead("1.5"));
+            Locale.setDefault(Locale.US);
+            ConverterNumber american = new ConverterNumber(Double.class, null, null, Locale.US,
+                    "0.0", "0.0", RoundingMode.HALF_EVEN);
+            assertEquals(1.5, american.convertToRead("1.5"));
+            assertEquals("1.5", american.convertToWrite(1.5));
+            assertEquals("0.2", german.convertToWrite(1.5));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    public static class MetadataBean {
+        @CsvBindByName
+        public String bound;
+        public String unbound;
+    }
+
+    /** As the annotation processor would generate it, except for the annotations. */
+    public static final class MetadataBean_OpencsvAccess extends NoAccess {
+        @Override
+        public FieldMetadata[] fields() {
+            return new FieldMetadata[]{
+                    new FieldMetadata(0, "unbound", CsvBindByName.class.getName()),
+                    new FieldMetadata(0, "bound")};
+        }
+    }
+
+    public static class StaleMetadataBean {
+        @CsvBindByName
+        public String bound;
+    }
+
+    /** Generated before the bean lost a field. */
+    public static final class StaleMetadataBean_OpencsvAccess extends NoAccess {
+        @Override
+        public FieldMetadata[] fields() {
+            return new FieldMetadata[]{
+                    new FieldMetadata(0, "bound", CsvBindByName.class.getName()),
+                    new FieldMetadata(0, "removed", CsvBindByName.class.getName())};
+        }
+    }
+
+    private static abstract class NoAccess implements GeneratedBeanAccess {
+        @Override
+        public Supplier<Object> constructor() {
+            return null;
+        }
+
+        @Override
+        public AccessorInvoker<Object, Object> accessor(String fieldName) {
+            return null;
+        }
+
+        @Override
+        public AssignmentInvoker<Object, Object> assignment(String fieldName) {
+            return null;
+        }
+    }
+
+    @Test
+    public void testFieldTableFromGeneratedMetadata() throws NoSuchFieldException {
+        IntrospectionCache.FieldTable table = IntrospectionCache.fieldTable(MetadataBean.class);
+        Field bound = MetadataBean.class.getField("bound");
+        Field unbound = MetadataBean.class.getField("unbound");
+
+        // The order and the annotations are those of the metadata
+        assertArrayEquals(new Field[]{unbound, bound}, table.getFields());
+        assertTrue(table.isAnnotationPresent(unbound, CsvBindByName.class));
+        assertFalse(table.isAnnotationPresent(bound, CsvBindByName.class));
+        assertArrayEquals(new Field[]{unbound}, table.getFieldsWithAnnotation(CsvBindByName.class));
+    }
+
+    @Test
+    public void testStaleMetadataFallsBackToReflection() throws NoSuchFieldException {
+        IntrospectionCache.FieldTable table = IntrospectionCache.fieldTable(StaleMetadataBean.class);
+        Field bound = StaleMetadataBean.class.getField("bound");
+        assertArrayEquals(new Field[]{bound}, Arrays.stream(table.getFields())
+                .filter(f -> !f.isSynthetic())
+                .toArray(Field[]::new));
+        assertTrue(table.isAnnotationPresent(bound, CsvBindByName.class));
+    }
+}
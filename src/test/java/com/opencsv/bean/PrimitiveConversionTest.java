@@ -0,0 +1,123 @@
+package com.opencsv.bean;
+
+import com.opencsv.bean.mocks.primitive.PrimitiveMock;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.apache.commons.beanutils.ConversionException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.Locale;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveConversionTest {
+
+    private static final String HEADER = "intField,longField,doubleField,capturedLong,localizedDouble\n";
+
+    private static List<PrimitiveMock> parse(String input) {
+        return new CsvToBeanBuilder<PrimitiveMock>(new StringReader(input))
+                .withType(PrimitiveMock.class)
+                .build().parse();
+    }
+
+    @Test
+    public void testPrimitivesAreConvertedAndAssigned() {
+        List<PrimitiveMock> beans = parse(HEADER + " 12 ,9000000000,1.0023E+13 ,id: 42,\"3,5\"\n");
+        assertEquals(1, beans.size());
+        PrimitiveMock bean = beans.get(0);
+        assertEquals(12, bean.getIntField());
+        assertEquals(9000000000L, bean.getLongField());
+        assertEquals(1.0023E+13, bean.getDoubleField());
+        assertEquals(42L, bean.getCapturedLong());
+        assertEquals(3.5, bean.getLocalizedDouble());
+        assertEquals(2, bean.getSetterCalls());
+    }
+
+    @Test
+    public void testBlankInputLeavesPrimitiveUntouched() {
+        List<PrimitiveMock> beans = parse(HEADER + ", ,,,\n");
+        PrimitiveMock bean = beans.get(0);
+        assertEquals(0, bean.getIntField());
+        assertEquals(0L, bean.getLongField());
+        assertEquals(0.0, bean.getDoubleField());
+        assertEquals(0, bean.getSetterCalls());
+    }
+
+    @Test
+    public void testUnparsablePrimitive() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> parse(HEADER + "1,notanumber,1.0,id: 1,1\n"));
+        assertInstanceOf(CsvDataTypeMismatchException.class, e.getCause());
+        CsvDataTypeMismatchException csve = (CsvDataTypeMismatchException) e.getCause();
+        assertEquals(Long.TYPE, csve.getDestinationClass());
+        assertEquals("notanumber", csve.getSourceObject());
+        assertInstanceOf(ConversionException.class, csve.getCause());
+        assertInstanceOf(NumberFormatException.class, csve.getCause().getCause());
+    }
+
+    @Test
+    public void testFieldAccessPrimitiveAssignment() throws Exception {
+        PrimitiveMock bean = new PrimitiveMock();
+        FieldAccess<Object> intAccess = new FieldAccess<>(PrimitiveMock.class.getDeclaredField("intField"));
+        FieldAccess<Object> longAccess = new FieldAccess<>(PrimitiveMock.class.getDeclaredField("longField"));
+        FieldAccess<Object> doubleAccess = new FieldAccess<>(PrimitiveMock.class.getDeclaredField("doubleField"));
+        assertTrue(intAccess.isPrimitiveAssignmentAvailable());
+        assertTrue(longAccess.isPrimitiveAssignmentAvailable());
+        assertTrue(doubleAccess.isPrimitiveAssignmentAvailable());
+        intAccess.setIntField(bean, 7);
+        longAccess.setLongField(bean, Long.MAX_VALUE);
+        doubleAccess.setDoubleField(bean, -0.5);
+        assertEquals(7, bean.getIntField());
+        assertEquals(Long.MAX_VALUE, bean.getLongField());
+        assertEquals(-0.5, bean.getDoubleField());
+        assertEquals(2, bean.getSetterCalls());
+
+        FieldAccess<Object> objectAccess = new FieldAccess<>(
+                com.opencsv.bean.mocks.MockBean.class.getDeclaredField("name"));
+        assertFalse(objectAccess.isPrimitiveAssignmentAvailable());
+    }
+
+    @Test
+    public void testOverriddenConversionIsNotBypassed() throws Exception {
+        BeanFieldSingleValue<PrimitiveMock, String> field = new BeanFieldSingleValue<PrimitiveMock, String>(
+                PrimitiveMock.class, PrimitiveMock.class.getDeclaredField("longField"), false, Locale.US,
+                new ConverterPrimitiveTypes(Long.TYPE, null, null, Locale.US), null, null) {
+            @Override
+            protected Object convert(String value) {
+                return 99L;
+            }
+        };
+        PrimitiveMock bean = new PrimitiveMock();
+        field.setFieldValue(bean, "1", "longField");
+        assertEquals(99L, bean.getLongField());
+    }
+
+    @Test
+    public void testOverriddenConverterIsNotBypassed() throws Exception {
+        BeanFieldSingleValue<PrimitiveMock, String> field = new BeanFieldSingleValue<>(
+                PrimitiveMock.class, PrimitiveMock.class.getDeclaredField("longField"), false, Locale.US,
+                new ConverterPrimitiveTypes(Long.TYPE, null, null, Locale.US) {
+                    @Override
+                    public Object convertToRead(String value) {
+                        return 99L;
+                    }
+                }, null, null);
+        PrimitiveMock bean = new PrimitiveMock();
+        field.setFieldValue(bean, "1", "longField");
+        assertEquals(99L, bean.getLongField());
+    }
+
+    @Test
+    public void testCachedConversionIsUsedForPrimitives() throws Exception {
+        BeanFieldSingleValue<PrimitiveMock, String> field = new BeanFieldSingleValue<>(
+                PrimitiveMock.class, PrimitiveMock.class.getDeclaredField("longField"), false, Locale.US,
+                new ConverterPrimitiveTypes(Long.TYPE, null, null, Locale.US), null, null);
+        ConversionCache cache = new ConversionCache(10);
+        field.setConversionCache(cache);
+        PrimitiveMock bean = new PrimitiveMock();
+        field.setFieldValue(bean, "5", "longField");
+        assertEquals(5L, bean.getLongField());
+        assertEquals(5L, cache.get("5"));
+    }
+}
@@ -33,6 +33,9 @@ import java.io.StringWriter;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -922,6 +925,32 @@ public class StatefulBeanToCsvTest {
         assertTrue(Pattern.matches(REVERSE_GOOD_DATA_1 + "\n", writer.toString()));
     }
 
+    @Test
+    public void changeOrderPositionBetweenWriters() throws IOException, CsvException {
+        ColumnPositionMappingStrategy<AnnotatedMockBeanFull> strat = new ColumnPositionMappingStrategy<>();
+        strat.setType(AnnotatedMockBeanFull.class);
+        ImmutablePair<AnnotatedMockBeanFull, AnnotatedMockBeanFull> beans = TestUtils.createTwoGoodBeans();
+        StringWriter writer = new StringWriter();
+        StatefulBeanToCsv<AnnotatedMockBeanFull> btcsv = new StatefulBeanToCsvBuilder<AnnotatedMockBeanFull>(writer)
+                .withQuotechar(ICSVWriter.NO_QUOTE_CHARACTER)
+                .withSeparator(';')
+                .withMappingStrategy(strat)
+                .build();
+        btcsv.write(beans.left);
+        assertTrue(Pattern.matches(GOOD_DATA_1 + "\n", writer.toString()));
+
+        // The columns written must follow the new order
+        strat.setColumnOrderOnWrite(Comparator.reverseOrder());
+        writer = new StringWriter();
+        btcsv = new StatefulBeanToCsvBuilder<AnnotatedMockBeanFull>(writer)
+                .withQuotechar(ICSVWriter.NO_QUOTE_CHARACTER)
+                .withSeparator(';')
+                .withMappingStrategy(strat)
+                .build();
+        btcsv.write(beans.left);
+        assertTrue(Pattern.matches(REVERSE_GOOD_DATA_1 + "\n", writer.toString()));
+    }
+
     @Test
     public void writeDifferentOrderPositionTypeLast() throws IOException, CsvException {
         ColumnPositionMappingStrategy<AnnotatedMockBeanFull> strat = new ColumnPositionMappingStrategy<>();
@@ -1075,4 +1104,105 @@ public class StatefulBeanToCsvTest {
             return c.compare(o1, o2);
         }
     }
+
+    @Test
+    public void writeWithSharedConversionExecutor() throws CsvException, InterruptedException {
+        List<SingleNumber> beans = new ArrayList<>();
+        StringBuilder expected = new StringBuilder("\"NUMBER\"\n");
+        for (int i = 0; i < 2000; i++) {
+            SingleNumber bean = new SingleNumber();
+            bean.setNumber(i);
+            beans.add(bean);
+            expected.append('"').append(i).append("\"\n");
+        }
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int run = 0; run < 3; run++) {
+                StringWriter writer = new StringWriter();
+                StatefulBeanToCsv<SingleNumber> btcsv = new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                        .withConversionExecutor(pool)
+                        .withConcurrency(3)
+                        .build();
+                btcsv.write(beans);
+                assertEquals(expected.toString(), writer.toString());
+            }
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void writeWhileConvertingInBoundedMemory() throws CsvException {
+        final int maxInFlight = 64;
+        final int count = 50000;
+        AtomicInteger linesWritten = new AtomicInteger();
+        StringWriter writer = new StringWriter() {
+            @Override
+            public void write(String str) {
+                super.write(str);
+                linesWritten.addAndGet((int) str.chars().filter(c -> c == '\n').count());
+            }
+
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                super.write(cbuf, off, len);
+                linesWritten.addAndGet((int) new String(cbuf, off, len).chars().filter(c -> c == '\n').count());
+            }
+        };
+        AtomicInteger taken = new AtomicInteger();
+        Iterator<SingleNumber> beans = new Iterator<SingleNumber>() {
+            @Override
+            public boolean hasNext() {
+                return taken.get() < count;
+            }
+
+            @Override
+            public SingleNumber next() {
+                // One line is the header
+                assertTrue(taken.get() - (linesWritten.get() - 1) <= 2 * maxInFlight + 1);
+                SingleNumber bean = new SingleNumber();
+                bean.setNumber(taken.getAndIncrement());
+                return bean;
+            }
+        };
+        StatefulBeanToCsv<SingleNumber> btcsv = new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                .withMaxRecordsInFlight(maxInFlight)
+                .build();
+        btcsv.write(beans);
+        String[] lines = writer.toString().split("\n");
+        assertEquals(count + 1, lines.length);
+        for (int i = 0; i < count; i++) {
+            assertEquals("\"" + i + "\"", lines[i + 1]);
+        }
+    }
+
+    @Test
+    public void writeWhileConvertingBadBean() throws IOException, CsvException {
+        ImmutablePair<AnnotatedMockBeanCustom, AnnotatedMockBeanCustom> beans = TestUtils.createTwoGoodCustomBeans();
+        StringWriter writer = new StringWriter();
+        StatefulBeanToCsv<AnnotatedMockBeanCustom> sbtcsv = new StatefulBeanToCsvBuilder<AnnotatedMockBeanCustom>(writer)
+                .withQuotechar(ICSVWriter.NO_QUOTE_CHARACTER)
+                .withThrowExceptions(true)
+                .withMaxRecordsInFlight(16)
+                .build();
+        List<AnnotatedMockBeanCustom> beanList = new ArrayList<>(Collections.nCopies(999, beans.right));
+        beans.left.setRequiredWithCustom(null); // required
+        beanList.add(500, beans.left);
+        assertThrows(CsvRequiredFieldEmptyException.class, () -> sbtcsv.write(beanList.iterator()));
+    }
+
+    @Test
+    public void writeSingleBadBeanCapturesNothing() throws IOException, CsvException {
+        ImmutablePair<AnnotatedMockBeanCustom, AnnotatedMockBeanCustom> beans = TestUtils.createTwoGoodCustomBeans();
+        StringWriter writer = new StringWriter();
+        StatefulBeanToCsv<AnnotatedMockBeanCustom> sbtcsv = new StatefulBeanToCsvBuilder<AnnotatedMockBeanCustom>(writer)
+                .withThrowExceptions(true)
+                .build();
+        beans.left.setRequiredWithCustom(null); // required
+        assertThrows(CsvRequiredFieldEmptyException.class, () -> sbtcsv.write(beans.left));
+        sbtcsv.write(beans.right);
+        assertTrue(sbtcsv.getCapturedExceptions().isEmpty());
+    }
 }
@@ -0,0 +1,242 @@
+package com.opencsv.bean.apt;
+
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.bean.GeneratedBeanAccess;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvBindingProcessorTest {
+
+    private static final String BEAN_SOURCE = String.join("\n",
+            "package generated.beans;",
+            "import com.opencsv.bean.CsvBindByName;",
+            "import com.opencsv.bean.CsvRecurse;",
+            "import java.util.Optional;",
+            "public class GeneratedBean {",
+            "    @CsvBindByName private String name;",
+            "    @CsvBindByName int count;",
+            "    @CsvBindByName private double amount;",
+            "    @CsvBindByName private String note;",
+            "    @CsvRecurse Inner inner;",
+            "    public int setterCalls;",
+            "    public String getName() { return name; }",
+            "    public void setName(String name) { this.name = name; setterCalls++; }",
+            "    public Optional<String> getNote() { return Optional.ofNullable(note); }",
+            "    public void setNote(Optional<String> note) { this.note = note.orElse(null); }",
+            "    public static class Inner {",
+            "        @CsvBindByName(column = \"innerValue\") public long value;",
+            "    }",
+            "    public static class ExtendedInner extends Inner {",
+            "        @CsvBindByName @Deprecated public static String extra;",
+            "        @SuppressWarnings(\"unused\") private int plain;",
+            "    }",
+            "    private static class Hidden {",
+            "        @CsvBindByName private String hidden;",
+            "    }",
+            "    public static class Extras {",
+            "        @com.opencsv.bean.CsvCustomBindByName(converter = com.opencsv.bean.customconverter.ConvertGermanToBoolean.class)",
+            "        public Boolean flag;",
+            "        @com.opencsv.bean.CsvBindAndSplitByNames({",
+            "            @com.opencsv.bean.CsvBindAndSplitByName(elementType = Integer.class, profiles = \"a\"),",
+            "            @com.opencsv.bean.CsvBindAndSplitByName(elementType = Integer.class, profiles = \"b\",",
+            "                    collectionType = java.util.LinkedList.class)})",
+            "        @com.opencsv.bean.validators.PreAssignmentValidator(",
+            "                validator = com.opencsv.bean.validators.MustMatchRegexExpression.class, paramString = \"^[0-9 ]*$\")",
+            "        @com.opencsv.bean.processor.PreAssignmentProcessor(",
+            "                processor = com.opencsv.bean.processor.ConvertEmptyOrBlankStringsToNull.class)",
+            "        public java.util.TreeSet<Integer> numbers;",
+            "    }",
+            "}");
+
+    @TempDir
+    static Path tempDir;
+
+    private static Path classes;
+    private static ClassLoader loader;
+
+    @BeforeAll
+    public static void compile() throws Exception {
+        classes = Files.createDirectories(tempDir.resolve("classes"));
+        compile("GeneratedBean", BEAN_SOURCE);
+        loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                CsvBindingProcessorTest.class.getClassLoader());
+    }
+
+    /**
+     * Compiles one class with the processor into {@link #classes}, with
+     * everything compiled before on the class path.
+     */
+    private static void compile(String className, String sourceCode) throws Exception {
+        Path sources = Files.createDirectories(tempDir.resolve("src/generated/beans"));
+        Path source = Files.write(sources.resolve(className + ".java"),
+                sourceCode.getBytes(StandardCharsets.UTF_8));
+        String opencsv = new File(GeneratedBeanAccess.class.getProtectionDomain()
+                .getCodeSource().getLocation().toURI()).getPath();
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        int result = compiler.run(null, diagnostics, diagnostics,
+                "-classpath", opencsv + File.pathSeparator + classes, "-processorpath", opencsv,
+                "-processor", CsvBindingProcessor.class.getName(),
+                "-s", classes.toString(), "-d", classes.toString(),
+                source.toString());
+        assertEquals(0, result, diagnostics.toString());
+    }
+
+    private static String nativeImageConfig(String className) throws IOException {
+        return new String(Files.readAllBytes(classes.resolve(String.join("/",
+                CsvBindingProcessor.DEFAULT_NATIVE_IMAGE_CONFIG, className,
+                CsvBindingProcessor.NATIVE_IMAGE_CONFIG_FILE))), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testGeneratedAccess() throws Exception {
+        Class<?> beanClass = loader.loadClass("generated.beans.GeneratedBean");
+        GeneratedBeanAccess access = (GeneratedBeanAccess) loader
+                .loadClass("generated.beans.GeneratedBean" + GeneratedBeanAccess.CLASS_NAME_SUFFIX)
+                .getConstructor().newInstance();
+
+        Object bean = access.constructor().get();
+        assertEquals(beanClass, bean.getClass());
+
+        // Setter
+        access.assignment("name").invoke(bean, "x");
+        assertEquals("x", access.accessor("name").invoke(bean));
+        assertEquals(1, FieldUtils.readField(bean, "setterCalls"));
+
+        // Direct access to a package-private field
+        access.assignment("count").invoke(bean, 3);
+        assertEquals(3, access.accessor("count").invoke(bean));
+
+        // Optional
+        access.assignment("note").invoke(bean, "n");
+        assertEquals("n", access.accessor("note").invoke(bean));
+
+        // Private without accessors is left to reflection
+        assertNull(access.accessor("amount"));
+        assertNull(access.assignment("amount"));
+        assertNull(access.accessor("doesNotExist"));
+
+        // Type errors look the same as with reflection
+        assertThrows(IllegalArgumentException.class, () -> access.assignment("count").invoke(bean, "3"));
+        assertThrows(IllegalArgumentException.class, () -> access.assignment("count").invoke(new Object(), 3));
+        assertThrows(IllegalArgumentException.class, () -> access.assignment("count").invoke(bean, null));
+
+        // Nested classes get their own code, private ones do not
+        loader.loadClass("generated.beans.GeneratedBean$Inner" + GeneratedBeanAccess.CLASS_NAME_SUFFIX);
+        assertThrows(ClassNotFoundException.class, () ->
+                loader.loadClass("generated.beans.GeneratedBean$Hidden" + GeneratedBeanAccess.CLASS_NAME_SUFFIX));
+    }
+
+    @Test
+    public void testGeneratedFieldMetadata() throws Exception {
+        GeneratedBeanAccess access = (GeneratedBeanAccess) loader
+                .loadClass("generated.beans.GeneratedBean$ExtendedInner" + GeneratedBeanAccess.CLASS_NAME_SUFFIX)
+                .getConstructor().newInstance();
+        GeneratedBeanAccess.FieldMetadata[] fields = access.fields();
+
+        // All fields, static or not, in the order of reflection, with the
+        // annotations retained at runtime
+        assertEquals(Arrays.asList("0 extra", "0 plain", "1 value"), Arrays.stream(fields)
+                .map(f -> f.getDepth() + " " + f.getName())
+                .collect(Collectors.toList()));
+        assertEquals(new HashSet<>(Arrays.asList(CsvBindByName.class.getName(), Deprecated.class.getName())),
+                fields[0].getAnnotations());
+        assertEquals(Collections.emptySet(), fields[1].getAnnotations());
+
+        // Repeated annotations are found in their container, as with reflection
+        access = (GeneratedBeanAccess) loader
+                .loadClass("generated.beans.GeneratedBean$Extras" + GeneratedBeanAccess.CLASS_NAME_SUFFIX)
+                .getConstructor().newInstance();
+        Class<?> extras = loader.loadClass("generated.beans.GeneratedBean$Extras");
+        for (GeneratedBeanAccess.FieldMetadata field : access.fields()) {
+            assertEquals(Arrays.stream(extras.getDeclaredField(field.getName()).getAnnotations())
+                            .map(a -> a.annotationType().getName())
+                            .collect(Collectors.toSet()),
+                    field.getAnnotations());
+        }
+    }
+
+    @Test
+    public void testReadingAndWritingWithGeneratedAccess() throws Exception {
+        Class<?> beanClass = loader.loadClass("generated.beans.GeneratedBean");
+        List<?> beans = new CsvToBeanBuilder<>(new StringReader(
+                "name,count,amount,note,innerValue\nx,3,1.5,n,7\n"))
+                .withType(beanClass).build().parse();
+        assertEquals(1, beans.size());
+        Object bean = beans.get(0);
+        assertEquals("x", FieldUtils.readField(bean, "name", true));
+        assertEquals(1, FieldUtils.readField(bean, "setterCalls"));
+        assertEquals(3, FieldUtils.readField(bean, "count", true));
+        assertEquals(1.5, FieldUtils.readField(bean, "amount", true));
+        assertEquals("n", FieldUtils.readField(bean, "note", true));
+        Object inner = FieldUtils.readField(bean, "inner", true);
+        assertEquals(7L, FieldUtils.readField(inner, "value"));
+
+        StringWriter writer = new StringWriter();
+        new StatefulBeanToCsvBuilder<Object>(writer).withApplyQuotesToAll(false).build()
+                .write(Collections.singletonList(bean));
+        assertEquals("AMOUNT,COUNT,INNERVALUE,NAME,NOTE\n1.5,3,7,x,n\n", writer.toString());
+    }
+
+    @Test
+    public void testNativeImageConfig() throws Exception {
+        String config = nativeImageConfig("generated.beans.GeneratedBean");
+        assertTrue(config.contains("\"name\": \"generated.beans.GeneratedBean\""));
+        assertTrue(config.contains("\"name\": \"generated.beans.GeneratedBean_OpencsvAccess\""));
+        assertFalse(config.contains("Inner"));
+        config = nativeImageConfig("generated.beans.GeneratedBean$Inner");
+        assertTrue(config.contains("\"name\": \"generated.beans.GeneratedBean$Inner\""));
+        assertTrue(config.contains("\"name\": \"generated.beans.GeneratedBean$Inner_OpencsvAccess\""));
+        config = nativeImageConfig("generated.beans.GeneratedBean$Hidden");
+        assertTrue(config.contains("\"name\": \"generated.beans.GeneratedBean$Hidden\""));
+        assertFalse(config.contains("_OpencsvAccess"));
+
+        // Classes named in annotations and collection types are instantiated reflectively
+        config = nativeImageConfig("generated.beans.GeneratedBean$Extras");
+        assertTrue(config.contains("\"name\": \"com.opencsv.bean.customconverter.ConvertGermanToBoolean\""));
+        assertTrue(config.contains("\"name\": \"com.opencsv.bean.validators.MustMatchRegexExpression\""));
+        assertTrue(config.contains("\"name\": \"com.opencsv.bean.processor.ConvertEmptyOrBlankStringsToNull\""));
+        assertTrue(config.contains("\"name\": \"java.util.LinkedList\""));
+        assertTrue(config.contains("\"name\": \"java.util.TreeSet\""));
+    }
+
+    @Test
+    public void testIncrementalCompilationKeepsOtherConfigs() throws Exception {
+        String config = nativeImageConfig("generated.beans.GeneratedBean");
+
+        // Only the new class is processed, as in an incremental build
+        compile("LaterBean", String.join("\n",
+                "package generated.beans;",
+                "public class LaterBean {",
+                "    @com.opencsv.bean.CsvBindByName public String later;",
+                "}"));
+        assertTrue(nativeImageConfig("generated.beans.LaterBean")
+                .contains("\"name\": \"generated.beans.LaterBean_OpencsvAccess\""));
+        assertEquals(config, nativeImageConfig("generated.beans.GeneratedBean"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.opencsv.bean.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReorderBufferTest {
+
+    @Test
+    public void testOutOfOrderCompletionWithSkipsAndGrowth() {
+        ReorderBuffer<Integer> buffer = new ReorderBuffer<>();
+        List<Long> sequences = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            sequences.add(buffer.reserve());
+        }
+        Collections.shuffle(sequences, new Random(42));
+        for (long s : sequences) {
+            buffer.complete(s, s % 3 == 0 ? null : (int) s);
+        }
+        assertEquals(666, buffer.size());
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 != 0) {
+                assertEquals(i, buffer.take().intValue());
+            }
+        }
+        assertEquals(0, buffer.size());
+        buffer.close();
+        assertNull(buffer.take());
+    }
+
+    @Test
+    public void testDrainStopsAtGap() {
+        ReorderBuffer<String> buffer = new ReorderBuffer<>();
+        for (int i = 0; i < 4; i++) {
+            buffer.reserve();
+        }
+        buffer.complete(0, "a");
+        buffer.complete(1, null);
+        buffer.complete(3, "d");
+        List<String> drained = new ArrayList<>();
+        buffer.drainTo(drained);
+        assertEquals(Collections.singletonList("a"), drained);
+        buffer.complete(2, "c");
+        buffer.drainTo(drained);
+        assertEquals(Arrays.asList("a", "c", "d"), drained);
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException, ExecutionException {
+        final int count = 100000;
+        ReorderBuffer<Integer> buffer = new ReorderBuffer<>();
+        ExecutorService pool = Executors.newFixedThreadPool(9);
+        try {
+            Future<?> consumer = pool.submit(() -> {
+                for (int i = 0; i < count; i++) {
+                    assertEquals(i, buffer.take().intValue());
+                }
+                return null;
+            });
+            for (int i = 0; i < count; i++) {
+                final long s = buffer.reserve();
+                pool.execute(() -> buffer.complete(s, (int) s));
+            }
+            consumer.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCloseReleasesWaitingConsumer() throws InterruptedException, ExecutionException {
+        ReorderBuffer<String> buffer = new ReorderBuffer<>();
+        buffer.reserve();
+        buffer.reserve();
+        buffer.complete(1, "b");
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> consumer = pool.submit(buffer::take);
+            Thread.sleep(50);
+            assertFalse(consumer.isDone());
+            buffer.close();
+            assertNull(consumer.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.opencsv.bean.mocks.cache;
+
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvCustomBindByName;
+import com.opencsv.bean.CsvDate;
+import com.opencsv.bean.customconverter.ConvertGermanToBoolean;
+import com.opencsv.bean.mocks.TestEnum;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * A bean with fields whose conversions can and cannot be cached.
+ */
+public class CacheMock {
+
+    @CsvBindByName
+    private TestEnum status;
+
+    @CsvBindByName
+    @CsvDate("yyyy-MM-dd")
+    private LocalDate localDate;
+
+    @CsvBindByName
+    @CsvDate("yyyy-MM-dd")
+    private Date date;
+
+    @CsvCustomBindByName(converter = ConvertGermanToBoolean.class)
+    private Boolean flag;
+
+    @CsvBindByName
+    private String text;
+
+    public TestEnum getStatus() {
+        return status;
+    }
+
+    public LocalDate getLocalDate() {
+        return localDate;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public Boolean getFlag() {
+        return flag;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
@@ -0,0 +1,60 @@
+package com.opencsv.bean.mocks.primitive;
+
+import com.opencsv.bean.CsvBindByName;
+
+/**
+ * A bean with primitive fields, some with setters and some without.
+ */
+public class PrimitiveMock {
+
+    @CsvBindByName
+    private int intField;
+
+    @CsvBindByName
+    private long longField;
+
+    @CsvBindByName
+    private double doubleField;
+
+    @CsvBindByName(capture = "id: ([0-9]+)")
+    private long capturedLong;
+
+    @CsvBindByName(locale = "de-DE")
+    private double localizedDouble;
+
+    private int setterCalls = 0;
+
+    public int getIntField() {
+        return intField;
+    }
+
+    public long getLongField() {
+        return longField;
+    }
+
+    public void setLongField(long longField) {
+        this.longField = longField;
+        setterCalls++;
+    }
+
+    public double getDoubleField() {
+        return doubleField;
+    }
+
+    public void setDoubleField(double doubleField) {
+        this.doubleField = doubleField;
+        setterCalls++;
+    }
+
+    public long getCapturedLong() {
+        return capturedLong;
+    }
+
+    public double getLocalizedDouble() {
+        return localizedDouble;
+    }
+
+    public int getSetterCalls() {
+        return setterCalls;
+    }
+}
@@ -0,0 +1,89 @@
+package com.opencsv.stream.writer;
+
+import com.opencsv.CSVWriterBuilder;
+import com.opencsv.ICSVWriter;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Utf8WriterTest {
+    private static final String MIXED = "plain ASCII, Umlaute äöü, € sign, emoji 😀 and more";
+
+    private static byte[] encodeWithOutputStreamWriter(String s) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            w.write(s);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeInPieces(String s, int bufferSize, int pieceSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer w = new Utf8Writer(out, bufferSize)) {
+            char[] chars = s.toCharArray();
+            for (int i = 0; i < chars.length; i += pieceSize) {
+                w.write(chars, i, Math.min(pieceSize, chars.length - i));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void encodesLikeOutputStreamWriter() throws IOException {
+        String s = StringUtils.repeat(MIXED, 100);
+        byte[] expected = s.getBytes(StandardCharsets.UTF_8);
+        for (int bufferSize : new int[]{4, 5, 7, 64, Utf8Writer.DEFAULT_BUFFER_SIZE}) {
+            for (int pieceSize : new int[]{1, 2, 3, 41, s.length()}) {
+                assertArrayEquals(expected, encodeInPieces(s, bufferSize, pieceSize),
+                        "Buffer size " + bufferSize + ", piece size " + pieceSize);
+            }
+        }
+    }
+
+    @Test
+    public void malformedSurrogatesAreReplaced() throws IOException {
+        for (String s : Arrays.asList("a\uD83Db", "a\uDE00b", "\uDE00\uD83D", "end\uD83D")) {
+            assertArrayEquals(encodeWithOutputStreamWriter(s), encodeInPieces(s, 8, 1), s);
+            assertArrayEquals(encodeWithOutputStreamWriter(s), encodeInPieces(s, 8, s.length()), s);
+        }
+    }
+
+    @Test
+    public void writesStringsAndSingleCharacters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Writer w = new Utf8Writer(out);
+        w.write(MIXED);
+        w.write('|');
+        w.write(MIXED, 6, 5);
+        w.flush();
+        assertEquals(MIXED + "|ASCII", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        w.close();
+        w.close();
+        assertThrows(IOException.class, () -> w.write('x'));
+    }
+
+    @Test
+    public void writesCsvToFileChannel() throws IOException {
+        File file = File.createTempFile("utf8writer", ".csv");
+        file.deleteOnExit();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             ICSVWriter csvWriter = new CSVWriterBuilder(new Utf8Writer(channel, 16)).build()) {
+            csvWriter.writeNext(new String[]{"ä", "b,c"});
+            csvWriter.writeNext(new String[]{"😀"});
+        }
+        assertEquals("\"ä\",\"b,c\"\n\"😀\"\n",
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+}